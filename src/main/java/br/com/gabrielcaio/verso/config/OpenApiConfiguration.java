@@ -15,6 +15,7 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class OpenApiConfiguration {
   private static final String SECURITY_SCHEME_NAME = "basicAuth";
+  private static final String BEARER_SCHEME_NAME = "bearerAuth";
 
   @Bean
   public OpenAPI customOpenApi() {
@@ -23,8 +24,15 @@ public class OpenApiConfiguration {
             new Components()
                 .addSecuritySchemes(
                     SECURITY_SCHEME_NAME,
-                    new SecurityScheme().type(SecurityScheme.Type.HTTP).scheme("basic")))
+                    new SecurityScheme().type(SecurityScheme.Type.HTTP).scheme("basic"))
+                .addSecuritySchemes(
+                    BEARER_SCHEME_NAME,
+                    new SecurityScheme()
+                        .type(SecurityScheme.Type.HTTP)
+                        .scheme("bearer")
+                        .bearerFormat("JWT")))
         .addSecurityItem(new SecurityRequirement().addList(SECURITY_SCHEME_NAME))
+        .addSecurityItem(new SecurityRequirement().addList(BEARER_SCHEME_NAME))
         .info(
             new Info()
                 .title("Application Verso")
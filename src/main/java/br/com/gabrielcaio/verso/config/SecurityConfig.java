@@ -1,8 +1,13 @@
 package br.com.gabrielcaio.verso.config;
 
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import br.com.gabrielcaio.verso.security.AuthenticationCache;
+import br.com.gabrielcaio.verso.security.CachingAuthenticationProvider;
+import br.com.gabrielcaio.verso.security.TokenAuthenticationFilter;
+import br.com.gabrielcaio.verso.security.TokenService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,20 +18,30 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, prePostEnabled = true, jsr250Enabled = true)
-@Profile("!test")
 public class SecurityConfig {
 
   @Bean
   public SecurityFilterChain securityFilterChain(
-      HttpSecurity http, UserDetailsService userDetailsService) throws Exception {
+      HttpSecurity http,
+      UserDetailsService userDetailsService,
+      PasswordEncoder passwordEncoder,
+      AuthenticationCache authenticationCache,
+      UserRepository userRepository,
+      TokenService tokenService)
+      throws Exception {
+    var daoProvider = new DaoAuthenticationProvider(userDetailsService);
+    daoProvider.setPasswordEncoder(passwordEncoder);
+
     return http.csrf(AbstractHttpConfigurer::disable)
         .authorizeHttpRequests(
             auth ->
-                auth.requestMatchers("/verso/users/register")
+                auth.requestMatchers(
+                        "/verso/users/register", "/verso/users/login", "/verso/users/refresh")
                     .permitAll()
                     .requestMatchers("/actuator/**")
                     .permitAll()
@@ -39,7 +54,11 @@ public class SecurityConfig {
                     .permitAll()
                     .anyRequest()
                     .authenticated())
-        .userDetailsService(userDetailsService)
+        .authenticationProvider(
+            new CachingAuthenticationProvider(
+                daoProvider, authenticationCache, userRepository::existsByUsernameAndEnabledTrue))
+        .addFilterBefore(
+            new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
         .httpBasic(Customizer.withDefaults())
         .build();
   }
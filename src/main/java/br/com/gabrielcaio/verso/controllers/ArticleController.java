@@ -2,8 +2,10 @@ package br.com.gabrielcaio.verso.controllers;
 
 import br.com.gabrielcaio.verso.controllers.error.ErrorMessage;
 import br.com.gabrielcaio.verso.dtos.ArticleResponseWithTitleAndStatusAndCategoryName;
+import br.com.gabrielcaio.verso.dtos.ArticleSummaryDTO;
 import br.com.gabrielcaio.verso.dtos.CreateArticleRequestDTO;
 import br.com.gabrielcaio.verso.dtos.CreateArticleResponseDTO;
+import br.com.gabrielcaio.verso.dtos.CursorPageDTO;
 import br.com.gabrielcaio.verso.dtos.UpdateArticleRequestDTO;
 import br.com.gabrielcaio.verso.services.ArticleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -31,7 +34,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/verso/articles")
@@ -79,12 +84,15 @@ public class ArticleController {
   @Operation(
       summary = "Buscar todos os artigos publicados com paginação",
       description =
-          "Retorna uma lista paginada de artigos com status PUBLICADO. Apenas artigos publicados são visíveis.")
+          "Retorna uma lista paginada de artigos com status PUBLICADO. Apenas artigos publicados são visíveis. Cada item traz um trecho do conteúdo; o texto completo vem em GET /verso/articles/{id}.")
   @ApiResponses({
     @ApiResponse(
         responseCode = "200",
         description = "Lista de artigos retornada com sucesso",
         content = @Content(schema = @Schema(implementation = Page.class))),
+    @ApiResponse(
+        responseCode = "304",
+        description = "Nenhum artigo mudou desde o ETag (If-None-Match) ou a data informada"),
     @ApiResponse(
         responseCode = "401",
         description = "Não autorizado",
@@ -118,14 +126,65 @@ public class ArticleController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping
-  public ResponseEntity<Page<ArticleResponseWithTitleAndStatusAndCategoryName>> findAllPublished(
-      @ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<ArticleSummaryDTO>> findAllPublished(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal,
+      WebRequest request) {
     log.info(
         "Buscando todos os artigos publicados. Página={}, Tamanho={}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = articleService.findAllArticlesPublicados(pageable);
-    return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
+    return ConditionalGet.respond(
+        request,
+        articleService.findPublishedListingVersion(),
+        ConditionalGet.SHARED,
+        () -> articleService.findAllArticlesPublicados(pageable, withTotal));
+  }
+
+  @Operation(
+      summary = "Feed de artigos publicados por cursor",
+      description =
+          "Retorna artigos PUBLICADOS do mais recente para o mais antigo, paginados por cursor. Não calcula total de elementos e o custo é o mesmo em qualquer profundidade. Envie o nextCursor da resposta anterior para obter a próxima página.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Página do feed retornada com sucesso",
+        content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+    @ApiResponse(
+        responseCode = "304",
+        description = "Nenhum artigo mudou desde o ETag (If-None-Match) ou a data informada"),
+    @ApiResponse(
+        responseCode = "401",
+        description = "Não autorizado",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class))),
+    @ApiResponse(
+        responseCode = "422",
+        description = "Cursor inválido",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class))),
+    @ApiResponse(
+        responseCode = "500",
+        description = "Erro interno do servidor",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class)))
+  })
+  @GetMapping("/feed")
+  public ResponseEntity<CursorPageDTO<ArticleSummaryDTO>> findPublishedFeed(
+      @Parameter(description = "Cursor recebido em nextCursor. Omita na primeira página")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Quantidade de itens por página. Padrão: 10", example = "10")
+          @RequestParam(defaultValue = "10")
+          int size,
+      WebRequest request) {
+    log.info("Buscando feed de artigos publicados. Cursor={}, Tamanho={}", cursor, size);
+    return ConditionalGet.respond(
+        request,
+        articleService.findPublishedListingVersion(),
+        ConditionalGet.SHARED,
+        () -> articleService.findPublishedFeed(cursor, size));
   }
 
   @Operation(
@@ -170,13 +229,18 @@ public class ArticleController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping("/drafts")
-  public ResponseEntity<Page<ArticleResponseWithTitleAndStatusAndCategoryName>> findAllDrafts(
-      @ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<ArticleSummaryDTO>> findAllDrafts(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando rascunhos do usuário autenticado. Página={}, Tamanho={}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = articleService.findAllArticlesRascunho(pageable);
+    var pageResponse = articleService.findAllArticlesRascunho(pageable, withTotal);
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -193,6 +257,10 @@ public class ArticleController {
                 schema =
                     @Schema(
                         implementation = ArticleResponseWithTitleAndStatusAndCategoryName.class))),
+    @ApiResponse(
+        responseCode = "304",
+        description =
+            "Artigo publicado não mudou desde o ETag (If-None-Match) ou a data informada"),
     @ApiResponse(
         responseCode = "401",
         description = "Não autorizado",
@@ -213,10 +281,16 @@ public class ArticleController {
   @GetMapping("/{id}")
   public ResponseEntity<ArticleResponseWithTitleAndStatusAndCategoryName> findById(
       @Parameter(description = "ID do artigo", example = "1", required = true) @PathVariable
-          Long id) {
+          Long id,
+      WebRequest request) {
     log.info("Buscando artigo por ID={}", id);
-    var response = articleService.findById(id);
-    return ResponseEntity.status(HttpStatus.OK).body(response);
+    var version = articleService.findPublishedVersion(id);
+    if (version.isEmpty()) {
+      var response = articleService.findById(id);
+      return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+    return ConditionalGet.respond(
+        request, version.get(), ConditionalGet.SHARED, () -> articleService.findById(id));
   }
 
   @Operation(
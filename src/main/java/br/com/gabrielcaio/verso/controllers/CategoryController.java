@@ -1,5 +1,6 @@
 package br.com.gabrielcaio.verso.controllers;
 
+import br.com.gabrielcaio.verso.dtos.CategoryDeletionJobDTO;
 import br.com.gabrielcaio.verso.dtos.CategoryResponseWithNameDTO;
 import br.com.gabrielcaio.verso.dtos.CreateCategoryRequestDTO;
 import br.com.gabrielcaio.verso.dtos.UpdateCategoryRequestDTO;
@@ -15,11 +16,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,7 +32,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/verso/categories")
@@ -49,6 +53,9 @@ public class CategoryController {
         responseCode = "200",
         description = "Lista de categorias retornada com sucesso",
         content = @Content(schema = @Schema(implementation = CategoryResponseWithNameDTO.class))),
+    @ApiResponse(
+        responseCode = "304",
+        description = "Nenhuma categoria mudou desde o ETag (If-None-Match) ou a data informada"),
     @ApiResponse(responseCode = "401", description = "Não autorizado"),
     @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
   })
@@ -76,15 +83,27 @@ public class CategoryController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping
-  public ResponseEntity<Page<CategoryResponseWithNameDTO>> findAll(
-      @ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<CategoryResponseWithNameDTO>> findAll(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal,
+      WebRequest request) {
     log.info(
         "Buscando todas as categorias. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = categoryService.findAll(pageable);
-    log.info("Total de categorias encontradas: {}", pageResponse.getTotalElements());
-    return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
+    return ConditionalGet.respond(
+        request,
+        categoryService.findListingVersion(),
+        ConditionalGet.SHARED,
+        () -> {
+          var pageResponse = categoryService.findAll(pageable, withTotal);
+          log.info("Categorias encontradas na página: {}", pageResponse.getNumberOfElements());
+          return pageResponse;
+        });
   }
 
   @Operation(
@@ -196,4 +215,65 @@ public class CategoryController {
     log.info("Categoria ID: {} deletado com sucesso", id);
     return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
   }
+
+  @Operation(
+      summary = "Deletar categoria em segundo plano",
+      description =
+          "Inicia a exclusão de uma categoria muito grande. Os artigos são movidos para a categoria 'Sem categoria' em lotes e a categoria é apagada ao final. Retorna o job, cujo progresso pode ser consultado. Se a categoria já está sendo excluída, retorna o job em andamento. Apenas usuários com perfil ADMIN podem excluir categorias.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "202",
+        description = "Exclusão iniciada",
+        content = @Content(schema = @Schema(implementation = CategoryDeletionJobDTO.class))),
+    @ApiResponse(responseCode = "401", description = "Não autorizado"),
+    @ApiResponse(
+        responseCode = "403",
+        description = "Acesso negado - apenas ADMIN pode excluir categorias"),
+    @ApiResponse(responseCode = "404", description = "Categoria não encontrada"),
+    @ApiResponse(
+        responseCode = "422",
+        description = "Erro de validação - categoria padrão não pode ser excluída"),
+    @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @PostMapping("/{id}/deletion-jobs")
+  public ResponseEntity<CategoryDeletionJobDTO> startDeletion(
+      @Parameter(description = "ID da categoria", example = "1", required = true) @PathVariable
+          Long id) {
+    log.info("Requisição para deletar categoria ID: {} em segundo plano", id);
+    var job = categoryService.startDeletion(id);
+    log.info("Job {} de exclusão da categoria ID: {} iniciado", job.getJobId(), id);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+  }
+
+  @Operation(
+      summary = "Consultar exclusão de categoria",
+      description =
+          "Retorna o progresso de um job de exclusão de categoria. Jobs concluídos ficam disponíveis por um tempo limitado.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Job encontrado",
+        content = @Content(schema = @Schema(implementation = CategoryDeletionJobDTO.class))),
+    @ApiResponse(responseCode = "401", description = "Não autorizado"),
+    @ApiResponse(
+        responseCode = "403",
+        description = "Acesso negado - apenas ADMIN pode consultar exclusões"),
+    @ApiResponse(responseCode = "404", description = "Job não encontrado"),
+    @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @PreAuthorize("hasAuthority('ADMIN')")
+  @GetMapping("/deletion-jobs/{jobId}")
+  public ResponseEntity<CategoryDeletionJobDTO> findDeletionJob(
+      @Parameter(description = "ID do job", required = true) @PathVariable UUID jobId) {
+    log.info("Consultando job de exclusão de categoria: {}", jobId);
+    var job = categoryService.findDeletionJob(jobId);
+    log.info(
+        "Job {}: {} de {} artigos movidos ({})",
+        jobId,
+        job.getMovedArticles(),
+        job.getTotalArticles(),
+        job.getStatus());
+    return ResponseEntity.status(HttpStatus.OK).body(job);
+  }
 }
@@ -1,5 +1,6 @@
 package br.com.gabrielcaio.verso.controllers;
 
+import br.com.gabrielcaio.verso.dtos.CommentRepliesResponseDTO;
 import br.com.gabrielcaio.verso.dtos.CommentResponseDTO;
 import br.com.gabrielcaio.verso.dtos.CreateCommentRequestDTO;
 import br.com.gabrielcaio.verso.dtos.ThreadedCommentDTO;
@@ -20,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -99,15 +102,21 @@ public class CommentController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping("/article/{articleId}/comments")
-  public ResponseEntity<Page<CommentResponseDTO>> listFlat(
-      @PathVariable Long articleId, @ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<CommentResponseDTO>> listFlat(
+      @PathVariable Long articleId,
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando comentarios do artigo: {}. Página: {}, Tamanho: {}",
         articleId,
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = commentService.listFlatByArticle(articleId, pageable);
-    log.info("Total de comentarios encontrados: {}", pageResponse.getTotalElements());
+    var pageResponse = commentService.listFlatByArticle(articleId, pageable, withTotal);
+    log.info("Comentarios encontrados na página: {}", pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -146,19 +155,55 @@ public class CommentController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping("/article/{id}/comments/threaded")
-  public ResponseEntity<Page<ThreadedCommentDTO>> listThreaded(
+  public ResponseEntity<Slice<ThreadedCommentDTO>> listThreaded(
       @Parameter(description = "ID do artigo", example = "1", required = true) @PathVariable
           Long id,
-      @ParameterObject Pageable pageable) {
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando rascunhos do usuário autenticado. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = commentService.listThreadedByArticle(id, pageable);
-    log.info("Total de comentarios encontrados threaded: {}", pageResponse.getTotalElements());
+    var pageResponse = commentService.listThreadedByArticle(id, pageable, withTotal);
+    log.info("Comentarios encontrados threaded na página: {}", pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
+  @Operation(
+      summary = "Listar respostas de um comentário",
+      description =
+          "Carrega a próxima página de respostas diretas de um comentário, com as respectivas"
+              + " sub-threads. Use o nextRepliesCursor do threaded como cursor")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Respostas retornadas com sucesso",
+        content = @Content(schema = @Schema(implementation = CommentRepliesResponseDTO.class))),
+    @ApiResponse(responseCode = "401", description = "Não autorizado"),
+    @ApiResponse(responseCode = "404", description = "Comentário não encontrado"),
+    @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @GetMapping("/comments/{commentId}/replies")
+  public ResponseEntity<CommentRepliesResponseDTO> listReplies(
+      @Parameter(description = "ID do comentario", example = "1", required = true) @PathVariable
+          Long commentId,
+      @Parameter(description = "Id da última resposta já carregada", example = "0")
+          @RequestParam(required = false)
+          Long cursor,
+      @Parameter(description = "Quantidade de respostas diretas. Padrão: 5", example = "5")
+          @RequestParam(defaultValue = "5")
+          int size) {
+    log.info(
+        "Buscando respostas do comentario {}. Cursor: {}, Tamanho: {}", commentId, cursor, size);
+    var response = commentService.listReplies(commentId, cursor, size);
+    log.info("Total de respostas retornadas: {}", response.getReplies().size());
+    return ResponseEntity.status(HttpStatus.OK).body(response);
+  }
+
   @Operation(
       summary = "Excluir comentário",
       description = "Autor do comentário ou autor do artigo podem remover")
@@ -0,0 +1,51 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import br.com.gabrielcaio.verso.services.versioning.ResourceVersion;
+import br.com.gabrielcaio.verso.services.versioning.Versioned;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * GET condicional: compara os validadores com {@code If-None-Match}/{@code If-Modified-Since} antes
+ * de montar o corpo, então um 304 não consulta nem serializa o conteúdo. As respostas saem com
+ * {@code no-cache}, que permite guardar mas obriga a revalidar a cada uso (e, com isso, passa de
+ * novo pela autenticação).
+ */
+final class ConditionalGet {
+
+  /** Conteúdo igual para todos os usuários, que a CDN pode guardar. */
+  static final CacheControl SHARED = CacheControl.noCache().cachePublic();
+
+  /** Conteúdo que depende do usuário autenticado. */
+  static final CacheControl PRIVATE = CacheControl.noCache().cachePrivate();
+
+  private ConditionalGet() {}
+
+  static <T> ResponseEntity<T> respond(
+      WebRequest request, ResourceVersion version, CacheControl cacheControl, Supplier<T> body) {
+    if (request.checkNotModified(version.eTag(), version.lastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+    }
+    return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+  }
+
+  /** Resposta completa com os validadores lidos junto com o corpo. */
+  static <T> ResponseEntity<T> ok(Versioned<T> versioned, CacheControl cacheControl) {
+    var version = versioned.version();
+    return ResponseEntity.ok()
+        .cacheControl(cacheControl)
+        .eTag(version.eTag())
+        .lastModified(version.lastModified())
+        .body(versioned.body());
+  }
+
+  /** Se o cliente mandou algum validador; sem eles não há 304 possível. */
+  static boolean isConditional(WebRequest request) {
+    return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+        || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+  }
+}
@@ -9,10 +9,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -92,15 +96,20 @@ public class FavoriteController {
     @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
   })
   @GetMapping
-  public ResponseEntity<Page<FavoriteResponseDTO>> findAllFavorites(
+  public ResponseEntity<Slice<FavoriteResponseDTO>> findAllFavorites(
       @PageableDefault(page = 0, size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-          Pageable pageable) {
+          Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando artigos favoritados do usuário autenticado. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = favoriteService.findAllFavorites(pageable);
-    log.info("Total de artigos favoritados encontrados: {}", pageResponse.getTotalElements());
+    var pageResponse = favoriteService.findAllFavorites(pageable, withTotal);
+    log.info("Artigos favoritados encontrados na página: {}", pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.FOUND).body(pageResponse);
   }
 
@@ -121,4 +130,24 @@ public class FavoriteController {
     log.info("Artigo ID {} está nos favoritos: {}", articleId, isFavorite);
     return ResponseEntity.status(HttpStatus.OK).body(isFavorite);
   }
+
+  @Operation(
+      summary = "Verificar em lote quais artigos estão nos favoritos",
+      description =
+          "Informa, para cada ID de artigo recebido, se ele está nos favoritos do usuário autenticado. Aceita até 100 IDs por chamada.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Status de favorito de cada ID"),
+    @ApiResponse(responseCode = "401", description = "Não autorizado"),
+    @ApiResponse(responseCode = "422", description = "Mais de 100 IDs na chamada"),
+    @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @GetMapping("/check")
+  public ResponseEntity<Map<Long, Boolean>> checkFavoritesBatch(
+      @Parameter(description = "IDs dos artigos, separados por vírgula", example = "1,2,3")
+          @RequestParam
+          List<Long> ids) {
+    log.info("Verificando em lote quais de {} artigos estão nos favoritos", ids.size());
+    var result = favoriteService.checkFavorites(ids);
+    return ResponseEntity.status(HttpStatus.OK).body(result);
+  }
 }
@@ -13,11 +13,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -124,15 +128,21 @@ public class FollowController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping("/following")
-  public ResponseEntity<Page<UserProfileDTO>> getFollowing(@ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<UserProfileDTO>> getFollowing(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando lista de quem o usuário autenticado segue. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = followService.getFollowing(pageable);
+    var pageResponse = followService.getFollowing(pageable, withTotal);
     log.info(
-        "Lista de usuários seguidos retornada com sucesso. Total de elementos: {}",
-        pageResponse.getTotalElements());
+        "Lista de usuários seguidos retornada com sucesso. Itens na página: {}",
+        pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -171,15 +181,21 @@ public class FollowController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping("/followers")
-  public ResponseEntity<Page<UserProfileDTO>> getFollowers(@ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<UserProfileDTO>> getFollowers(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando lista de seguidores do usuário autenticado. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = followService.getFollowers(pageable);
+    var pageResponse = followService.getFollowers(pageable, withTotal);
     log.info(
-        "Lista de seguidores retornada com sucesso. Total de elementos: {}",
-        pageResponse.getTotalElements());
+        "Lista de seguidores retornada com sucesso. Itens na página: {}",
+        pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -224,4 +240,24 @@ public class FollowController {
     log.info("Status de seguimento para o usuário com ID: {} é {}", userId, isFollowing);
     return ResponseEntity.status(HttpStatus.OK).body(isFollowing);
   }
+
+  @Operation(
+      summary = "Verificar em lote quem você segue",
+      description =
+          "Informa, para cada ID de usuário recebido, se o usuário autenticado o segue. Aceita até 100 IDs por chamada; IDs inexistentes respondem false.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Status de seguimento de cada ID"),
+    @ApiResponse(responseCode = "401", description = "Não autorizado"),
+    @ApiResponse(responseCode = "422", description = "Mais de 100 IDs na chamada"),
+    @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @GetMapping("/check")
+  public ResponseEntity<Map<Long, Boolean>> checkFollowingBatch(
+      @Parameter(description = "IDs dos usuários, separados por vírgula", example = "1,2,3")
+          @RequestParam
+          List<Long> ids) {
+    log.info("Verificando em lote quais de {} usuários o usuário autenticado segue", ids.size());
+    var result = followService.checkFollowing(ids);
+    return ResponseEntity.status(HttpStatus.OK).body(result);
+  }
 }
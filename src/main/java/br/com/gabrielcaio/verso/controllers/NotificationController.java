@@ -17,12 +17,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -70,14 +72,19 @@ public class NotificationController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping
-  public ResponseEntity<Page<NotificationResponseDTO>> getAllNotifications(
-      @ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<NotificationResponseDTO>> getAllNotifications(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando notificações do usuário autenticado. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = notificationService.getAllNotifications(pageable);
-    log.info("Total de notificações encontradas: {}", pageResponse.getTotalElements());
+    var pageResponse = notificationService.getAllNotifications(pageable, withTotal);
+    log.info("Notificações encontradas na página: {}", pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -116,14 +123,20 @@ public class NotificationController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping("/unread")
-  public ResponseEntity<Page<NotificationResponseDTO>> getUnreadNotifications(
-      @ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<NotificationResponseDTO>> getUnreadNotifications(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando notificações não lidas do usuário autenticado. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = notificationService.getUnreadNotifications(pageable);
-    log.info("Total de notificações não lidas encontradas: {}", pageResponse.getTotalElements());
+    var pageResponse = notificationService.getUnreadNotifications(pageable, withTotal);
+    log.info(
+        "Notificações não lidas encontradas na página: {}", pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -21,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,7 +30,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/verso/reactions")
@@ -126,20 +129,25 @@ public class ReactionController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping("/articles/{articleId}")
-  public ResponseEntity<Page<ReactionResponseDTO>> findAllReactionsByArticle(
+  public ResponseEntity<Slice<ReactionResponseDTO>> findAllReactionsByArticle(
       @Parameter(description = "ID do artigo", example = "1", required = true) @PathVariable
           Long articleId,
-      @ParameterObject Pageable pageable) {
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando reações para o artigo ID: {}. Página: {}, Tamanho: {}",
         articleId,
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = reactionService.findAllReactionsByArticle(articleId, pageable);
+    var pageResponse = reactionService.findAllReactionsByArticle(articleId, pageable, withTotal);
     log.info(
-        "Total de reações encontradas para o artigo ID {}: {}",
+        "Reações encontradas para o artigo ID {} na página: {}",
         articleId,
-        pageResponse.getTotalElements());
+        pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -179,16 +187,21 @@ public class ReactionController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping("/my-reactions")
-  public ResponseEntity<Page<ReactionResponseDTO>> findAllReactionsByUser(
-      @ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<ReactionResponseDTO>> findAllReactionsByUser(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando reações do usuário autenticado. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = reactionService.findAllReactionsByUser(pageable);
+    var pageResponse = reactionService.findAllReactionsByUser(pageable, withTotal);
     log.info(
-        "Total de reações encontradas para o usuário autenticado: {}",
-        pageResponse.getTotalElements());
+        "Reações encontradas para o usuário autenticado na página: {}",
+        pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -201,6 +214,9 @@ public class ReactionController {
         responseCode = "200",
         description = "Estatísticas retornadas com sucesso",
         content = @Content(schema = @Schema(implementation = ArticleReactionStatsDTO.class))),
+    @ApiResponse(
+        responseCode = "304",
+        description = "Nenhuma reação no artigo desde o ETag (If-None-Match) ou a data informada"),
     @ApiResponse(responseCode = "401", description = "Não autorizado"),
     @ApiResponse(responseCode = "404", description = "Artigo não encontrado"),
     @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
@@ -208,11 +224,23 @@ public class ReactionController {
   @GetMapping("/articles/{articleId}/stats")
   public ResponseEntity<ArticleReactionStatsDTO> getArticleReactionStats(
       @Parameter(description = "ID do artigo", example = "1", required = true) @PathVariable
-          Long articleId) {
+          Long articleId,
+      WebRequest request) {
     log.info("Buscando estatísticas de reações para o artigo ID: {}", articleId);
+    // Sem validadores do cliente, os do corpo saem da própria consulta das estatísticas.
+    if (ConditionalGet.isConditional(request)) {
+      var version = reactionService.findArticleReactionStatsVersion(articleId);
+      if (version.isPresent()) {
+        return ConditionalGet.respond(
+            request,
+            version.get(),
+            ConditionalGet.PRIVATE,
+            () -> reactionService.getArticleReactionStats(articleId).body());
+      }
+    }
     var stats = reactionService.getArticleReactionStats(articleId);
     log.info("Estatísticas de reações obtidas com sucesso para o artigo ID: {}", articleId);
-    return ResponseEntity.status(HttpStatus.OK).body(stats);
+    return ConditionalGet.ok(stats, ConditionalGet.PRIVATE);
   }
 
   @Operation(
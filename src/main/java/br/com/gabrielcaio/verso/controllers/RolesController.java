@@ -18,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -73,13 +75,20 @@ public class RolesController {
         schema = @Schema(type = "string", defaultValue = "createdAt,DESC"))
   })
   @GetMapping
-  public ResponseEntity<Page<RolesWithIdAndName>> getAll(@ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<RolesWithIdAndName>> getAll(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando todos as roles. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = rolesService.findAllRolesWithIdAndName(pageable);
-    log.info("Roles recuperadas com sucesso. Total de roles: {}", pageResponse.getTotalElements());
+    var pageResponse = rolesService.findAllRolesWithIdAndName(pageable, withTotal);
+    log.info(
+        "Roles recuperadas com sucesso. Roles na página: {}", pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 
@@ -0,0 +1,98 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import br.com.gabrielcaio.verso.controllers.error.ErrorMessage;
+import br.com.gabrielcaio.verso.dtos.ArticleSummaryDTO;
+import br.com.gabrielcaio.verso.dtos.CursorPageDTO;
+import br.com.gabrielcaio.verso.services.TimelineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/verso/timeline")
+@RequiredArgsConstructor
+@Tag(name = "Timeline", description = "Artigos publicados por quem o usuário segue")
+@Slf4j
+public class TimelineController {
+
+  private final TimelineService timelineService;
+
+  @Operation(
+      summary = "Timeline do usuário autenticado por cursor",
+      description =
+          "Retorna os artigos PUBLICADOS dos usuários seguidos, do mais recente para o mais antigo, paginados por cursor. Guarda até as 500 publicações mais recentes. Envie o nextCursor da resposta anterior para obter a próxima página.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Página da timeline retornada com sucesso",
+        content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+    @ApiResponse(
+        responseCode = "401",
+        description = "Não autorizado",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class))),
+    @ApiResponse(
+        responseCode = "422",
+        description = "Cursor inválido",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class))),
+    @ApiResponse(
+        responseCode = "500",
+        description = "Erro interno do servidor",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class)))
+  })
+  @GetMapping
+  public ResponseEntity<CursorPageDTO<ArticleSummaryDTO>> findHomeTimeline(
+      @Parameter(description = "Cursor recebido em nextCursor. Omita na primeira página")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Quantidade de itens por página. Padrão: 10", example = "10")
+          @RequestParam(defaultValue = "10")
+          int size) {
+    log.info("Buscando timeline do usuário. Cursor={}, Tamanho={}", cursor, size);
+    return ResponseEntity.ok(timelineService.findHomeTimeline(cursor, size));
+  }
+
+  @Operation(
+      summary = "Feed dos usuários seguidos montado na leitura",
+      description =
+          "Retorna os artigos PUBLICADOS de todos os usuários seguidos, do mais recente para o mais antigo, paginados por cursor. Lê os artigos de cada autor direto do índice e os intercala até encher a página, sem limite de histórico. Indicado para quem segue muitos autores.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Página do feed retornada com sucesso",
+        content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+    @ApiResponse(
+        responseCode = "401",
+        description = "Não autorizado",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class))),
+    @ApiResponse(
+        responseCode = "422",
+        description = "Cursor inválido",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class))),
+    @ApiResponse(
+        responseCode = "500",
+        description = "Erro interno do servidor",
+        content = @Content(schema = @Schema(implementation = ErrorMessage.class)))
+  })
+  @GetMapping("/following")
+  public ResponseEntity<CursorPageDTO<ArticleSummaryDTO>> findFollowingFeed(
+      @Parameter(description = "Cursor recebido em nextCursor. Omita na primeira página")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Quantidade de itens por página. Padrão: 10", example = "10")
+          @RequestParam(defaultValue = "10")
+          int size) {
+    log.info("Montando feed dos usuários seguidos. Cursor={}, Tamanho={}", cursor, size);
+    return ResponseEntity.ok(timelineService.findFollowingFeed(cursor, size));
+  }
+}
@@ -1,6 +1,10 @@
 package br.com.gabrielcaio.verso.controllers;
 
+import br.com.gabrielcaio.verso.dtos.LoginRequestDTO;
+import br.com.gabrielcaio.verso.dtos.RefreshTokenRequestDTO;
+import br.com.gabrielcaio.verso.dtos.TokenResponseDTO;
 import br.com.gabrielcaio.verso.dtos.UserDTO;
+import br.com.gabrielcaio.verso.services.AuthService;
 import br.com.gabrielcaio.verso.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,8 +21,8 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -26,6 +30,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -36,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
   private final UserService userService;
+  private final AuthService authService;
 
   @Operation(
       summary = "Registro de novo usuário",
@@ -54,6 +60,46 @@ public class UserController {
     return ResponseEntity.status(HttpStatus.CREATED).build();
   }
 
+  @Operation(
+      summary = "Login com emissão de tokens",
+      description =
+          "Valida usuário e senha e retorna um access token de curta duração e um refresh token. Use o access token no header Authorization: Bearer.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Login realizado com sucesso",
+        content = @Content(schema = @Schema(implementation = TokenResponseDTO.class))),
+    @ApiResponse(responseCode = "401", description = "Usuário ou senha inválidos"),
+    @ApiResponse(responseCode = "422", description = "Erro de validação"),
+    @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @PostMapping("/login")
+  public ResponseEntity<TokenResponseDTO> login(@Valid @RequestBody LoginRequestDTO dto) {
+    log.info("Login solicitado para username: {}", dto.getUsername());
+    var response = authService.login(dto);
+    return ResponseEntity.status(HttpStatus.OK).body(response);
+  }
+
+  @Operation(
+      summary = "Renovar tokens",
+      description =
+          "Troca um refresh token válido por um novo par de tokens, recarregando as roles atuais do usuário.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Tokens renovados com sucesso",
+        content = @Content(schema = @Schema(implementation = TokenResponseDTO.class))),
+    @ApiResponse(responseCode = "401", description = "Refresh token inválido ou expirado"),
+    @ApiResponse(responseCode = "422", description = "Erro de validação"),
+    @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @PostMapping("/refresh")
+  public ResponseEntity<TokenResponseDTO> refresh(@Valid @RequestBody RefreshTokenRequestDTO dto) {
+    log.info("Renovação de tokens solicitada");
+    var response = authService.refresh(dto);
+    return ResponseEntity.status(HttpStatus.OK).body(response);
+  }
+
   @Operation(
       summary = "Buscar todos os usuários",
       description =
@@ -94,13 +140,19 @@ public class UserController {
   })
   @GetMapping
   @PreAuthorize("hasRole('ADMIN')")
-  public ResponseEntity<Page<String>> findAll(@ParameterObject Pageable pageable) {
+  public ResponseEntity<Slice<String>> findAll(
+      @ParameterObject Pageable pageable,
+      @Parameter(
+              description =
+                  "Se false, a resposta não traz o total e nenhum COUNT é executado; use o campo last para saber se há próxima página. Padrão: true")
+          @RequestParam(defaultValue = "true")
+          boolean withTotal) {
     log.info(
         "Buscando todos os usuários. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
-    var pageResponse = userService.findAll(pageable);
-    log.info("Total de usuários encontrados: {}", pageResponse.getTotalElements());
+    var pageResponse = userService.findAll(pageable, withTotal);
+    log.info("Usuários encontrados na página: {}", pageResponse.getNumberOfElements());
     return ResponseEntity.status(HttpStatus.OK).body(pageResponse);
   }
 }
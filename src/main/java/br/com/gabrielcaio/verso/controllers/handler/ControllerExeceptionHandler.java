@@ -11,6 +11,7 @@ import java.time.Instant;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -70,6 +71,15 @@ public class ControllerExeceptionHandler {
     return ResponseEntity.status(status).body(err);
   }
 
+  @ExceptionHandler(AuthenticationException.class)
+  public ResponseEntity<ErrorMessage> handleAuthenticationException(
+      AuthenticationException e, HttpServletRequest request) {
+    HttpStatus status = HttpStatus.UNAUTHORIZED;
+    ErrorMessage err =
+        new ErrorMessage(Instant.now(), status.value(), e.getMessage(), request.getRequestURI());
+    return ResponseEntity.status(status).body(err);
+  }
+
   @ExceptionHandler(BusinessException.class)
   public ResponseEntity<ErrorMessage> handleBusinessException(
       BusinessException e, HttpServletRequest request) {
@@ -10,8 +10,10 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -23,7 +25,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "tb_articles")
+@Table(
+    name = "tb_articles",
+    indexes = {
+      @Index(
+          name = "idx_article_status_created_id",
+          columnList = "status, created_at DESC, article_id DESC")
+    })
 @Getter
 @Setter
 @AllArgsConstructor
@@ -32,7 +40,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Article {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+  @SequenceGenerator(name = "article_seq", sequenceName = "tb_articles_seq", allocationSize = 50)
   @Column(name = "article_id")
   private Long id;
 
@@ -0,0 +1,77 @@
+package br.com.gabrielcaio.verso.domain.entity;
+
+import br.com.gabrielcaio.verso.domain.enums.ReactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Contagem de reações por tipo de um artigo, gravada em lote pelo {@code ArticleCounterBuffer} com
+ * as reações criadas, trocadas ou removidas desde o último flush. A linha só existe depois do
+ * primeiro flush com reações do artigo.
+ */
+@Entity
+@Table(name = "tb_article_reaction_counts")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArticleReactionCounts {
+
+  @Id
+  @Column(name = "article_id")
+  private Long articleId;
+
+  @OneToOne(fetch = FetchType.LAZY, optional = false)
+  @MapsId
+  @JoinColumn(name = "article_id", foreignKey = @ForeignKey(name = "fk_reaction_counts_article"))
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private Article article;
+
+  @Column(name = "like_count", nullable = false)
+  private long likeCount;
+
+  @Column(name = "love_count", nullable = false)
+  private long loveCount;
+
+  @Column(name = "laugh_count", nullable = false)
+  private long laughCount;
+
+  @Column(name = "wow_count", nullable = false)
+  private long wowCount;
+
+  @Column(name = "sad_count", nullable = false)
+  private long sadCount;
+
+  @Column(name = "angry_count", nullable = false)
+  private long angryCount;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  public long countOf(ReactionType type) {
+    return switch (type) {
+      case LIKE -> likeCount;
+      case LOVE -> loveCount;
+      case LAUGH -> laughCount;
+      case WOW -> wowCount;
+      case SAD -> sadCount;
+      case ANGRY -> angryCount;
+    };
+  }
+}
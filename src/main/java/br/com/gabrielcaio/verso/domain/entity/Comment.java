@@ -8,11 +8,12 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -26,7 +27,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "tb_comments")
+@Table(
+    name = "tb_comments",
+    indexes = {
+      @Index(name = "idx_comment_article_path", columnList = "article_id, path"),
+      @Index(name = "idx_comment_parent_id", columnList = "parent_id, comment_id")
+    })
 @Getter
 @Setter
 @AllArgsConstructor
@@ -34,12 +40,15 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Builder
 public class Comment {
 
+  /** Maior profundidade cujo caminho ainda cabe na coluna {@code path}: 100 segmentos de 20. */
+  public static final int MAX_DEPTH = 2000 / 20 - 1;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+  @SequenceGenerator(name = "comment_seq", sequenceName = "tb_comments_seq", allocationSize = 50)
   @Column(name = "comment_id")
   private Long id;
 
-  @Lob
   @Column(nullable = false, columnDefinition = "TEXT")
   private String content;
 
@@ -61,6 +70,19 @@ public class Comment {
   @JoinColumn(name = "parent_id", foreignKey = @ForeignKey(name = "fk_comment_parent"))
   private Comment parent;
 
+  /**
+   * Caminho materializado: ids dos ancestores e do próprio comentário, cada um com 19 dígitos e
+   * terminado em "/". A ordem lexicográfica do caminho é a ordem da thread em profundidade, e uma
+   * subárvore é o intervalo {@code [path, path sem a última "/" + "0")}. Collation "C" para que o
+   * índice sirva a comparações de intervalo.
+   */
+  @Column(name = "path", length = 2000, columnDefinition = "VARCHAR(2000) COLLATE \"C\"")
+  private String path;
+
+  @Column(name = "depth", nullable = false)
+  @Builder.Default
+  private int depth = 0;
+
   @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
   @OrderBy("createdAt ASC")
   @Builder.Default
@@ -73,4 +95,21 @@ public class Comment {
   @UpdateTimestamp
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
+
+  /** Preenche caminho e profundidade. Só pode ser chamado depois do insert, quando o id existe. */
+  public void assignPath() {
+    var segment = pathSegment(id);
+    this.path = parent == null ? segment : parent.getPath() + segment;
+    this.depth = parent == null ? 0 : parent.getDepth() + 1;
+  }
+
+  /** Segmento de caminho de um comentário: id com zeros à esquerda, para ordenar como número. */
+  public static String pathSegment(Long commentId) {
+    return String.format("%019d/", commentId);
+  }
+
+  /** Limite superior exclusivo da subárvore de um caminho. */
+  public static String subtreeUpperBound(String path) {
+    return path.substring(0, path.length() - 1) + "0";
+  }
 }
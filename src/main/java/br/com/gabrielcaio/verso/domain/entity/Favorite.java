@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -35,7 +36,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class Favorite {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "favorite_seq")
+  @SequenceGenerator(name = "favorite_seq", sequenceName = "tb_favorites_seq", allocationSize = 50)
   @Column(name = "favorite_id")
   private Long id;
 
@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -35,7 +36,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class Follow {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "follow_seq")
+  @SequenceGenerator(name = "follow_seq", sequenceName = "tb_follows_seq", allocationSize = 50)
   @Column(name = "follow_id")
   private Long id;
 
@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -28,7 +29,11 @@ import org.hibernate.annotations.CreationTimestamp;
 public class Notification {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+  @SequenceGenerator(
+      name = "notification_seq",
+      sequenceName = "tb_notifications_seq",
+      allocationSize = 50)
   @Column(name = "notification_id")
   private Long id;
 
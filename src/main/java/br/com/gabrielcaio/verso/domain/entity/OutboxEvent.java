@@ -0,0 +1,73 @@
+package br.com.gabrielcaio.verso.domain.entity;
+
+import br.com.gabrielcaio.verso.domain.enums.OutboxEventType;
+import br.com.gabrielcaio.verso.domain.enums.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Table(
+    name = "tb_outbox_events",
+    indexes = {
+      @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+    })
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+  @SequenceGenerator(
+      name = "outbox_event_seq",
+      sequenceName = "tb_outbox_events_seq",
+      allocationSize = 50)
+  @Column(name = "outbox_event_id")
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 40)
+  private OutboxEventType type;
+
+  @Column(name = "aggregate_id", nullable = false)
+  private Long aggregateId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  @Builder.Default
+  private OutboxStatus status = OutboxStatus.PENDING;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private int attempts = 0;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "processed_at")
+  private LocalDateTime processedAt;
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -39,7 +40,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Reaction {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reaction_seq")
+  @SequenceGenerator(name = "reaction_seq", sequenceName = "tb_reactions_seq", allocationSize = 50)
   @Column(name = "reaction_id")
   private Long id;
 
@@ -66,6 +66,14 @@ public class User implements UserDetails {
   @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
   private Set<Article> articles = new HashSet<>();
 
+  /** Mantido por UPDATE atômico em {@code UserRepository}; nunca gravado pela entidade. */
+  @Column(name = "followers_count", nullable = false, insertable = false, updatable = false)
+  private long followersCount;
+
+  /** Mantido por UPDATE atômico em {@code UserRepository}; nunca gravado pela entidade. */
+  @Column(name = "following_count", nullable = false, insertable = false, updatable = false)
+  private long followingCount;
+
   @Column(name = "enabled", nullable = false)
   private boolean enabled = true;
 
@@ -0,0 +1,10 @@
+package br.com.gabrielcaio.verso.domain.enums;
+
+/** Eventos de domínio gravados no outbox. O {@code aggregateId} de cada tipo está indicado. */
+public enum OutboxEventType {
+  /** Artigo publicado; aggregateId = id do artigo. */
+  ARTICLE_PUBLISHED,
+
+  /** Comentário ou resposta criado; aggregateId = id do comentário. */
+  COMMENT_CREATED
+}
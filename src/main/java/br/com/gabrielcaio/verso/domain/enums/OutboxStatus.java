@@ -0,0 +1,7 @@
+package br.com.gabrielcaio.verso.domain.enums;
+
+public enum OutboxStatus {
+  PENDING,
+  PROCESSED,
+  FAILED
+}
@@ -30,4 +30,10 @@ public class ArticleResponseWithTitleAndStatusAndCategoryName {
       example = "Tecnologia",
       requiredMode = Schema.RequiredMode.REQUIRED)
   private String category;
+
+  @Schema(description = "Quantidade de likes do artigo", example = "42")
+  private Long likesCount;
+
+  @Schema(description = "Quantidade de comentários do artigo", example = "7")
+  private Long commentsCount;
 }
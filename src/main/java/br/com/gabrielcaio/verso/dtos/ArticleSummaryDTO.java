@@ -0,0 +1,58 @@
+package br.com.gabrielcaio.verso.dtos;
+
+import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "DTO resumido de artigo para listagens, com trecho inicial do conteúdo")
+public class ArticleSummaryDTO {
+
+  @Schema(description = "ID do artigo", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+  private Long id;
+
+  @Schema(
+      description = "Título do artigo",
+      example = "Introdução ao Spring Boot",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private String title;
+
+  @Schema(
+      description = "Status do artigo",
+      example = "PUBLICADO",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private ArticleStatus status;
+
+  @Schema(
+      description = "Nome da categoria do artigo",
+      example = "Tecnologia",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private String category;
+
+  @Schema(
+      description = "Username do autor",
+      example = "gabriel",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private String authorUsername;
+
+  @Schema(
+      description = "Início do conteúdo, terminado em reticências quando truncado",
+      example = "Spring Boot é um framework que facilita...")
+  private String excerpt;
+
+  @Schema(description = "Quantidade de likes do artigo", example = "42")
+  private Long likesCount;
+
+  @Schema(description = "Quantidade de comentários do artigo", example = "7")
+  private Long commentsCount;
+
+  @Schema(description = "Data de criação", example = "2025-01-15T10:30:00")
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,55 @@
+package br.com.gabrielcaio.verso.dtos;
+
+import br.com.gabrielcaio.verso.domain.enums.CategoryDeletionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = "Progresso da exclusão de uma categoria em segundo plano")
+public class CategoryDeletionJobDTO {
+
+  @Schema(
+      description = "ID do job",
+      example = "3f2b8c1e-6a4d-4e2b-9c1a-7d5e8f9a0b1c",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private UUID jobId;
+
+  @Schema(
+      description = "ID da categoria excluída",
+      example = "7",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private Long categoryId;
+
+  @Schema(
+      description = "Situação do job",
+      example = "RUNNING",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private CategoryDeletionStatus status;
+
+  @Schema(
+      description = "Artigos na categoria quando o job começou",
+      example = "250000",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private long totalArticles;
+
+  @Schema(
+      description = "Artigos já movidos para a categoria default",
+      example = "120000",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private long movedArticles;
+
+  @Schema(description = "Início do job", requiredMode = Schema.RequiredMode.REQUIRED)
+  private LocalDateTime startedAt;
+
+  @Schema(description = "Fim do job (null enquanto em andamento)")
+  private LocalDateTime finishedAt;
+
+  @Schema(description = "Motivo da falha (null se não falhou)")
+  private String error;
+}
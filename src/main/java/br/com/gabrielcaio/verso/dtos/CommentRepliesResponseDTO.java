@@ -0,0 +1,12 @@
+package br.com.gabrielcaio.verso.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentRepliesResponseDTO {
+  private List<ThreadedCommentDTO> replies;
+  private Long nextCursor;
+}
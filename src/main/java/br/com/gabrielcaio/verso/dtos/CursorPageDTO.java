@@ -0,0 +1,23 @@
+package br.com.gabrielcaio.verso.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Página de uma listagem por cursor, sem total de elementos")
+public class CursorPageDTO<T> {
+
+  @Schema(description = "Itens da página", requiredMode = Schema.RequiredMode.REQUIRED)
+  private List<T> content;
+
+  @Schema(
+      description = "Cursor opaco para a próxima página, ou null na última",
+      example = "MjAyNS0wMS0xNVQxMDozMDowMHw0Mg")
+  private String nextCursor;
+
+  @Schema(description = "Indica se há próxima página", requiredMode = Schema.RequiredMode.REQUIRED)
+  private boolean hasNext;
+}
@@ -0,0 +1,31 @@
+package br.com.gabrielcaio.verso.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "DTO de requisição para login com emissão de tokens")
+public class LoginRequestDTO {
+
+  @Schema(
+      description = "Username do usuário",
+      example = "usuario",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  @NotBlank(message = "Username é obrigatório")
+  private String username;
+
+  @Schema(
+      description = "Senha do usuário",
+      example = "senhaSegura123",
+      requiredMode = Schema.RequiredMode.REQUIRED,
+      format = "password")
+  @NotBlank(message = "Senha é obrigatória")
+  private String password;
+}
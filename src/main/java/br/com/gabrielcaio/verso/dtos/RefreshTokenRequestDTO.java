@@ -0,0 +1,23 @@
+package br.com.gabrielcaio.verso.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "DTO de requisição para renovar o access token")
+public class RefreshTokenRequestDTO {
+
+  @Schema(
+      description = "Refresh token recebido no login",
+      example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  @NotBlank(message = "Refresh token é obrigatório")
+  private String refreshToken;
+}
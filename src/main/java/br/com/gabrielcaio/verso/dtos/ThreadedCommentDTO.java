@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Setter;
 
 @Getter
 @AllArgsConstructor
@@ -15,4 +16,10 @@ public class ThreadedCommentDTO {
   private Long articleId;
   private LocalDateTime createdAt;
   private List<ThreadedCommentDTO> replies;
+
+  /** Total de respostas diretas, incluindo as que não vieram em {@code replies}. */
+  private long replyCount;
+
+  /** Cursor para carregar as próximas respostas, ou {@code null} se todas já estão na lista. */
+  @Setter private Long nextRepliesCursor;
 }
@@ -0,0 +1,33 @@
+package br.com.gabrielcaio.verso.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "DTO de resposta com os tokens de acesso")
+public class TokenResponseDTO {
+
+  @Schema(
+      description = "Access token de curta duração para o header Authorization: Bearer",
+      example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private String accessToken;
+
+  @Schema(
+      description = "Refresh token usado para obter um novo access token",
+      example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
+      requiredMode = Schema.RequiredMode.REQUIRED)
+  private String refreshToken;
+
+  @Schema(description = "Tipo do token", example = "Bearer")
+  private String tokenType;
+
+  @Schema(description = "Validade do access token em segundos", example = "900")
+  private Long expiresIn;
+}
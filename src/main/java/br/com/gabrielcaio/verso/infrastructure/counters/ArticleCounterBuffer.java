@@ -0,0 +1,400 @@
+package br.com.gabrielcaio.verso.infrastructure.counters;
+
+import br.com.gabrielcaio.verso.domain.enums.ReactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Acumula em memória os deltas de reações e comentários por artigo e grava tudo de tempos em tempos
+ * em lote, na mesma transação, em {@code tb_articles} e {@code tb_article_reaction_counts}, para
+ * que artigos muito curtidos não disputem o lock dessas linhas a cada reação.
+ *
+ * <p>Deltas registrados dentro de uma transação só entram no buffer depois do commit. O flush troca
+ * o mapa inteiro por um vazio: o antigo vira o lote em andamento e ninguém mais escreve nele. Uma
+ * falha no flush devolve o lote ao buffer, e o {@link #stop()} faz um flush final no desligamento
+ * (o contexto do Spring é fechado pelo shutdown hook da JVM). Leituras devem somar {@link #pending}
+ * ao valor persistido, lido antes.
+ */
+@Slf4j
+@Component
+public class ArticleCounterBuffer implements SmartLifecycle {
+
+  private static final String ARTICLES_SQL =
+      "UPDATE tb_articles SET likes_count = GREATEST(likes_count + ?, 0),"
+          + " comments_count = GREATEST(comments_count + ?, 0) WHERE article_id = ?";
+
+  private static final String REACTION_COUNTS_INSERT_SQL =
+      "INSERT INTO tb_article_reaction_counts (article_id, like_count, love_count, laugh_count,"
+          + " wow_count, sad_count, angry_count, updated_at)"
+          + " SELECT article_id, 0, 0, 0, 0, 0, 0, clock_timestamp()::timestamp"
+          + " FROM tb_articles WHERE article_id = ? ON CONFLICT (article_id) DO NOTHING";
+
+  /** {@code updated_at} é o validador das estatísticas: hora da escrita, sem nunca voltar. */
+  private static final String REACTION_COUNTS_UPDATE_SQL =
+      "UPDATE tb_article_reaction_counts SET like_count = GREATEST(like_count + ?, 0),"
+          + " love_count = GREATEST(love_count + ?, 0), laugh_count = GREATEST(laugh_count + ?, 0),"
+          + " wow_count = GREATEST(wow_count + ?, 0), sad_count = GREATEST(sad_count + ?, 0),"
+          + " angry_count = GREATEST(angry_count + ?, 0),"
+          + " updated_at = GREATEST(updated_at, clock_timestamp()::timestamp) WHERE article_id = ?";
+
+  private static final ReactionType[] REACTION_TYPES = ReactionType.values();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration flushInterval;
+  private final Duration flushLockTimeout;
+
+  /**
+   * Escritas no buffer pegam a leitura, a troca do mapa no flush pega a escrita: depois da troca
+   * nenhuma escrita ainda soma no mapa antigo.
+   */
+  private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+  /**
+   * {@link #pending} pega a leitura; o flush pega a escrita do commit até limpar {@link #inFlight},
+   * para que o lote nunca seja somado duas vezes, no banco e no buffer. Uma requisição que trava a
+   * linha do artigo e depois chama {@link #pending} espera o flush, que por sua vez espera a linha:
+   * o {@code lock_timeout} do flush desfaz esse ciclo, e o lote volta ao buffer.
+   */
+  private final ReadWriteLock inFlightLock = new ReentrantReadWriteLock();
+
+  private volatile Map<Long, Deltas> deltas = new ConcurrentHashMap<>();
+
+  /** Lote do flush em andamento, ainda somado às leituras até o commit. */
+  private volatile Map<Long, Deltas> inFlight = Map.of();
+
+  private final List<Consumer<Set<Long>>> flushListeners = new CopyOnWriteArrayList<>();
+
+  private final Timer flushTimer;
+  private final Counter flushFailures;
+
+  private volatile boolean running;
+  private ScheduledExecutorService scheduler;
+
+  public ArticleCounterBuffer(
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${verso.counters.flush-interval:500ms}") Duration flushInterval,
+      @Value("${verso.counters.flush-lock-timeout:1s}") Duration flushLockTimeout) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.flushInterval = flushInterval;
+    this.flushLockTimeout = flushLockTimeout;
+
+    Gauge.builder("verso.counters.pending", this, buffer -> buffer.pendingTotal(Deltas::likes))
+        .tag("counter", "likes")
+        .description("Deltas de likes ainda não gravados no banco")
+        .register(meterRegistry);
+    Gauge.builder("verso.counters.pending", this, buffer -> buffer.pendingTotal(Deltas::comments))
+        .tag("counter", "comments")
+        .description("Deltas de comentários ainda não gravados no banco")
+        .register(meterRegistry);
+    Gauge.builder("verso.counters.pending", this, buffer -> buffer.pendingTotal(Deltas::reactions))
+        .tag("counter", "reactions")
+        .description("Deltas de reações de qualquer tipo ainda não gravados no banco")
+        .register(meterRegistry);
+    Gauge.builder("verso.counters.pending.articles", this, buffer -> buffer.deltas.size())
+        .description("Artigos com deltas acumulados no buffer")
+        .register(meterRegistry);
+    this.flushTimer = meterRegistry.timer("verso.counters.flush");
+    this.flushFailures = meterRegistry.counter("verso.counters.flush.failures");
+  }
+
+  /** Soma {@code delta} às reações do tipo; reações LIKE também contam em {@code likes_count}. */
+  public void addReaction(Long articleId, ReactionType type, long delta) {
+    afterCommit(() -> add(articleId, entry -> entry.reactions[type.ordinal()].add(delta)));
+  }
+
+  public void addComments(Long articleId, long delta) {
+    afterCommit(() -> add(articleId, entry -> entry.comments.add(delta)));
+  }
+
+  /** Deltas ainda não gravados de um artigo, para somar ao valor lido do banco. */
+  public PendingCounts pending(Long articleId) {
+    inFlightLock.readLock().lock();
+    try {
+      swapLock.readLock().lock();
+      try {
+        var flushing = inFlight.get(articleId);
+        var entry = deltas.get(articleId);
+        if (flushing == null && entry == null) {
+          return PendingCounts.NONE;
+        }
+        var reactions = new long[REACTION_TYPES.length];
+        long comments = 0;
+        long writes = 0;
+        for (var source : new Deltas[] {flushing, entry}) {
+          if (source != null) {
+            comments += source.comments.sum();
+            writes += source.writes.sum();
+            for (int i = 0; i < reactions.length; i++) {
+              reactions[i] += source.reactions[i].sum();
+            }
+          }
+        }
+        return new PendingCounts(comments, reactions, writes);
+      } finally {
+        swapLock.readLock().unlock();
+      }
+    } finally {
+      inFlightLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Registra quem guarda contadores lidos do banco (caches de leitura). O listener recebe os IDs
+   * gravados logo depois do commit do lote, antes de {@link #pending} deixar de somá-los, então
+   * quem descarta nesse momento nunca fica com o valor antigo sem o delta.
+   */
+  public void onFlush(Consumer<Set<Long>> listener) {
+    flushListeners.add(listener);
+  }
+
+  /** Grava os deltas acumulados. Chamado pelo agendador, no desligamento e pelos testes. */
+  public synchronized void flush() {
+    Map<Long, Deltas> batch;
+    swapLock.writeLock().lock();
+    try {
+      if (deltas.isEmpty()) {
+        return;
+      }
+      batch = deltas;
+      inFlight = batch;
+      deltas = new ConcurrentHashMap<>();
+    } finally {
+      swapLock.writeLock().unlock();
+    }
+
+    List<Object[]> articles = new ArrayList<>();
+    List<Object[]> reactionCounts = new ArrayList<>();
+    // Ordena por artigo para que flushes de instâncias diferentes travem as linhas na mesma ordem
+    new TreeMap<>(batch)
+        .forEach((articleId, entry) -> collect(articleId, entry, articles, reactionCounts));
+
+    long start = System.nanoTime();
+    inFlightLock.writeLock().lock();
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            jdbcTemplate.execute(
+                "SET LOCAL lock_timeout = '" + flushLockTimeout.toMillis() + "ms'");
+            jdbcTemplate.batchUpdate(ARTICLES_SQL, articles);
+            jdbcTemplate.batchUpdate(
+                REACTION_COUNTS_INSERT_SQL,
+                reactionCounts.stream().map(row -> new Object[] {row[row.length - 1]}).toList());
+            jdbcTemplate.batchUpdate(REACTION_COUNTS_UPDATE_SQL, reactionCounts);
+          });
+      log.debug("[COUNTERS] {} artigos atualizados no flush", batch.size());
+      notifyFlushed(batch.keySet());
+    } catch (Exception e) {
+      flushFailures.increment();
+      log.warn(
+          "[COUNTERS] Falha no flush de {} artigos; deltas voltam ao buffer: {}",
+          batch.size(),
+          e.getMessage());
+      batch.forEach((articleId, entry) -> add(articleId, entry::addTo));
+    } finally {
+      inFlight = Map.of();
+      inFlightLock.writeLock().unlock();
+      flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("counters-flush").daemon().factory());
+    scheduler.scheduleWithFixedDelay(
+        this::flushQuietly,
+        flushInterval.toMillis(),
+        flushInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+    log.info("[COUNTERS] Buffer de contadores iniciado. flushInterval={}", flushInterval);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+    log.info("[COUNTERS] Buffer de contadores parado após flush final");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /** Para depois do servidor web, para que requisições em andamento ainda entrem no flush final. */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  private void notifyFlushed(Set<Long> articleIds) {
+    for (var listener : flushListeners) {
+      try {
+        listener.accept(articleIds);
+      } catch (Exception e) {
+        log.warn("[COUNTERS] Falha ao notificar flush: {}", e.getMessage());
+      }
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("[COUNTERS] Erro inesperado no flush: {}", e.getMessage());
+    }
+  }
+
+  private void add(Long articleId, Consumer<Deltas> update) {
+    swapLock.readLock().lock();
+    try {
+      var entry = deltas.computeIfAbsent(articleId, id -> new Deltas());
+      update.accept(entry);
+      entry.writes.increment();
+    } finally {
+      swapLock.readLock().unlock();
+    }
+  }
+
+  /** Separa as linhas do lote; artigos sem reações pendentes não tocam a tabela de contadores. */
+  private static void collect(
+      Long articleId, Deltas entry, List<Object[]> articles, List<Object[]> reactionCounts) {
+    long comments = entry.comments.sum();
+    var reactions = new Object[REACTION_TYPES.length + 1];
+    boolean anyReaction = false;
+    for (int i = 0; i < REACTION_TYPES.length; i++) {
+      long sum = entry.reactions[i].sum();
+      reactions[i] = sum;
+      anyReaction |= sum != 0;
+    }
+    reactions[REACTION_TYPES.length] = articleId;
+
+    long likes = entry.likes();
+    if (likes != 0 || comments != 0) {
+      articles.add(new Object[] {likes, comments, articleId});
+    }
+    if (anyReaction) {
+      reactionCounts.add(reactions);
+    }
+  }
+
+  private long pendingTotal(ToLongFunction<Deltas> counter) {
+    long total = 0;
+    for (var map : List.of(inFlight, deltas)) {
+      for (Deltas entry : map.values()) {
+        total += counter.applyAsLong(entry);
+      }
+    }
+    return total;
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private static final class Deltas {
+    /**
+     * Quantas escritas a entrada recebeu, para validadores que mudam mesmo com deltas que se
+     * anulam.
+     */
+    private final LongAdder writes = new LongAdder();
+
+    private final LongAdder comments = new LongAdder();
+    private final LongAdder[] reactions = new LongAdder[REACTION_TYPES.length];
+
+    private Deltas() {
+      for (int i = 0; i < reactions.length; i++) {
+        reactions[i] = new LongAdder();
+      }
+    }
+
+    private long likes() {
+      return reactions[ReactionType.LIKE.ordinal()].sum();
+    }
+
+    private long comments() {
+      return comments.sum();
+    }
+
+    private long reactions() {
+      long total = 0;
+      for (var adder : reactions) {
+        total += adder.sum();
+      }
+      return total;
+    }
+
+    /** Devolve os deltas desta entrada a outra, usado quando o flush falha. */
+    private void addTo(Deltas target) {
+      target.writes.add(writes.sum());
+      target.comments.add(comments.sum());
+      for (int i = 0; i < reactions.length; i++) {
+        target.reactions[i].add(reactions[i].sum());
+      }
+    }
+  }
+
+  /**
+   * Deltas pendentes de um artigo: comentários, reações por tipo (na ordem de {@link ReactionType})
+   * e o número de escritas que os produziram.
+   */
+  public record PendingCounts(long comments, long[] reactions, long writes) {
+    static final PendingCounts NONE = new PendingCounts(0, new long[REACTION_TYPES.length], 0);
+
+    public long likes() {
+      return reaction(ReactionType.LIKE);
+    }
+
+    public long reaction(ReactionType type) {
+      return reactions[type.ordinal()];
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package br.com.gabrielcaio.verso.infrastructure.counters;
+
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recalcula os contadores de follows de {@code tb_users} a partir de {@code tb_follows}, em lotes
+ * de {@code chunk-size} usuários por ordem de ID, cada um na própria transação, e só grava as
+ * linhas que divergem. Roda a cada {@code interval}; com {@code interval} zero fica só a chamada
+ * manual de {@link #reconcile()}.
+ *
+ * <p>Os incrementos do follow/unfollow são atômicos, então divergências só vêm de escritas fora do
+ * serviço (SQL manual, cargas). Cada lote primeiro trava as linhas dos usuários e só depois conta
+ * em {@code tb_follows}, em outro statement: um follow concorrente ou comitou antes da contagem e
+ * entra nela, ou espera o lote terminar e soma o seu incremento sobre o valor corrigido.
+ */
+@Slf4j
+@Component
+public class FollowCountReconciler implements SmartLifecycle {
+
+  private final UserRepository userRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final Duration interval;
+
+  private final Counter fixed;
+  private final Timer runTimer;
+
+  private volatile boolean running;
+  private ScheduledExecutorService scheduler;
+
+  public FollowCountReconciler(
+      UserRepository userRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${verso.counters.follow-reconcile.chunk-size:1000}") int chunkSize,
+      @Value("${verso.counters.follow-reconcile.interval:6h}") Duration interval) {
+    this.userRepository = userRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.interval = interval;
+    this.fixed = meterRegistry.counter("verso.counters.follow.reconciled");
+    this.runTimer = meterRegistry.timer("verso.counters.follow.reconcile");
+  }
+
+  /** Percorre todos os usuários e devolve quantas linhas foram corrigidas. */
+  public synchronized long reconcile() {
+    long start = System.nanoTime();
+    long corrected = 0;
+    int chunks = 0;
+    long afterId = 0;
+    try {
+      while (true) {
+        long from = afterId;
+        var chunk = transactionTemplate.execute(status -> reconcileChunk(from));
+        if (chunk == null) {
+          break;
+        }
+        afterId = chunk.lastId();
+        corrected += chunk.fixed();
+        chunks++;
+      }
+    } finally {
+      runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    fixed.increment(corrected);
+    log.info(
+        "[COUNTERS] Reconciliação de follows concluída. lotes={}, corrigidos={}",
+        chunks,
+        corrected);
+    return corrected;
+  }
+
+  /** Um lote na transação atual. Devolve nulo quando não há usuários depois de {@code afterId}. */
+  private Chunk reconcileChunk(long afterId) {
+    var userIds = userRepository.lockFollowCountsChunk(afterId, chunkSize);
+    if (userIds.isEmpty()) {
+      return null;
+    }
+    int fixedRows = userRepository.reconcileFollowCounts(userIds);
+    return new Chunk(userIds.getLast(), fixedRows);
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    if (interval.isZero()) {
+      log.info("[COUNTERS] Reconciliação de follows agendada desligada");
+      return;
+    }
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("follow-reconcile").daemon().factory());
+    scheduler.scheduleWithFixedDelay(
+        this::reconcileQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    log.info(
+        "[COUNTERS] Reconciliação de follows iniciada. interval={}, chunkSize={}",
+        interval,
+        chunkSize);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void reconcileQuietly() {
+    try {
+      reconcile();
+    } catch (Exception e) {
+      log.error("[COUNTERS] Falha na reconciliação de follows: {}", e.getMessage());
+    }
+  }
+
+  private record Chunk(long lastId, int fixed) {}
+}
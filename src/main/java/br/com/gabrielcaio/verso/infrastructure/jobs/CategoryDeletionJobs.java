@@ -0,0 +1,211 @@
+package br.com.gabrielcaio.verso.infrastructure.jobs;
+
+import br.com.gabrielcaio.verso.domain.enums.CategoryDeletionStatus;
+import br.com.gabrielcaio.verso.dtos.CategoryDeletionJobDTO;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.repositories.CategoryRepository;
+import br.com.gabrielcaio.verso.services.cache.ArticleDetailCache;
+import br.com.gabrielcaio.verso.services.cache.CategoryCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Exclui categorias grandes em segundo plano. Os artigos são movidos para a categoria default em
+ * lotes de {@code chunk-size}, cada um na própria transação, e o progresso fica consultável pelo ID
+ * do job. A última transação move o que sobrou (artigos criados durante o job) e apaga a categoria.
+ *
+ * <p>Os jobs vivem na memória desta instância: um job interrompido pelo desligamento fica como
+ * {@code FAILED} e pode ser disparado de novo, já que os lotes movidos não são desfeitos.
+ */
+@Slf4j
+@Component
+public class CategoryDeletionJobs {
+
+  private final ArticleRepository articleRepository;
+  private final CategoryRepository categoryRepository;
+  private final CategoryCache categoryCache;
+  private final ArticleDetailCache articleDetailCache;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  private final Cache<UUID, CategoryDeletionJobDTO> jobs;
+  private final Map<Long, UUID> activeByCategory = new ConcurrentHashMap<>();
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name("category-deletion-", 0).factory());
+
+  public CategoryDeletionJobs(
+      ArticleRepository articleRepository,
+      CategoryRepository categoryRepository,
+      CategoryCache categoryCache,
+      ArticleDetailCache articleDetailCache,
+      TransactionTemplate transactionTemplate,
+      @Value("${verso.categories.deletion.chunk-size:1000}") int chunkSize,
+      @Value("${verso.categories.deletion.job-retention:1h}") Duration jobRetention) {
+    this.articleRepository = articleRepository;
+    this.categoryRepository = categoryRepository;
+    this.categoryCache = categoryCache;
+    this.articleDetailCache = articleDetailCache;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.jobs = Caffeine.newBuilder().expireAfterWrite(jobRetention).build();
+  }
+
+  /**
+   * Registra o job e o inicia depois do commit da transação atual. Se a categoria já tem um job em
+   * andamento, devolve esse job.
+   */
+  public CategoryDeletionJobDTO submit(Long categoryId, Long targetCategoryId) {
+    var jobId = UUID.randomUUID();
+    var existing = activeByCategory.putIfAbsent(categoryId, jobId);
+    if (existing != null) {
+      log.info(
+          "[CATEGORY DELETE JOB] Categoria ID {} já tem job em andamento: {}",
+          categoryId,
+          existing);
+      return jobs.getIfPresent(existing);
+    }
+
+    var job =
+        CategoryDeletionJobDTO.builder()
+            .jobId(jobId)
+            .categoryId(categoryId)
+            .status(CategoryDeletionStatus.RUNNING)
+            .totalArticles(
+                articleRepository.countByCategory(categoryRepository.getReferenceById(categoryId)))
+            .startedAt(LocalDateTime.now())
+            .build();
+    jobs.put(jobId, job);
+
+    afterCommit(() -> executor.submit(() -> run(job, targetCategoryId)), categoryId, jobId);
+    log.info(
+        "[CATEGORY DELETE JOB] Job {} criado para categoria ID {} ({} artigos)",
+        jobId,
+        categoryId,
+        job.getTotalArticles());
+    return job;
+  }
+
+  public Optional<CategoryDeletionJobDTO> find(UUID jobId) {
+    return Optional.ofNullable(jobs.getIfPresent(jobId));
+  }
+
+  /** Indica se a categoria está sendo excluída por um job. */
+  public boolean isRunning(Long categoryId) {
+    return activeByCategory.containsKey(categoryId);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void run(CategoryDeletionJobDTO job, Long targetCategoryId) {
+    var categoryId = job.getCategoryId();
+    long moved = 0;
+    try {
+      int updated;
+      do {
+        if (Thread.currentThread().isInterrupted()) {
+          throw new InterruptedException("Job interrompido no desligamento");
+        }
+        updated =
+            transactionTemplate.execute(
+                status ->
+                    articleRepository.reassignCategoryChunk(
+                        categoryId, targetCategoryId, chunkSize));
+        moved += updated;
+        job = progress(job, moved);
+      } while (updated == chunkSize);
+
+      int remaining =
+          transactionTemplate.execute(
+              status -> {
+                int late =
+                    articleRepository.reassignCategory(
+                        categoryRepository.getReferenceById(categoryId),
+                        categoryRepository.getReferenceById(targetCategoryId));
+                categoryRepository.deleteById(categoryId);
+                categoryCache.invalidate();
+                articleDetailCache.evictAll();
+                return late;
+              });
+      moved += remaining;
+
+      finish(job, moved, CategoryDeletionStatus.COMPLETED, null);
+      log.info(
+          "[CATEGORY DELETE JOB] Job {} concluído. Categoria ID {} excluída, {} artigos movidos",
+          job.getJobId(),
+          categoryId,
+          moved);
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      finish(job, moved, CategoryDeletionStatus.FAILED, e.getMessage());
+      log.error(
+          "[CATEGORY DELETE JOB] Job {} falhou após mover {} artigos: {}",
+          job.getJobId(),
+          moved,
+          e.getMessage());
+    } finally {
+      activeByCategory.remove(categoryId);
+    }
+  }
+
+  private CategoryDeletionJobDTO progress(CategoryDeletionJobDTO job, long moved) {
+    var updated =
+        job.toBuilder()
+            .movedArticles(moved)
+            .totalArticles(Math.max(job.getTotalArticles(), moved))
+            .build();
+    jobs.put(job.getJobId(), updated);
+    return updated;
+  }
+
+  private void finish(
+      CategoryDeletionJobDTO job, long moved, CategoryDeletionStatus status, String error) {
+    jobs.put(
+        job.getJobId(),
+        progress(job, moved).toBuilder()
+            .status(status)
+            .finishedAt(LocalDateTime.now())
+            .error(error)
+            .build());
+  }
+
+  /** Executa {@code start} depois do commit; em rollback, descarta o job registrado. */
+  private void afterCommit(Runnable start, Long categoryId, UUID jobId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      start.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+              start.run();
+            } else {
+              activeByCategory.remove(categoryId, jobId);
+              jobs.invalidate(jobId);
+            }
+          }
+        });
+  }
+}
@@ -0,0 +1,29 @@
+package br.com.gabrielcaio.verso.infrastructure.membership;
+
+import br.com.gabrielcaio.verso.repositories.FavoriteRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** IDs dos artigos que cada usuário favoritou. */
+@Component
+public class FavoriteIndex extends MembershipIndex {
+
+  private final FavoriteRepository favoriteRepository;
+
+  public FavoriteIndex(
+      FavoriteRepository favoriteRepository,
+      MeterRegistry meterRegistry,
+      @Value("${verso.membership.favorites.max-ids:1000000}") long maxIds,
+      @Value("${verso.membership.favorites.ttl:5m}") Duration ttl) {
+    super(meterRegistry, "favorite_index", maxIds, ttl);
+    this.favoriteRepository = favoriteRepository;
+  }
+
+  @Override
+  protected List<Long> load(Long userId) {
+    return favoriteRepository.findArticleIdsByUserId(userId);
+  }
+}
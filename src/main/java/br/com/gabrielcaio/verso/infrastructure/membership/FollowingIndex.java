@@ -0,0 +1,29 @@
+package br.com.gabrielcaio.verso.infrastructure.membership;
+
+import br.com.gabrielcaio.verso.repositories.FollowRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** IDs dos usuários que cada usuário segue. */
+@Component
+public class FollowingIndex extends MembershipIndex {
+
+  private final FollowRepository followRepository;
+
+  public FollowingIndex(
+      FollowRepository followRepository,
+      MeterRegistry meterRegistry,
+      @Value("${verso.membership.following.max-ids:1000000}") long maxIds,
+      @Value("${verso.membership.following.ttl:5m}") Duration ttl) {
+    super(meterRegistry, "following_index", maxIds, ttl);
+    this.followRepository = followRepository;
+  }
+
+  @Override
+  protected List<Long> load(Long userId) {
+    return followRepository.findFollowingIdsByFollowerId(userId);
+  }
+}
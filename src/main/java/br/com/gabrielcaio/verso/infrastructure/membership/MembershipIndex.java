@@ -0,0 +1,128 @@
+package br.com.gabrielcaio.verso.infrastructure.membership;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * IDs relacionados a cada usuário (quem ele segue, o que favoritou) em um {@code long[]} ordenado,
+ * respondidos por busca binária. O conjunto é carregado do banco na primeira consulta do usuário e
+ * ajustado depois do commit de cada escrita, só para quem já está em memória.
+ *
+ * <p>O cache é limitado pelo total de IDs guardados ({@code max-ids}), descartando os usuários
+ * menos usados. Cada conjunto vale por {@code ttl} desde a carga, mesmo recebendo escritas, para
+ * limitar o atraso de escritas feitas em outras instâncias.
+ */
+@Slf4j
+public abstract class MembershipIndex {
+
+  private final Cache<Long, long[]> cache;
+  private final String name;
+
+  protected MembershipIndex(MeterRegistry meterRegistry, String name, long maxIds, Duration ttl) {
+    this.name = name;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxIds)
+            .weigher((Long userId, long[] ids) -> ids.length + 1)
+            .expireAfter(Expiry.creating((Long userId, long[] ids) -> ttl))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    log.info("[MEMBERSHIP] Índice {} inicializado. maxIds={}, ttl={}", name, maxIds, ttl);
+  }
+
+  /** IDs relacionados ao usuário, lidos do banco na falta do conjunto em memória. */
+  protected abstract List<Long> load(Long userId);
+
+  public boolean contains(Long userId, Long id) {
+    return Arrays.binarySearch(ids(userId), id) >= 0;
+  }
+
+  /** Resposta para cada ID de {@code ids}, na ordem recebida, com uma única carga no máximo. */
+  public Map<Long, Boolean> containsAll(Long userId, Collection<Long> ids) {
+    var members = ids(userId);
+    var result = new LinkedHashMap<Long, Boolean>();
+    for (Long id : ids) {
+      result.put(id, Arrays.binarySearch(members, id) >= 0);
+    }
+    return result;
+  }
+
+  /** Inclui {@code id} no conjunto do usuário depois do commit da transação atual. */
+  public void add(Long userId, Long id) {
+    afterCommit(() -> cache.asMap().computeIfPresent(userId, (key, ids) -> with(ids, id)));
+  }
+
+  /** Retira {@code id} do conjunto do usuário depois do commit da transação atual. */
+  public void remove(Long userId, Long id) {
+    afterCommit(() -> cache.asMap().computeIfPresent(userId, (key, ids) -> without(ids, id)));
+  }
+
+  /**
+   * Leituras simultâneas de um usuário fora do cache fazem uma única carga, e as escritas que
+   * comitam durante a carga esperam por ela antes de ajustar o conjunto.
+   */
+  private long[] ids(Long userId) {
+    return cache.get(
+        userId,
+        key -> {
+          var ids = load(key).stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+          log.debug(
+              "[MEMBERSHIP] Conjunto carregado. indice={}, userId={}, ids={}",
+              name,
+              key,
+              ids.length);
+          return ids;
+        });
+  }
+
+  private static long[] with(long[] ids, long id) {
+    int position = Arrays.binarySearch(ids, id);
+    if (position >= 0) {
+      return ids;
+    }
+    int insertAt = -position - 1;
+    var updated = new long[ids.length + 1];
+    System.arraycopy(ids, 0, updated, 0, insertAt);
+    updated[insertAt] = id;
+    System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+    return updated;
+  }
+
+  private static long[] without(long[] ids, long id) {
+    int position = Arrays.binarySearch(ids, id);
+    if (position < 0) {
+      return ids;
+    }
+    var updated = new long[ids.length - 1];
+    System.arraycopy(ids, 0, updated, 0, position);
+    System.arraycopy(ids, position + 1, updated, position, ids.length - position - 1);
+    return updated;
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,311 @@
+package br.com.gabrielcaio.verso.infrastructure.outbox;
+
+import br.com.gabrielcaio.verso.domain.enums.OutboxStatus;
+import br.com.gabrielcaio.verso.repositories.OutboxEventRepository;
+import br.com.gabrielcaio.verso.services.OutboxEventHandler;
+import br.com.gabrielcaio.verso.services.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drena o outbox em lotes com workers em virtual threads. Cada lote é travado com {@code SKIP
+ * LOCKED} e recebe um lease; cada evento é processado na própria transação, junto com a marcação de
+ * processado. Falhas voltam para a fila com backoff exponencial até {@code max-attempts}. Se o
+ * processo cair no meio do lote, o lease expira e o evento é entregue de novo (at-least-once). A
+ * entrega trava a linha do evento, então dois workers nunca entregam o mesmo evento ao mesmo tempo,
+ * e as notificações são deduplicadas pelo id do evento. Eventos processados são apagados depois de
+ * {@code retention}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "verso.outbox", name = "enabled", matchIfMissing = true)
+public class OutboxWorker implements SmartLifecycle {
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxEventHandler outboxEventHandler;
+  private final OutboxService outboxService;
+  private final TransactionTemplate transactionTemplate;
+
+  private final int workers;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final Duration lease;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration metricsInterval;
+  private final Duration retention;
+  private final Duration purgeInterval;
+  private final int purgeBatchSize;
+
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final Counter processed;
+  private final Counter retried;
+  private final Counter failed;
+  private final Timer deliveryTimer;
+
+  private volatile boolean running;
+  private ExecutorService executor;
+
+  public OutboxWorker(
+      OutboxEventRepository outboxEventRepository,
+      OutboxEventHandler outboxEventHandler,
+      OutboxService outboxService,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${verso.outbox.workers:4}") int workers,
+      @Value("${verso.outbox.batch-size:50}") int batchSize,
+      @Value("${verso.outbox.poll-interval:1s}") Duration pollInterval,
+      @Value("${verso.outbox.lease:1m}") Duration lease,
+      @Value("${verso.outbox.max-attempts:10}") int maxAttempts,
+      @Value("${verso.outbox.initial-backoff:2s}") Duration initialBackoff,
+      @Value("${verso.outbox.max-backoff:10m}") Duration maxBackoff,
+      @Value("${verso.outbox.metrics-interval:10s}") Duration metricsInterval,
+      @Value("${verso.outbox.retention:7d}") Duration retention,
+      @Value("${verso.outbox.purge-interval:1h}") Duration purgeInterval,
+      @Value("${verso.outbox.purge-batch-size:1000}") int purgeBatchSize) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.outboxEventHandler = outboxEventHandler;
+    this.outboxService = outboxService;
+    this.transactionTemplate = transactionTemplate;
+    this.workers = workers;
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+    this.lease = lease;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.metricsInterval = metricsInterval;
+    this.retention = retention;
+    this.purgeInterval = purgeInterval;
+    this.purgeBatchSize = purgeBatchSize;
+
+    Gauge.builder("verso.outbox.pending", pending, AtomicLong::get)
+        .description("Eventos aguardando entrega no outbox")
+        .register(meterRegistry);
+    TimeGauge.builder("verso.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+        .description("Idade do evento pendente mais antigo")
+        .register(meterRegistry);
+    this.processed = meterRegistry.counter("verso.outbox.events", "outcome", "processed");
+    this.retried = meterRegistry.counter("verso.outbox.events", "outcome", "retried");
+    this.failed = meterRegistry.counter("verso.outbox.events", "outcome", "failed");
+    this.deliveryTimer = meterRegistry.timer("verso.outbox.delivery");
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-", 0).factory());
+    for (int i = 0; i < workers; i++) {
+      executor.submit(this::drainLoop);
+    }
+    executor.submit(this::metricsLoop);
+    executor.submit(this::purgeLoop);
+    log.info(
+        "[OUTBOX] Worker iniciado. workers={}, batchSize={}, pollInterval={}",
+        workers,
+        batchSize,
+        pollInterval);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    executor.shutdownNow();
+    try {
+      if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        log.warn("[OUTBOX] Workers não terminaram a tempo; eventos em lease serão reentregues");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.info("[OUTBOX] Worker parado");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void drainLoop() {
+    while (running) {
+      try {
+        List<Long> batch = claimBatch();
+        if (batch.isEmpty()) {
+          Thread.sleep(pollInterval);
+          continue;
+        }
+        for (Long eventId : batch) {
+          deliver(eventId);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.error("[OUTBOX] Falha ao buscar lote: {}", e.getMessage());
+        if (!sleepQuietly(pollInterval)) {
+          return;
+        }
+      }
+    }
+  }
+
+  private List<Long> claimBatch() {
+    return transactionTemplate.execute(
+        status -> {
+          var now = LocalDateTime.now();
+          var ids = outboxEventRepository.lockNextBatch(now, batchSize);
+          if (!ids.isEmpty()) {
+            outboxEventRepository.lease(ids, now.plus(lease));
+          }
+          return ids;
+        });
+  }
+
+  private void deliver(Long eventId) {
+    long start = System.nanoTime();
+    try {
+      Boolean delivered =
+          transactionTemplate.execute(
+              status ->
+                  outboxEventRepository
+                      .lockPending(eventId)
+                      .map(
+                          event -> {
+                            outboxEventHandler.handle(event);
+                            event.setStatus(OutboxStatus.PROCESSED);
+                            event.setProcessedAt(LocalDateTime.now());
+                            event.setLastError(null);
+                            return true;
+                          })
+                      .orElse(false));
+      if (Boolean.TRUE.equals(delivered)) {
+        processed.increment();
+      } else {
+        log.debug("[OUTBOX] Evento {} já entregue por outro worker", eventId);
+      }
+    } catch (Exception e) {
+      recordFailure(eventId, e);
+    } finally {
+      deliveryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void recordFailure(Long eventId, Exception error) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              outboxEventRepository
+                  .findById(eventId)
+                  .ifPresent(
+                      event -> {
+                        int attempts = event.getAttempts() + 1;
+                        event.setAttempts(attempts);
+                        event.setLastError(truncate(error.toString()));
+
+                        if (attempts >= maxAttempts) {
+                          event.setStatus(OutboxStatus.FAILED);
+                          failed.increment();
+                          log.error(
+                              "[OUTBOX] Evento {} descartado após {} tentativas: {}",
+                              eventId,
+                              attempts,
+                              error.getMessage());
+                        } else {
+                          var delay = backoff(attempts);
+                          event.setNextAttemptAt(LocalDateTime.now().plus(delay));
+                          retried.increment();
+                          log.warn(
+                              "[OUTBOX] Evento {} falhou (tentativa {}). Nova tentativa em {}: {}",
+                              eventId,
+                              attempts,
+                              delay,
+                              error.getMessage());
+                        }
+                      }));
+    } catch (Exception e) {
+      log.error(
+          "[OUTBOX] Não foi possível registrar falha do evento {}: {}", eventId, e.getMessage());
+    }
+  }
+
+  /** Backoff exponencial com jitter de até 20% para não sincronizar as novas tentativas. */
+  private Duration backoff(int attempts) {
+    long base = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+    long capped = Math.min(base, maxBackoff.toMillis());
+    long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+    return Duration.ofMillis(capped - jitter);
+  }
+
+  private void metricsLoop() {
+    while (running) {
+      try {
+        pending.set(outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+        var oldest = outboxEventRepository.findOldestCreatedAtByStatus(OutboxStatus.PENDING);
+        lagMillis.set(
+            oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+      } catch (Exception e) {
+        log.warn("[OUTBOX] Falha ao atualizar métricas: {}", e.getMessage());
+      }
+      if (!sleepQuietly(metricsInterval)) {
+        return;
+      }
+    }
+  }
+
+  private void purgeLoop() {
+    while (running) {
+      try {
+        var before = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        int deleted;
+        do {
+          deleted = outboxService.purgeProcessedBefore(before, purgeBatchSize);
+          purged += deleted;
+        } while (deleted == purgeBatchSize && running);
+        if (purged > 0) {
+          log.info("[OUTBOX] {} eventos processados removidos (anteriores a {})", purged, before);
+        }
+      } catch (Exception e) {
+        log.warn("[OUTBOX] Falha ao remover eventos processados: {}", e.getMessage());
+      }
+      if (!sleepQuietly(purgeInterval)) {
+        return;
+      }
+    }
+  }
+
+  private static boolean sleepQuietly(Duration duration) {
+    try {
+      Thread.sleep(duration);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static String truncate(String message) {
+    return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+  }
+}
@@ -0,0 +1,169 @@
+package br.com.gabrielcaio.verso.infrastructure.timeline;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Monta uma página do feed de vários autores sem ordenar todos os artigos deles: cada autor é um
+ * fluxo já ordenado por {@code (createdAt DESC, id DESC)} vindo do índice, e um heap com o próximo
+ * artigo de cada fluxo entrega o mais recente até a página encher (k-way merge).
+ *
+ * <p>Primeiro vem só o artigo mais recente de cada autor, em uma consulta por bloco de {@code
+ * chunk-size} autores; com mais de um bloco, eles são lidos em paralelo em virtual threads, no
+ * máximo {@code parallelism} por vez (cada um ocupa uma conexão). Só os {@code limit} autores com o
+ * artigo mais recente podem aparecer na página, então apenas deles são lidos até {@code limit}
+ * artigos, em uma consulta, e o merge não volta ao banco.
+ */
+@Slf4j
+@Component
+public class AuthorStreamMerger {
+
+  private final TimelineStore timelineStore;
+  private final int chunkSize;
+  private final int parallelism;
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("timeline-merge-", 0).factory());
+
+  public AuthorStreamMerger(
+      TimelineStore timelineStore,
+      @Value("${verso.timeline.merge.chunk-size:1000}") int chunkSize,
+      @Value("${verso.timeline.merge.parallelism:4}") int parallelism) {
+    this.timelineStore = timelineStore;
+    this.chunkSize = chunkSize;
+    this.parallelism = parallelism;
+  }
+
+  /** Até {@code limit} artigos publicados dos autores depois de {@code after}, do mais recente. */
+  public List<TimelineEntry> merge(List<Long> authorIds, TimelineEntry after, int limit) {
+    var page = new ArrayList<TimelineEntry>(limit);
+    if (authorIds.isEmpty()) {
+      return page;
+    }
+
+    var candidates = newestAuthors(fetchHeads(authorIds, after), limit);
+    if (candidates.isEmpty()) {
+      return page;
+    }
+
+    var heap =
+        new PriorityQueue<AuthorStream>(
+            Comparator.comparing(AuthorStream::peek, TimelineEntry.NEWEST_FIRST));
+    timelineStore
+        .findAuthorHeads(candidates, after, limit)
+        .values()
+        .forEach(entries -> heap.add(new AuthorStream(entries)));
+
+    while (page.size() < limit && !heap.isEmpty()) {
+      var stream = heap.poll();
+      page.add(stream.next());
+      if (!stream.isEmpty()) {
+        heap.add(stream);
+      }
+    }
+
+    log.debug(
+        "[TIMELINE MERGE] Página montada. autores={}, candidatos={}, itens={}",
+        authorIds.size(),
+        candidates.size(),
+        page.size());
+    return page;
+  }
+
+  /** Os {@code limit} autores com o artigo mais recente, por um heap de tamanho {@code limit}. */
+  private static List<Long> newestAuthors(Map<Long, List<TimelineEntry>> heads, int limit) {
+    var newest =
+        new PriorityQueue<Map.Entry<Long, TimelineEntry>>(
+            limit + 1, Map.Entry.comparingByValue(TimelineEntry.NEWEST_FIRST.reversed()));
+    heads.forEach(
+        (authorId, entries) -> {
+          newest.add(Map.entry(authorId, entries.getFirst()));
+          if (newest.size() > limit) {
+            newest.poll();
+          }
+        });
+    return newest.stream().map(Map.Entry::getKey).toList();
+  }
+
+  private Map<Long, List<TimelineEntry>> fetchHeads(List<Long> authorIds, TimelineEntry after) {
+    var chunks = new ArrayList<List<Long>>();
+    for (int i = 0; i < authorIds.size(); i += chunkSize) {
+      chunks.add(authorIds.subList(i, Math.min(i + chunkSize, authorIds.size())));
+    }
+    if (chunks.size() == 1 || parallelism <= 1) {
+      var heads = new HashMap<Long, List<TimelineEntry>>();
+      chunks.forEach(chunk -> heads.putAll(timelineStore.findAuthorHeads(chunk, after, 1)));
+      return heads;
+    }
+    return fetchHeadsInParallel(chunks, after);
+  }
+
+  /** Lê os blocos em ondas de até {@code parallelism} consultas simultâneas. */
+  private Map<Long, List<TimelineEntry>> fetchHeadsInParallel(
+      List<List<Long>> chunks, TimelineEntry after) {
+    var heads = new HashMap<Long, List<TimelineEntry>>();
+    for (int i = 0; i < chunks.size(); i += parallelism) {
+      var futures = new ArrayList<Future<Map<Long, List<TimelineEntry>>>>();
+      for (var chunk : chunks.subList(i, Math.min(i + parallelism, chunks.size()))) {
+        futures.add(executor.submit(() -> timelineStore.findAuthorHeads(chunk, after, 1)));
+      }
+      for (var future : futures) {
+        heads.putAll(await(future));
+      }
+    }
+    return heads;
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Leitura do feed interrompida", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /** Artigos já lidos de um autor, consumidos do mais recente para o mais antigo. */
+  private static final class AuthorStream {
+
+    private final List<TimelineEntry> entries;
+    private int position;
+
+    AuthorStream(List<TimelineEntry> entries) {
+      this.entries = entries;
+    }
+
+    TimelineEntry peek() {
+      return entries.get(position);
+    }
+
+    TimelineEntry next() {
+      return entries.get(position++);
+    }
+
+    boolean isEmpty() {
+      return position == entries.size();
+    }
+  }
+}
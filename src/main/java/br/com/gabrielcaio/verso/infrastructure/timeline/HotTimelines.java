@@ -0,0 +1,186 @@
+package br.com.gabrielcaio.verso.infrastructure.timeline;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Início da timeline dos usuários que leram a própria timeline há pouco, em um ring buffer de
+ * tamanho fixo por usuário. Publicações novas entram no início do ring depois do commit, só para
+ * quem já está em memória; o resto continua no banco.
+ *
+ * <p>Cada ring vale por {@code ttl} desde a carga, mesmo recebendo publicações, para limitar o
+ * atraso de publicações feitas em outras instâncias.
+ */
+@Slf4j
+@Component
+public class HotTimelines {
+
+  private final Cache<Long, HotTimeline> cache;
+  private final int capacity;
+
+  public HotTimelines(
+      MeterRegistry meterRegistry,
+      @Value("${verso.timeline.hot-cache.max-users:10000}") long maxUsers,
+      @Value("${verso.timeline.hot-cache.size:100}") int capacity,
+      @Value("${verso.timeline.hot-cache.ttl:1m}") Duration ttl) {
+    this.capacity = capacity;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfter(Expiry.creating((Long userId, HotTimeline timeline) -> ttl))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "home_timeline");
+    log.info(
+        "[TIMELINE] Cache de timelines inicializado. maxUsers={}, size={}, ttl={}",
+        maxUsers,
+        capacity,
+        ttl);
+  }
+
+  /** Quantas entradas cada ring guarda; é o que {@code loader} deve trazer do banco. */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Timeline em memória do usuário, carregada por {@code loader} na falta. Leituras simultâneas de
+   * um usuário fora do cache fazem uma única carga.
+   */
+  public HotTimeline get(Long userId, Function<Long, HotTimeline> loader) {
+    return cache.get(userId, loader);
+  }
+
+  /**
+   * Coloca a entrada no início do ring de cada usuário em memória, depois do commit da transação
+   * atual. Uma entrada mais antiga que a primeira do ring descarta o ring, que é recarregado na
+   * próxima leitura.
+   */
+  public void push(Collection<Long> userIds, TimelineEntry entry) {
+    afterCommit(
+        () -> {
+          for (Long userId : userIds) {
+            cache.asMap().computeIfPresent(userId, (id, timeline) -> timeline.push(entry));
+          }
+        });
+  }
+
+  /** Descarta o ring agora e de novo ao fim da transação atual, depois da escrita. */
+  public void evict(Long userId) {
+    cache.invalidate(userId);
+    afterCompletion(() -> cache.invalidate(userId));
+  }
+
+  /** Descarta todos, para mudanças que atingem muitos usuários (ex.: novo autor lido na hora). */
+  public void evictAll() {
+    cache.invalidateAll();
+    afterCompletion(cache::invalidateAll);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private static void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            action.run();
+          }
+        });
+  }
+
+  /**
+   * Ring das entradas mais recentes de um usuário, da mais nova para a mais antiga, e os autores
+   * que ele segue e que são lidos na hora. {@code complete} indica que o ring tem a timeline
+   * inteira, e não só o início.
+   */
+  public static final class HotTimeline {
+
+    private final TimelineEntry[] ring;
+    private final List<Long> pullAuthors;
+    private int head;
+    private int size;
+    private boolean complete;
+
+    public HotTimeline(int capacity, List<TimelineEntry> newestFirst, List<Long> pullAuthors) {
+      this.ring = new TimelineEntry[capacity];
+      this.pullAuthors = List.copyOf(pullAuthors);
+      this.complete = newestFirst.size() < capacity;
+      for (int i = Math.min(newestFirst.size(), capacity) - 1; i >= 0; i--) {
+        addFirst(newestFirst.get(i));
+      }
+    }
+
+    public List<Long> pullAuthors() {
+      return pullAuthors;
+    }
+
+    /**
+     * Até {@code limit} entradas depois de {@code after} (ou do início, se nulo). Nulo quando o
+     * ring não tem o suficiente e a página precisa vir do banco.
+     */
+    public synchronized List<TimelineEntry> page(TimelineEntry after, int limit) {
+      var page = new ArrayList<TimelineEntry>(limit);
+      for (int i = 0; i < size && page.size() < limit; i++) {
+        var entry = ring[(head + i) % ring.length];
+        if (after == null || TimelineEntry.NEWEST_FIRST.compare(entry, after) > 0) {
+          page.add(entry);
+        }
+      }
+      return page.size() == limit || complete ? page : null;
+    }
+
+    /** O próprio ring com a entrada no início, ou nulo se ela não é a mais nova. */
+    synchronized HotTimeline push(TimelineEntry entry) {
+      if (size > 0) {
+        int order = TimelineEntry.NEWEST_FIRST.compare(entry, ring[head]);
+        if (order == 0) {
+          return this;
+        }
+        if (order > 0) {
+          return null;
+        }
+      }
+      addFirst(entry);
+      return this;
+    }
+
+    private void addFirst(TimelineEntry entry) {
+      head = (head - 1 + ring.length) % ring.length;
+      ring[head] = entry;
+      if (size < ring.length) {
+        size++;
+      } else {
+        complete = false;
+      }
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package br.com.gabrielcaio.verso.infrastructure.timeline;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/** Artigo em uma timeline, com a chave de ordenação {@code (createdAt DESC, articleId DESC)}. */
+public record TimelineEntry(Long articleId, LocalDateTime createdAt) {
+
+  /** Do mais recente para o mais antigo, como a timeline é lida. */
+  public static final Comparator<TimelineEntry> NEWEST_FIRST =
+      Comparator.comparing(TimelineEntry::createdAt)
+          .thenComparing(TimelineEntry::articleId)
+          .reversed();
+}
@@ -0,0 +1,255 @@
+package br.com.gabrielcaio.verso.infrastructure.timeline;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acesso em SQL às timelines pré-calculadas ({@code tb_timeline_entries}) e aos autores lidos na
+ * hora ({@code tb_timeline_pull_authors}). Cada escrita é um único comando a partir de {@code
+ * tb_follows}, sem carregar seguidores na aplicação, e todas são idempotentes, já que o fan-out vem
+ * do outbox (at-least-once).
+ */
+@Component
+@RequiredArgsConstructor
+public class TimelineStore {
+
+  private static final String PUSH_SQL =
+      """
+      INSERT INTO tb_timeline_entries (user_id, article_id, author_id, created_at)
+      SELECT f.follower_id, ?, ?, ? FROM tb_follows f WHERE f.following_id = ?
+      ON CONFLICT DO NOTHING
+      RETURNING user_id
+      """;
+
+  /** Corta, em cada seguidor do autor, tudo que passar de {@code max} entradas. */
+  private static final String TRIM_FOLLOWERS_SQL =
+      """
+      DELETE FROM tb_timeline_entries t
+      USING (
+          SELECT f.follower_id AS user_id, c.created_at, c.article_id
+          FROM tb_follows f
+          CROSS JOIN LATERAL (
+              SELECT e.created_at, e.article_id FROM tb_timeline_entries e
+              WHERE e.user_id = f.follower_id
+              ORDER BY e.created_at DESC, e.article_id DESC
+              OFFSET ? LIMIT 1) c
+          WHERE f.following_id = ?) cut
+      WHERE t.user_id = cut.user_id
+        AND (t.created_at, t.article_id) <= (cut.created_at, cut.article_id)
+      """;
+
+  private static final String TRIM_USER_SQL =
+      """
+      DELETE FROM tb_timeline_entries t
+      USING (
+          SELECT e.created_at, e.article_id FROM tb_timeline_entries e
+          WHERE e.user_id = ?
+          ORDER BY e.created_at DESC, e.article_id DESC
+          OFFSET ? LIMIT 1) cut
+      WHERE t.user_id = ?
+        AND (t.created_at, t.article_id) <= (cut.created_at, cut.article_id)
+      """;
+
+  private static final String BACKFILL_SQL =
+      """
+      INSERT INTO tb_timeline_entries (user_id, article_id, author_id, created_at)
+      SELECT ?, a.article_id, a.author_id, a.created_at FROM tb_articles a
+      WHERE a.author_id = ? AND a.status = 'PUBLICADO'
+      ORDER BY a.created_at DESC, a.article_id DESC
+      LIMIT ?
+      ON CONFLICT DO NOTHING
+      """;
+
+  private static final String REMOVE_AUTHOR_SQL =
+      "DELETE FROM tb_timeline_entries WHERE user_id = ? AND author_id = ?";
+
+  private static final String FIRST_PAGE_SQL =
+      """
+      SELECT article_id, created_at FROM tb_timeline_entries
+      WHERE user_id = ?
+      ORDER BY created_at DESC, article_id DESC
+      LIMIT ?
+      """;
+
+  private static final String PAGE_AFTER_SQL =
+      """
+      SELECT article_id, created_at FROM tb_timeline_entries
+      WHERE user_id = ? AND (created_at, article_id) < (?, ?)
+      ORDER BY created_at DESC, article_id DESC
+      LIMIT ?
+      """;
+
+  /**
+   * Até {@code limit} artigos mais recentes de cada autor, cada um lido no próprio range do índice.
+   */
+  private static final String AUTHOR_HEADS_FIRST_SQL =
+      """
+      SELECT p.author_id, x.article_id, x.created_at
+      FROM unnest(?::bigint[]) AS p(author_id)
+      CROSS JOIN LATERAL (
+          SELECT a.article_id, a.created_at FROM tb_articles a
+          WHERE a.author_id = p.author_id AND a.status = 'PUBLICADO'
+          ORDER BY a.created_at DESC, a.article_id DESC
+          LIMIT ?) x
+      """;
+
+  private static final String AUTHOR_HEADS_AFTER_SQL =
+      """
+      SELECT p.author_id, x.article_id, x.created_at
+      FROM unnest(?::bigint[]) AS p(author_id)
+      CROSS JOIN LATERAL (
+          SELECT a.article_id, a.created_at FROM tb_articles a
+          WHERE a.author_id = p.author_id AND a.status = 'PUBLICADO'
+            AND (a.created_at, a.article_id) < (?, ?)
+          ORDER BY a.created_at DESC, a.article_id DESC
+          LIMIT ?) x
+      """;
+
+  /** Só os primeiros {@code limit} de cada autor são ordenados juntos. */
+  private static final String PULL_FIRST_PAGE_SQL =
+      "SELECT article_id, created_at FROM ("
+          + AUTHOR_HEADS_FIRST_SQL
+          + ") h ORDER BY created_at DESC, article_id DESC LIMIT ?";
+
+  private static final String PULL_PAGE_AFTER_SQL =
+      "SELECT article_id, created_at FROM ("
+          + AUTHOR_HEADS_AFTER_SQL
+          + ") h ORDER BY created_at DESC, article_id DESC LIMIT ?";
+
+  private static final String PULL_AUTHORS_FOLLOWED_SQL =
+      """
+      SELECT p.author_id FROM tb_follows f
+      JOIN tb_timeline_pull_authors p ON p.author_id = f.following_id
+      WHERE f.follower_id = ?
+      """;
+
+  private static final String IS_PULL_AUTHOR_SQL =
+      "SELECT EXISTS (SELECT 1 FROM tb_timeline_pull_authors WHERE author_id = ?)";
+
+  private static final String MARK_PULL_AUTHOR_SQL =
+      "INSERT INTO tb_timeline_pull_authors (author_id) VALUES (?) ON CONFLICT DO NOTHING";
+
+  /** Conta no máximo {@code limit} seguidores, para não varrer todos de um autor muito seguido. */
+  private static final String COUNT_FOLLOWERS_UP_TO_SQL =
+      "SELECT count(*) FROM (SELECT 1 FROM tb_follows WHERE following_id = ? LIMIT ?) f";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Insere o artigo na timeline de cada seguidor e devolve os que ainda não o tinham. */
+  public List<Long> pushToFollowers(Long authorId, TimelineEntry entry) {
+    return jdbcTemplate.queryForList(
+        PUSH_SQL, Long.class, entry.articleId(), authorId, entry.createdAt(), authorId);
+  }
+
+  public int trimFollowers(Long authorId, int maxEntries) {
+    return jdbcTemplate.update(TRIM_FOLLOWERS_SQL, maxEntries, authorId);
+  }
+
+  public int trimUser(Long userId, int maxEntries) {
+    return jdbcTemplate.update(TRIM_USER_SQL, userId, maxEntries, userId);
+  }
+
+  /** Traz para a timeline de quem acabou de seguir os artigos mais recentes do autor. */
+  public int backfill(Long userId, Long authorId, int maxEntries) {
+    return jdbcTemplate.update(BACKFILL_SQL, userId, authorId, maxEntries);
+  }
+
+  public int removeAuthor(Long userId, Long authorId) {
+    return jdbcTemplate.update(REMOVE_AUTHOR_SQL, userId, authorId);
+  }
+
+  /** Entradas da timeline depois de {@code after} (ou do início, se nulo), em um range scan. */
+  public List<TimelineEntry> findEntries(Long userId, TimelineEntry after, int limit) {
+    if (after == null) {
+      return jdbcTemplate.query(FIRST_PAGE_SQL, TimelineStore::toEntry, userId, limit);
+    }
+    return jdbcTemplate.query(
+        PAGE_AFTER_SQL,
+        TimelineStore::toEntry,
+        userId,
+        after.createdAt(),
+        after.articleId(),
+        limit);
+  }
+
+  /**
+   * Artigos publicados dos autores informados depois de {@code after}, para o fan-out na leitura.
+   */
+  public List<TimelineEntry> findPulledEntries(
+      Collection<Long> authorIds, TimelineEntry after, int limit) {
+    var authors = authorIds.toArray(Long[]::new);
+    if (after == null) {
+      return jdbcTemplate.query(PULL_FIRST_PAGE_SQL, TimelineStore::toEntry, authors, limit, limit);
+    }
+    return jdbcTemplate.query(
+        PULL_PAGE_AFTER_SQL,
+        TimelineStore::toEntry,
+        authors,
+        after.createdAt(),
+        after.articleId(),
+        limit,
+        limit);
+  }
+
+  /**
+   * Até {@code perAuthor} artigos publicados de cada autor depois de {@code after} (ou do início,
+   * se nulo), agrupados por autor e do mais novo para o mais antigo. Autores sem artigos ficam de
+   * fora.
+   */
+  public Map<Long, List<TimelineEntry>> findAuthorHeads(
+      Collection<Long> authorIds, TimelineEntry after, int perAuthor) {
+    var authors = authorIds.toArray(Long[]::new);
+    var heads = new HashMap<Long, List<TimelineEntry>>();
+    RowCallbackHandler collect =
+        rs ->
+            heads
+                .computeIfAbsent(rs.getLong("author_id"), id -> new ArrayList<>(perAuthor))
+                .add(toEntry(rs, 0));
+    if (after == null) {
+      jdbcTemplate.query(AUTHOR_HEADS_FIRST_SQL, collect, authors, perAuthor);
+    } else {
+      jdbcTemplate.query(
+          AUTHOR_HEADS_AFTER_SQL,
+          collect,
+          authors,
+          after.createdAt(),
+          after.articleId(),
+          perAuthor);
+    }
+    heads.values().forEach(entries -> entries.sort(TimelineEntry.NEWEST_FIRST));
+    return heads;
+  }
+
+  public List<Long> findPullAuthorsFollowedBy(Long userId) {
+    return jdbcTemplate.queryForList(PULL_AUTHORS_FOLLOWED_SQL, Long.class, userId);
+  }
+
+  public boolean isPullAuthor(Long authorId) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(IS_PULL_AUTHOR_SQL, Boolean.class, authorId));
+  }
+
+  public void markPullAuthor(Long authorId) {
+    jdbcTemplate.update(MARK_PULL_AUTHOR_SQL, authorId);
+  }
+
+  public boolean hasMoreFollowersThan(Long authorId, int threshold) {
+    Long counted =
+        jdbcTemplate.queryForObject(COUNT_FOLLOWERS_UP_TO_SQL, Long.class, authorId, threshold + 1);
+    return counted != null && counted > threshold;
+  }
+
+  private static TimelineEntry toEntry(ResultSet rs, int rowNum) throws SQLException {
+    return new TimelineEntry(
+        rs.getLong("article_id"), rs.getTimestamp("created_at").toLocalDateTime());
+  }
+}
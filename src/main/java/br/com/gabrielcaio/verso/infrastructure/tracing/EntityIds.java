@@ -0,0 +1,58 @@
+package br.com.gabrielcaio.verso.infrastructure.tracing;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Resume argumentos e retornos para o log de tracing. O acessor {@code getId()} é resolvido uma vez
+ * por classe e guardado como {@link MethodHandle}, sem reflexão a cada chamada.
+ */
+final class EntityIds {
+
+  private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<Optional<MethodHandle>> ID_ACCESSORS =
+      new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+          try {
+            var getter = type.getMethod("getId");
+            return Optional.of(
+                MethodHandles.publicLookup().unreflect(getter).asType(OBJECT_GETTER));
+          } catch (ReflectiveOperationException | SecurityException e) {
+            return Optional.empty();
+          }
+        }
+      };
+
+  private EntityIds() {}
+
+  static Object describeArguments(Object[] args) {
+    if (args == null || args.length == 0) {
+      return "[]";
+    }
+    return hasId(args[0]) ? describe(args[0]) : Arrays.toString(args);
+  }
+
+  static Object describe(Object value) {
+    if (value == null) {
+      return "null";
+    }
+    var accessor = ID_ACCESSORS.get(value.getClass());
+    if (accessor.isEmpty()) {
+      return value;
+    }
+    try {
+      return "entity-id=" + accessor.get().invokeExact(value);
+    } catch (Throwable e) {
+      return "entity-id=?";
+    }
+  }
+
+  private static boolean hasId(Object value) {
+    return value != null && ID_ACCESSORS.get(value.getClass()).isPresent();
+  }
+}
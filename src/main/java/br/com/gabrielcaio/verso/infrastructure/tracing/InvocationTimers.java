@@ -0,0 +1,77 @@
+package br.com.gabrielcaio.verso.infrastructure.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Timers por componente e método, criados na primeira chamada e reaproveitados depois. A busca no
+ * caminho quente é um {@link ClassValue} + um {@code get} em mapa, sem montar strings nem tags.
+ */
+final class InvocationTimers {
+
+  private final MeterRegistry meterRegistry;
+  private final String metricName;
+  private final String componentTag;
+  private final ClassValue<ComponentTimers> timersByClass;
+
+  InvocationTimers(
+      MeterRegistry meterRegistry,
+      String metricName,
+      String componentTag,
+      Function<Class<?>, String> componentName) {
+    this.meterRegistry = meterRegistry;
+    this.metricName = metricName;
+    this.componentTag = componentTag;
+    this.timersByClass =
+        new ClassValue<>() {
+          @Override
+          protected ComponentTimers computeValue(Class<?> type) {
+            return new ComponentTimers(componentName.apply(type));
+          }
+        };
+  }
+
+  String componentName(Class<?> type) {
+    return timersByClass.get(type).name;
+  }
+
+  MethodTimers forMethod(Class<?> type, Method method) {
+    return timersByClass.get(type).forMethod(method);
+  }
+
+  private final class ComponentTimers {
+
+    private final String name;
+    private final Map<Method, MethodTimers> byMethod = new ConcurrentHashMap<>();
+
+    private ComponentTimers(String name) {
+      this.name = name;
+    }
+
+    private MethodTimers forMethod(Method method) {
+      var timers = byMethod.get(method);
+      if (timers == null) {
+        timers = byMethod.computeIfAbsent(method, this::register);
+      }
+      return timers;
+    }
+
+    private MethodTimers register(Method method) {
+      return new MethodTimers(timer(method, "success"), timer(method, "error"));
+    }
+
+    private Timer timer(Method method, String outcome) {
+      return Timer.builder(metricName)
+          .tag(componentTag, name)
+          .tag("method", method.getName())
+          .tag("outcome", outcome)
+          .register(meterRegistry);
+    }
+  }
+
+  record MethodTimers(Timer success, Timer error) {}
+}
@@ -0,0 +1,77 @@
+package br.com.gabrielcaio.verso.infrastructure.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Mede todos os métodos públicos dos repositórios no timer {@code verso.repository.invocations}
+ * (tags repository, method e outcome). Argumentos e retornos só são formatados com DEBUG ligado.
+ */
+@Aspect
+@Component
+@Slf4j
+public class RepositoryTracingAspect {
+
+  private static final String REPOSITORIES_PACKAGE = "br.com.gabrielcaio.verso.repositories";
+
+  private final InvocationTimers timers;
+
+  public RepositoryTracingAspect(MeterRegistry meterRegistry) {
+    this.timers =
+        new InvocationTimers(
+            meterRegistry,
+            "verso.repository.invocations",
+            "repository",
+            RepositoryTracingAspect::repositoryName);
+  }
+
+  @Around("within(br.com.gabrielcaio.verso.repositories..*) && execution(public * *(..))")
+  public Object traceRepositoryMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+    var type = joinPoint.getThis().getClass();
+    var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    var methodTimers = timers.forMethod(type, method);
+
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "[REPOSITORY CALL] {}.{} | args={}",
+          timers.componentName(type),
+          method.getName(),
+          EntityIds.describeArguments(joinPoint.getArgs()));
+    }
+
+    long start = System.nanoTime();
+    try {
+      Object result = joinPoint.proceed();
+      methodTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+      if (log.isDebugEnabled()) {
+        log.debug(
+            "[REPOSITORY RETURN] {}.{} | result={}",
+            timers.componentName(type),
+            method.getName(),
+            EntityIds.describe(result));
+      }
+      return result;
+    } catch (Throwable ex) {
+      methodTimers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw ex;
+    }
+  }
+
+  /** O bean é um proxy do Spring Data; o nome útil é o da interface do pacote de repositórios. */
+  private static String repositoryName(Class<?> proxyType) {
+    return Arrays.stream(proxyType.getInterfaces())
+        .filter(type -> type.getPackageName().startsWith(REPOSITORIES_PACKAGE))
+        .findFirst()
+        .map(Class::getSimpleName)
+        .orElseGet(() -> ClassUtils.getUserClass(proxyType).getSimpleName());
+  }
+}
@@ -0,0 +1,77 @@
+package br.com.gabrielcaio.verso.infrastructure.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Mede todos os métodos públicos dos services no timer {@code verso.service.invocations} (tags
+ * service, method e outcome). Argumentos e retornos só são formatados com DEBUG ligado.
+ */
+@Aspect
+@Component
+@Slf4j
+public class ServiceTracingAspect {
+
+  private final InvocationTimers timers;
+
+  public ServiceTracingAspect(MeterRegistry meterRegistry) {
+    this.timers =
+        new InvocationTimers(
+            meterRegistry,
+            "verso.service.invocations",
+            "service",
+            type -> ClassUtils.getUserClass(type).getSimpleName());
+  }
+
+  @Around("within(br.com.gabrielcaio.verso.services..*) && execution(public * *(..))")
+  public Object traceServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+    var type = joinPoint.getTarget().getClass();
+    var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    var methodTimers = timers.forMethod(type, method);
+
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "[SERVICE CALL] {}.{} | args={}",
+          timers.componentName(type),
+          method.getName(),
+          EntityIds.describeArguments(joinPoint.getArgs()));
+    }
+
+    long start = System.nanoTime();
+    try {
+      Object result = joinPoint.proceed();
+      long elapsed = System.nanoTime() - start;
+      methodTimers.success().record(elapsed, TimeUnit.NANOSECONDS);
+
+      if (log.isDebugEnabled()) {
+        log.debug(
+            "[SERVICE RETURN] {}.{} | result={} | time={}µs",
+            timers.componentName(type),
+            method.getName(),
+            EntityIds.describe(result),
+            TimeUnit.NANOSECONDS.toMicros(elapsed));
+      }
+      return result;
+    } catch (Throwable ex) {
+      long elapsed = System.nanoTime() - start;
+      methodTimers.error().record(elapsed, TimeUnit.NANOSECONDS);
+
+      if (log.isDebugEnabled()) {
+        log.debug(
+            "[SERVICE ERROR] {}.{} | message={} | time={}µs",
+            timers.componentName(type),
+            method.getName(),
+            ex.getMessage(),
+            TimeUnit.NANOSECONDS.toMicros(elapsed));
+      }
+      throw ex;
+    }
+  }
+}
@@ -27,7 +27,8 @@ public interface ArticleMapper {
   @Mapping(source = "category.name", target = "category")
   CreateArticleResponseDTO toCreateResponse(Article entity);
 
-  @Mapping(source = "category.name", target = "category")
+  /** A categoria é preenchida pelo serviço a partir do cache, sem inicializar o proxy. */
+  @Mapping(target = "category", ignore = true)
   ArticleResponseWithTitleAndStatusAndCategoryName toResponseWithTitleAndStatusAndCategoryName(
       Article article);
 }
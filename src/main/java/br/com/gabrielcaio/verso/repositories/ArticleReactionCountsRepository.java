@@ -0,0 +1,51 @@
+package br.com.gabrielcaio.verso.repositories;
+
+import br.com.gabrielcaio.verso.domain.entity.ArticleReactionCounts;
+import br.com.gabrielcaio.verso.repositories.projection.ArticleReactionStatsRow;
+import br.com.gabrielcaio.verso.repositories.projection.ArticleReactionStatsVersionRow;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArticleReactionCountsRepository
+    extends JpaRepository<ArticleReactionCounts, Long> {
+
+  /**
+   * Lê artigo, contadores e a reação do usuário por chave primária em uma única consulta. Sem linha
+   * de contadores, o artigo ainda não recebeu reações e todos os totais vêm zerados.
+   */
+  @Query(
+      value =
+          """
+          SELECT a.article_id AS articleId, a.title AS articleTitle,
+                 COALESCE(rc.like_count, 0) AS likeCount,
+                 COALESCE(rc.love_count, 0) AS loveCount,
+                 COALESCE(rc.laugh_count, 0) AS laughCount,
+                 COALESCE(rc.wow_count, 0) AS wowCount,
+                 COALESCE(rc.sad_count, 0) AS sadCount,
+                 COALESCE(rc.angry_count, 0) AS angryCount,
+                 ur.type AS userReaction,
+                 a.created_at AS articleCreatedAt, a.updated_at AS articleUpdatedAt,
+                 rc.updated_at AS countsUpdatedAt
+          FROM tb_articles a
+          LEFT JOIN tb_article_reaction_counts rc ON rc.article_id = a.article_id
+          LEFT JOIN tb_reactions ur ON ur.article_id = a.article_id AND ur.user_id = :userId
+          WHERE a.article_id = :articleId
+          """,
+      nativeQuery = true)
+  Optional<ArticleReactionStatsRow> findStats(
+      @Param("articleId") Long articleId, @Param("userId") Long userId);
+
+  /**
+   * Timestamps do artigo e da linha de contadores, que muda a cada flush do {@code
+   * ArticleCounterBuffer} com reações do artigo. Serve de validador para GET condicional de {@link
+   * #findStats}.
+   */
+  @Query(
+      "SELECT a.createdAt AS articleCreatedAt, a.updatedAt AS articleUpdatedAt,"
+          + " rc.updatedAt AS countsUpdatedAt"
+          + " FROM Article a LEFT JOIN ArticleReactionCounts rc ON rc.articleId = a.id"
+          + " WHERE a.id = :articleId")
+  Optional<ArticleReactionStatsVersionRow> findStatsVersion(@Param("articleId") Long articleId);
+}
@@ -2,22 +2,119 @@ package br.com.gabrielcaio.verso.repositories;
 
 import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Category;
-import br.com.gabrielcaio.verso.domain.entity.User;
 import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import br.com.gabrielcaio.verso.repositories.projection.ArticleCountsRow;
+import br.com.gabrielcaio.verso.repositories.projection.ArticleSummaryRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ArticleRepository extends JpaRepository<Article, Long> {
-  Page<Article> findAllByStatus(ArticleStatus articleStatus, Pageable pageable);
+  boolean existsByAuthorIdAndTitleIgnoreCase(Long id, String title);
 
-  Page<Article> findAllByStatusAndAuthor(ArticleStatus articleStatus, User user, Pageable pageable);
+  long countByCategory(Category category);
 
-  boolean existsByAuthorIdAndTitleIgnoreCase(Long id, String title);
+  /**
+   * Move todos os artigos de uma categoria para outra em um único UPDATE, sem carregar as
+   * entidades. O {@code updatedAt} é atualizado aqui porque o UPDATE em massa não passa pelo
+   * {@code @UpdateTimestamp}.
+   */
+  @Modifying
+  @Query(
+      "UPDATE Article a SET a.category = :target, a.updatedAt = LOCAL DATETIME"
+          + " WHERE a.category = :source")
+  int reassignCategory(@Param("source") Category source, @Param("target") Category target);
 
-  List<Article> findAllByCategory(Category category);
+  /**
+   * Mesmo que {@link #reassignCategory}, limitado a {@code limit} artigos, para que a exclusão em
+   * segundo plano avance em transações curtas.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE tb_articles SET category_id = :targetId, updated_at = LOCALTIMESTAMP
+          WHERE article_id IN (
+              SELECT article_id FROM tb_articles WHERE category_id = :sourceId LIMIT :limit)
+          """,
+      nativeQuery = true)
+  int reassignCategoryChunk(
+      @Param("sourceId") Long sourceId,
+      @Param("targetId") Long targetId,
+      @Param("limit") int limit);
 
   Optional<Article> findByTitle(String title);
+
+  /**
+   * Colunas da listagem em uma única consulta com JOIN em categoria e autor, trazendo só os
+   * primeiros {@code excerptLength} caracteres do conteúdo em vez do TEXT inteiro.
+   */
+  String SUMMARY_SELECT =
+      "SELECT a.id AS id, a.title AS title, a.status AS status, c.name AS categoryName,"
+          + " u.username AS authorUsername, substring(a.content, 1, :excerptLength) AS excerpt,"
+          + " a.likesCount AS likesCount, a.commentsCount AS commentsCount,"
+          + " a.createdAt AS createdAt"
+          + " FROM Article a JOIN a.category c JOIN a.author u";
+
+  @Query(SUMMARY_SELECT + " WHERE a.status = :status")
+  Slice<ArticleSummaryRow> findSummariesByStatus(
+      @Param("status") ArticleStatus status,
+      @Param("excerptLength") int excerptLength,
+      Pageable pageable);
+
+  /** Mesmo que {@link #findSummariesByStatus}, restrito aos artigos de um autor. */
+  @Query(SUMMARY_SELECT + " WHERE a.status = :status AND u.id = :authorId")
+  Slice<ArticleSummaryRow> findSummariesByStatusAndAuthorId(
+      @Param("status") ArticleStatus status,
+      @Param("authorId") Long authorId,
+      @Param("excerptLength") int excerptLength,
+      Pageable pageable);
+
+  /** Resumos dos artigos informados, em qualquer ordem; quem chama reordena pelos IDs. */
+  @Query(SUMMARY_SELECT + " WHERE a.id IN :ids AND a.status = :status")
+  List<ArticleSummaryRow> findSummariesByIdInAndStatus(
+      @Param("ids") Collection<Long> ids,
+      @Param("status") ArticleStatus status,
+      @Param("excerptLength") int excerptLength);
+
+  long countByStatus(ArticleStatus status);
+
+  long countByStatusAndAuthorId(ArticleStatus status, Long authorId);
+
+  /**
+   * Primeira página do feed por cursor, sem COUNT. Servida pelo índice (status, created_at, id).
+   */
+  @Query(SUMMARY_SELECT + " WHERE a.status = :status ORDER BY a.createdAt DESC, a.id DESC")
+  List<ArticleSummaryRow> findFeedFirstPage(
+      @Param("status") ArticleStatus status,
+      @Param("excerptLength") int excerptLength,
+      Pageable pageable);
+
+  /**
+   * Páginas seguintes do feed: busca no índice a partir da chave {@code (createdAt, id)} do último
+   * item entregue, com custo constante em qualquer profundidade.
+   */
+  @Query(
+      SUMMARY_SELECT
+          + " WHERE a.status = :status AND (a.createdAt, a.id) < (:createdAt, :id)"
+          + " ORDER BY a.createdAt DESC, a.id DESC")
+  List<ArticleSummaryRow> findFeedAfter(
+      @Param("status") ArticleStatus status,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      @Param("excerptLength") int excerptLength,
+      Pageable pageable);
+
+  /** Só os contadores gravados do artigo, lidos pela chave primária. */
+  @Query(
+      "SELECT a.likesCount AS likesCount, a.commentsCount AS commentsCount FROM Article a"
+          + " WHERE a.id = :id")
+  Optional<ArticleCountsRow> findCountsById(@Param("id") Long id);
 }
@@ -3,19 +3,95 @@ package br.com.gabrielcaio.verso.repositories;
 import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Comment;
 import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.repositories.projection.CommentThreadRow;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
   Page<Comment> findByArticleAndParentIsNullOrderByCreatedAtAsc(Article article, Pageable pageable);
 
   List<Comment> findByParentOrderByCreatedAtAsc(Comment parent);
 
-  Page<Comment> findByArticleOrderByCreatedAtAsc(Article article, Pageable pageable);
+  @Query(
+      value =
+          "SELECT c.id FROM Comment c WHERE c.article.id = :articleId AND c.parent IS NULL"
+              + " ORDER BY c.createdAt ASC")
+  Slice<Long> findRootIdsByArticleId(@Param("articleId") Long articleId, Pageable pageable);
 
-  boolean existsByIdAndAuthor(Long id, User author);
+  @Query("SELECT COUNT(c) FROM Comment c WHERE c.article.id = :articleId AND c.parent IS NULL")
+  long countRootsByArticleId(@Param("articleId") Long articleId);
+
+  /** Ids das respostas diretas de um comentário depois do cursor, em ordem de criação. */
+  @Query(
+      "SELECT c.id FROM Comment c WHERE c.parent.id = :parentId AND c.id > :cursor ORDER BY c.id")
+  List<Long> findChildIdsAfter(
+      @Param("parentId") Long parentId, @Param("cursor") Long cursor, Pageable pageable);
+
+  /**
+   * Threads dos comentários {@code topIds}, em ordem de thread (pré-ordem), até a profundidade
+   * {@code maxDepth}. Cada nó traz no máximo {@code repliesPerNode} respostas diretas, as mais
+   * antigas, lidas pelo índice (parent_id, comment_id), então respostas cortadas não trazem a
+   * própria subárvore. O total de respostas diretas de cada linha vem de uma única contagem
+   * agrupada sobre os nós carregados.
+   */
+  @Query(
+      value =
+          """
+          WITH RECURSIVE thread AS (
+            SELECT c.comment_id, c.depth
+            FROM tb_comments c
+            WHERE c.comment_id IN (:topIds)
+            UNION ALL
+            SELECT r.comment_id, r.depth
+            FROM thread t
+            CROSS JOIN LATERAL (
+              SELECT c.comment_id, c.depth
+              FROM tb_comments c
+              WHERE c.parent_id = t.comment_id
+              ORDER BY c.comment_id
+              LIMIT :repliesPerNode
+            ) r
+            WHERE t.depth < :maxDepth
+          ), reply_counts AS (
+            SELECT c.parent_id, COUNT(*) AS reply_count
+            FROM tb_comments c
+            WHERE c.parent_id IN (SELECT t.comment_id FROM thread t)
+            GROUP BY c.parent_id
+          )
+          SELECT c.comment_id AS id, c.content AS content, c.author_id AS authorId,
+                 u.username AS authorUsername, c.article_id AS articleId,
+                 c.parent_id AS parentId, c.created_at AS createdAt, c.depth AS depth,
+                 c.path AS path, COALESCE(rc.reply_count, 0) AS replyCount
+          FROM thread t
+          JOIN tb_comments c ON c.comment_id = t.comment_id
+          JOIN tb_users u ON u.user_id = c.author_id
+          LEFT JOIN reply_counts rc ON rc.parent_id = c.comment_id
+          ORDER BY c.path
+          """,
+      nativeQuery = true)
+  List<CommentThreadRow> findThreads(
+      @Param("topIds") Collection<Long> topIds,
+      @Param("maxDepth") int maxDepth,
+      @Param("repliesPerNode") int repliesPerNode);
 
-  long countByArticle(Article article);
+  /** Tamanho da subárvore (o próprio comentário incluído) por intervalo do caminho. */
+  @Query(
+      value =
+          "SELECT COUNT(*) FROM tb_comments c WHERE c.article_id = :articleId"
+              + " AND c.path >= :fromPath AND c.path < :toPath",
+      nativeQuery = true)
+  long countByPathRange(
+      @Param("articleId") Long articleId,
+      @Param("fromPath") String fromPath,
+      @Param("toPath") String toPath);
+
+  Slice<Comment> findByArticleOrderByCreatedAtAsc(Article article, Pageable pageable);
+
+  boolean existsByIdAndAuthor(Long id, User author);
 }
@@ -3,9 +3,11 @@ package br.com.gabrielcaio.verso.repositories;
 import br.com.gabrielcaio.verso.domain.entity.Favorite;
 import br.com.gabrielcaio.verso.domain.entity.User;
 import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,9 +19,16 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
   boolean existsByUserAndArticleId(User user, Long articleId);
 
   @Query("SELECT f FROM Favorite f WHERE f.user = :user AND f.article.status = :status")
-  Page<Favorite> findAllByUserAndArticleStatus(
+  Slice<Favorite> findAllByUserAndArticleStatus(
       @Param("user") User user, @Param("status") ArticleStatus status, Pageable pageable);
 
+  @Query("SELECT COUNT(f) FROM Favorite f WHERE f.user = :user AND f.article.status = :status")
+  long countByUserAndArticleStatus(@Param("user") User user, @Param("status") ArticleStatus status);
+
+  /** Só os IDs dos artigos favoritados pelo usuário, para o índice de favoritos em memória. */
+  @Query("SELECT f.article.id FROM Favorite f WHERE f.user.id = :userId")
+  List<Long> findArticleIdsByUserId(@Param("userId") Long userId);
+
   Page<Favorite> findAllByUser(User user, Pageable pageable);
 
   void deleteByUserAndArticleId(User user, Long articleId);
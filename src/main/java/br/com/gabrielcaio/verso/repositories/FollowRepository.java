@@ -2,10 +2,14 @@ package br.com.gabrielcaio.verso.repositories;
 
 import br.com.gabrielcaio.verso.domain.entity.Follow;
 import br.com.gabrielcaio.verso.domain.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,14 +24,28 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
   Page<Follow> findAllByFollowing(User following, Pageable pageable);
 
   @Query("SELECT f.following FROM Follow f WHERE f.follower = :user")
-  Page<User> findFollowingByFollower(@Param("user") User user, Pageable pageable);
+  Slice<User> findFollowingByFollower(@Param("user") User user, Pageable pageable);
+
+  /** Só os IDs de quem o usuário segue, sem carregar os usuários (feed e índice em memória). */
+  @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId")
+  List<Long> findFollowingIdsByFollowerId(@Param("followerId") Long followerId);
 
   @Query("SELECT f.follower FROM Follow f WHERE f.following = :user")
-  Page<User> findFollowersByFollowing(@Param("user") User user, Pageable pageable);
+  Slice<User> findFollowersByFollowing(@Param("user") User user, Pageable pageable);
 
   long countByFollower(User follower);
 
+  /** Dentre {@code userIds}, os que {@code followerId} segue. */
+  @Query(
+      "SELECT f.following.id FROM Follow f"
+          + " WHERE f.follower.id = :followerId AND f.following.id IN :userIds")
+  List<Long> findFollowedAmong(
+      @Param("followerId") Long followerId, @Param("userIds") Collection<Long> userIds);
+
   long countByFollowing(User following);
 
-  void deleteByFollowerAndFollowing(User follower, User following);
+  /** Remove o follow em um DELETE direto e devolve quantas linhas saíram (0 ou 1). */
+  @Modifying
+  @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+  int deleteByIds(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 }
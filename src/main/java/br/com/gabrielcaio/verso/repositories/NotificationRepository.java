@@ -2,8 +2,8 @@ package br.com.gabrielcaio.verso.repositories;
 
 import br.com.gabrielcaio.verso.domain.entity.Notification;
 import br.com.gabrielcaio.verso.domain.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,17 +11,58 @@ import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-  Page<Notification> findAllByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+  Slice<Notification> findAllByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
-  Page<Notification> findAllByUserAndReadOrderByCreatedAtDesc(
+  Slice<Notification> findAllByUserAndReadOrderByCreatedAtDesc(
       User user, boolean read, Pageable pageable);
 
+  long countByUser(User user);
+
   long countByUserAndRead(User user, boolean read);
 
   @Modifying
   @Query("UPDATE Notification n SET n.read = true WHERE n.user = :user AND n.read = false")
   void markAllAsReadByUser(@Param("user") User user);
 
+  /**
+   * Uma notificação para cada seguidor do autor. Seguidores já notificados pelo mesmo evento do
+   * outbox são ignorados, então reentregar o evento não duplica notificações.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO tb_notifications
+            (user_id, article_id, message, read, created_at, outbox_event_id)
+          SELECT f.follower_id, :articleId, :message, false, LOCALTIMESTAMP, :outboxEventId
+          FROM tb_follows f
+          WHERE f.following_id = :authorId
+          ON CONFLICT (outbox_event_id, user_id) DO NOTHING
+          """,
+      nativeQuery = true)
+  int insertForFollowers(
+      @Param("authorId") Long authorId,
+      @Param("articleId") Long articleId,
+      @Param("message") String message,
+      @Param("outboxEventId") Long outboxEventId);
+
+  /** Notificação para um usuário, ignorada se o mesmo evento do outbox já a criou. */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO tb_notifications
+            (user_id, article_id, message, read, created_at, outbox_event_id)
+          VALUES (:userId, :articleId, :message, false, LOCALTIMESTAMP, :outboxEventId)
+          ON CONFLICT (outbox_event_id, user_id) DO NOTHING
+          """,
+      nativeQuery = true)
+  int insertForUser(
+      @Param("userId") Long userId,
+      @Param("articleId") Long articleId,
+      @Param("message") String message,
+      @Param("outboxEventId") Long outboxEventId);
+
   @Modifying
   @Query("UPDATE Notification n SET n.read = true WHERE n.id = :id AND n.user = :user")
   void markAsRead(@Param("id") Long id, @Param("user") User user);
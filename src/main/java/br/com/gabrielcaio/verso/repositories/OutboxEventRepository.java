@@ -0,0 +1,69 @@
+package br.com.gabrielcaio.verso.repositories;
+
+import br.com.gabrielcaio.verso.domain.entity.OutboxEvent;
+import br.com.gabrielcaio.verso.domain.enums.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Trava os próximos eventos prontos. {@code SKIP LOCKED} deixa várias instâncias e workers
+   * drenarem o outbox em paralelo sem pegar o mesmo evento.
+   */
+  @Query(
+      value =
+          """
+          SELECT outbox_event_id FROM tb_outbox_events
+          WHERE status = 'PENDING' AND next_attempt_at <= :now
+          ORDER BY outbox_event_id
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  List<Long> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  /**
+   * Trava o evento para entrega. Se o lease expirou e outro worker pegou o mesmo evento, este
+   * espera o commit do primeiro e não encontra mais o evento como pendente.
+   */
+  @Query(
+      value =
+          """
+          SELECT * FROM tb_outbox_events
+          WHERE outbox_event_id = :id AND status = 'PENDING'
+          FOR UPDATE
+          """,
+      nativeQuery = true)
+  Optional<OutboxEvent> lockPending(@Param("id") Long id);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :leaseUntil WHERE e.id IN :ids")
+  void lease(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  long countByStatus(OutboxStatus status);
+
+  @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = :status")
+  LocalDateTime findOldestCreatedAtByStatus(@Param("status") OutboxStatus status);
+
+  /** Remove até {@code limit} eventos processados antes de {@code before}, dos mais antigos. */
+  @Modifying
+  @Query(
+      value =
+          """
+          DELETE FROM tb_outbox_events
+          WHERE outbox_event_id IN (
+            SELECT outbox_event_id FROM tb_outbox_events
+            WHERE status = 'PROCESSED' AND processed_at < :before
+            ORDER BY processed_at
+            LIMIT :limit
+          )
+          """,
+      nativeQuery = true)
+  int deleteProcessedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
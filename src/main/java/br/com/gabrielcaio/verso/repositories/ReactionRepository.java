@@ -3,10 +3,11 @@ package br.com.gabrielcaio.verso.repositories;
 import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Reaction;
 import br.com.gabrielcaio.verso.domain.entity.User;
-import br.com.gabrielcaio.verso.domain.enums.ReactionType;
+import br.com.gabrielcaio.verso.repositories.projection.ReactionTypeCount;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,17 +18,23 @@ public interface ReactionRepository extends JpaRepository<Reaction, Long> {
 
   boolean existsByUserAndArticle(User user, Article article);
 
-  @Query("SELECT COUNT(r) FROM Reaction r WHERE r.article = :article AND r.type = :type")
-  Long countByArticleAndType(@Param("article") Article article, @Param("type") ReactionType type);
+  /** Totais por tipo em um único agrupamento; tipos sem reações não aparecem no resultado. */
+  @Query(
+      "SELECT r.type AS type, COUNT(r) AS total FROM Reaction r"
+          + " WHERE r.article.id = :articleId GROUP BY r.type")
+  List<ReactionTypeCount> countByTypeForArticle(@Param("articleId") Long articleId);
 
   @Query("SELECT COUNT(r) FROM Reaction r WHERE r.article = :article")
   Long countByArticle(@Param("article") Article article);
 
+  @Query("SELECT COUNT(r) FROM Reaction r WHERE r.user = :user")
+  Long countByUser(@Param("user") User user);
+
   @Query("SELECT r FROM Reaction r WHERE r.article = :article")
-  Page<Reaction> findAllByArticle(@Param("article") Article article, Pageable pageable);
+  Slice<Reaction> findAllByArticle(@Param("article") Article article, Pageable pageable);
 
   @Query("SELECT r FROM Reaction r WHERE r.user = :user")
-  Page<Reaction> findAllByUser(@Param("user") User user, Pageable pageable);
+  Slice<Reaction> findAllByUser(@Param("user") User user, Pageable pageable);
 
   void deleteByUserAndArticle(User user, Article article);
 }
@@ -1,13 +1,89 @@
 package br.com.gabrielcaio.verso.repositories;
 
 import br.com.gabrielcaio.verso.domain.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByUsername(String username);
 
   boolean existsByEmail(String email);
 
+  /**
+   * Consulta leve usada pelo cache de autenticação para não aceitar credenciais de contas
+   * desativadas.
+   */
+  boolean existsByUsernameAndEnabledTrue(String username);
+
   Optional<User> findByEmail(String mail);
+
+  Slice<User> findAllBy(Pageable pageable);
+
+  /**
+   * Soma {@code delta} ao following_count de quem segue e ao followers_count de quem é seguido em
+   * um único UPDATE atômico, sem deixar contador negativo. As duas linhas são travadas pelo mesmo
+   * scan em qualquer transação, então follows cruzados simultâneos não entram em deadlock.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE tb_users SET
+            following_count = GREATEST(
+              following_count + CASE WHEN user_id = :followerId THEN :delta ELSE 0 END, 0),
+            followers_count = GREATEST(
+              followers_count + CASE WHEN user_id = :followingId THEN :delta ELSE 0 END, 0)
+          WHERE user_id IN (:followerId, :followingId)
+          """,
+      nativeQuery = true)
+  void addFollowCounts(
+      @Param("followerId") Long followerId,
+      @Param("followingId") Long followingId,
+      @Param("delta") long delta);
+
+  /**
+   * Trava as linhas dos próximos {@code chunkSize} usuários depois de {@code afterId}, em ordem de
+   * ID. Com as linhas travadas, um follow/unfollow concorrente ou já comitou seu incremento ou
+   * espera o fim da transação do lote.
+   */
+  @Query(
+      value =
+          """
+          SELECT user_id FROM tb_users WHERE user_id > :afterId
+          ORDER BY user_id LIMIT :chunkSize FOR UPDATE
+          """,
+      nativeQuery = true)
+  List<Long> lockFollowCountsChunk(
+      @Param("afterId") long afterId, @Param("chunkSize") int chunkSize);
+
+  /**
+   * Recalcula os contadores dos usuários informados a partir de tb_follows e grava só as linhas que
+   * divergem. Deve rodar na mesma transação de {@link #lockFollowCountsChunk}, em um statement
+   * separado: sob READ COMMITTED ele tira um snapshot novo, que já inclui os follows comitados
+   * enquanto o lock era obtido.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE tb_users u SET followers_count = a.followers, following_count = a.following
+          FROM (
+            SELECT c.user_id,
+                   (SELECT count(*) FROM tb_follows f WHERE f.following_id = c.user_id) AS followers,
+                   (SELECT count(*) FROM tb_follows f WHERE f.follower_id = c.user_id) AS following
+            FROM tb_users c
+            WHERE c.user_id IN (:userIds)
+          ) a
+          WHERE u.user_id = a.user_id
+            AND (u.followers_count, u.following_count) IS DISTINCT FROM (a.followers, a.following)
+          """,
+      nativeQuery = true)
+  int reconcileFollowCounts(@Param("userIds") Collection<Long> userIds);
 }
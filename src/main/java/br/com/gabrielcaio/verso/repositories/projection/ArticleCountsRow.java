@@ -0,0 +1,9 @@
+package br.com.gabrielcaio.verso.repositories.projection;
+
+/** Contadores persistidos de um artigo, sem os deltas ainda no buffer. */
+public interface ArticleCountsRow {
+
+  Long getLikesCount();
+
+  Long getCommentsCount();
+}
@@ -0,0 +1,34 @@
+package br.com.gabrielcaio.verso.repositories.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Artigo, contadores de reação e a reação do usuário autenticado, lidos em uma única consulta, com
+ * os timestamps que servem de validador para GET condicional.
+ */
+public interface ArticleReactionStatsRow {
+
+  Long getArticleId();
+
+  String getArticleTitle();
+
+  Long getLikeCount();
+
+  Long getLoveCount();
+
+  Long getLaughCount();
+
+  Long getWowCount();
+
+  Long getSadCount();
+
+  Long getAngryCount();
+
+  String getUserReaction();
+
+  LocalDateTime getArticleCreatedAt();
+
+  LocalDateTime getArticleUpdatedAt();
+
+  LocalDateTime getCountsUpdatedAt();
+}
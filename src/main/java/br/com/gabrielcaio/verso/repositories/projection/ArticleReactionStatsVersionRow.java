@@ -0,0 +1,13 @@
+package br.com.gabrielcaio.verso.repositories.projection;
+
+import java.time.LocalDateTime;
+
+/** Timestamps que mudam as estatísticas de reação de um artigo, sem os contadores. */
+public interface ArticleReactionStatsVersionRow {
+
+  LocalDateTime getArticleCreatedAt();
+
+  LocalDateTime getArticleUpdatedAt();
+
+  LocalDateTime getCountsUpdatedAt();
+}
@@ -0,0 +1,26 @@
+package br.com.gabrielcaio.verso.repositories.projection;
+
+import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import java.time.LocalDateTime;
+
+/** Linha da listagem de artigos: sem o conteúdo completo, só um trecho inicial. */
+public interface ArticleSummaryRow {
+
+  Long getId();
+
+  String getTitle();
+
+  ArticleStatus getStatus();
+
+  String getCategoryName();
+
+  String getAuthorUsername();
+
+  String getExcerpt();
+
+  Long getLikesCount();
+
+  Long getCommentsCount();
+
+  LocalDateTime getCreatedAt();
+}
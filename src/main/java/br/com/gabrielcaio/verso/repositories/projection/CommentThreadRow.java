@@ -0,0 +1,27 @@
+package br.com.gabrielcaio.verso.repositories.projection;
+
+import java.time.LocalDateTime;
+
+/** Linha achatada de uma thread de comentários, já com o username do autor. */
+public interface CommentThreadRow {
+
+  Long getId();
+
+  String getContent();
+
+  Long getAuthorId();
+
+  String getAuthorUsername();
+
+  Long getArticleId();
+
+  Long getParentId();
+
+  LocalDateTime getCreatedAt();
+
+  Integer getDepth();
+
+  String getPath();
+
+  Long getReplyCount();
+}
@@ -0,0 +1,11 @@
+package br.com.gabrielcaio.verso.repositories.projection;
+
+import br.com.gabrielcaio.verso.domain.enums.ReactionType;
+
+/** Total de reações de um tipo, resultado do agrupamento por {@code type}. */
+public interface ReactionTypeCount {
+
+  ReactionType getType();
+
+  Long getTotal();
+}
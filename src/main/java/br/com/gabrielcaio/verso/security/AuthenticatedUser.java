@@ -0,0 +1,36 @@
+package br.com.gabrielcaio.verso.security;
+
+import br.com.gabrielcaio.verso.domain.entity.Roles;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import java.io.Serializable;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal imutável guardado no {@code SecurityContext}. Carrega id e roles do usuário para que os
+ * services não precisem buscar o {@link User} novamente a cada chamada.
+ */
+public record AuthenticatedUser(Long id, String username, Set<String> roles)
+    implements AuthenticatedPrincipal, Serializable {
+
+  public AuthenticatedUser {
+    roles = Set.copyOf(roles);
+  }
+
+  public static AuthenticatedUser from(User user) {
+    return new AuthenticatedUser(
+        user.getId(),
+        user.getUsername(),
+        user.getRoles().stream().map(Roles::getName).collect(Collectors.toSet()));
+  }
+
+  public boolean hasRole(String role) {
+    return roles.contains(role);
+  }
+
+  @Override
+  public String getName() {
+    return username;
+  }
+}
@@ -0,0 +1,81 @@
+package br.com.gabrielcaio.verso.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache de credenciais já verificadas. A chave é um HMAC-SHA256 de usuário + senha calculado com um
+ * segredo aleatório gerado no startup, então nem a senha nem um hash reutilizável dela ficam em
+ * memória. Entradas expiram por TTL e são removidas quando senha ou roles de um usuário mudam.
+ */
+@Slf4j
+@Component
+public class AuthenticationCache {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  private final Cache<String, CachedAuthentication> cache;
+  private final SecretKeySpec secretKey;
+
+  public AuthenticationCache(
+      MeterRegistry meterRegistry,
+      @Value("${verso.security.auth-cache.max-size:10000}") long maxSize,
+      @Value("${verso.security.auth-cache.ttl:5m}") Duration ttl) {
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    this.secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth");
+    log.info("[AUTH CACHE] Inicializado. maxSize={}, ttl={}", maxSize, ttl);
+  }
+
+  public Optional<Authentication> get(String username, String password) {
+    var cached = cache.getIfPresent(keyOf(username, password));
+    return Optional.ofNullable(cached).map(CachedAuthentication::authentication);
+  }
+
+  public void put(String username, String password, Authentication authentication) {
+    cache.put(keyOf(username, password), new CachedAuthentication(username, authentication));
+  }
+
+  /** Remove as credenciais em cache de um usuário (troca de senha, roles, desativação). */
+  public void invalidate(String username) {
+    cache.asMap().values().removeIf(entry -> entry.username().equals(username));
+    log.info("[AUTH CACHE] Credenciais invalidadas para usuário {}", username);
+  }
+
+  /** Remove todas as entradas, usado quando uma role compartilhada por vários usuários muda. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+    log.info("[AUTH CACHE] Todas as credenciais em cache foram invalidadas");
+  }
+
+  private String keyOf(String username, String password) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(secretKey);
+      mac.update(username.getBytes(StandardCharsets.UTF_8));
+      mac.update((byte) 0);
+      return HexFormat.of().formatHex(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC indisponível para o cache de autenticação", e);
+    }
+  }
+
+  private record CachedAuthentication(String username, Authentication authentication) {}
+}
@@ -0,0 +1,82 @@
+package br.com.gabrielcaio.verso.security;
+
+import br.com.gabrielcaio.verso.domain.entity.User;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Envolve o {@code DaoAuthenticationProvider} e só executa o BCrypt + busca do usuário na primeira
+ * vez que um par usuário/senha é visto. Requisições seguintes com as mesmas credenciais são
+ * resolvidas pelo {@link AuthenticationCache}. Um hit ainda confere se a conta continua ativa
+ * ({@code accountActive}, uma consulta leve por username); se foi desativada, a entrada sai do
+ * cache e o delegate decide.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+  private final AuthenticationProvider delegate;
+  private final AuthenticationCache authenticationCache;
+  private final Predicate<String> accountActive;
+
+  @Override
+  public Authentication authenticate(Authentication authentication) {
+    if (authentication.getCredentials() == null) {
+      return delegate.authenticate(authentication);
+    }
+
+    String username = authentication.getName();
+    String password = authentication.getCredentials().toString();
+
+    var cached = authenticationCache.get(username, password);
+    if (cached.isPresent()) {
+      if (accountActive.test(username)) {
+        log.debug("[AUTH CACHE] Hit para usuário {}", username);
+        return copyOf(cached.get(), authentication);
+      }
+      log.info("[AUTH CACHE] Usuário {} não está mais ativo. Entrada descartada", username);
+      authenticationCache.invalidate(username);
+    }
+
+    log.debug("[AUTH CACHE] Miss para usuário {}. Verificando senha", username);
+    Authentication result = delegate.authenticate(authentication);
+    if (result == null || !result.isAuthenticated()) {
+      return result;
+    }
+
+    var snapshot =
+        UsernamePasswordAuthenticationToken.authenticated(
+            principalOf(result), null, result.getAuthorities());
+    authenticationCache.put(username, password, snapshot);
+    return copyOf(snapshot, authentication);
+  }
+
+  @Override
+  public boolean supports(Class<?> authentication) {
+    return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+  }
+
+  /** Guarda id e roles junto do principal para que os services não consultem o usuário de novo. */
+  private Object principalOf(Authentication result) {
+    if (result.getPrincipal() instanceof User user) {
+      return AuthenticatedUser.from(user);
+    }
+    return result.getName();
+  }
+
+  /**
+   * O {@code ProviderManager} apaga credenciais do resultado, então cada requisição recebe uma
+   * cópia própria em vez da instância compartilhada do cache.
+   */
+  private Authentication copyOf(Authentication cached, Authentication request) {
+    var token =
+        UsernamePasswordAuthenticationToken.authenticated(
+            cached.getPrincipal(), null, cached.getAuthorities());
+    token.setDetails(request.getDetails());
+    return token;
+  }
+}
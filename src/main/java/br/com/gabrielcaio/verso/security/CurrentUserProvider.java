@@ -0,0 +1,67 @@
+package br.com.gabrielcaio.verso.security;
+
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Resolve o usuário autenticado uma única vez por requisição. Quando o principal já é um {@link
+ * AuthenticatedUser} (HTTP Basic em cache ou Bearer token) nenhuma consulta é feita; caso contrário
+ * o usuário é buscado pelo username apenas na primeira chamada da requisição.
+ */
+@Slf4j
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUserProvider {
+
+  private final UserRepository userRepository;
+
+  private AuthenticatedUser current;
+
+  public AuthenticatedUser get() {
+    if (current == null) {
+      current = resolve();
+    }
+    return current;
+  }
+
+  /**
+   * Referência JPA ao usuário autenticado, para associar entidades ou filtrar consultas pelo
+   * usuário sem disparar SELECT em {@code tb_users}.
+   */
+  public User getReference() {
+    return userRepository.getReferenceById(get().id());
+  }
+
+  private AuthenticatedUser resolve() {
+    var authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()) {
+      throw new AuthenticationCredentialsNotFoundException("Usuário não autenticado");
+    }
+
+    return switch (authentication.getPrincipal()) {
+      case AuthenticatedUser user -> user;
+      case User user -> AuthenticatedUser.from(user);
+      default -> {
+        var username = authentication.getName();
+        log.info("[CurrentUser] Buscando usuário autenticado: {}", username);
+        yield userRepository
+            .findByUsername(username)
+            .map(AuthenticatedUser::from)
+            .orElseThrow(
+                () -> {
+                  log.warn(
+                      "[CurrentUser] Usuário autenticado '{}' não encontrado no banco", username);
+                  return new EntityNotFoundException("Usuário não encontrado");
+                });
+      }
+    };
+  }
+}
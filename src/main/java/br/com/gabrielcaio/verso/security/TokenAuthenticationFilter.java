@@ -0,0 +1,62 @@
+package br.com.gabrielcaio.verso.security;
+
+import br.com.gabrielcaio.verso.security.TokenService.TokenType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Autentica requisições com {@code Authorization: Bearer <token>} apenas verificando o HMAC do
+ * token, sem BCrypt e sem consulta ao banco. Requisições sem Bearer seguem para o HTTP Basic.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final TokenService tokenService;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+    if (header != null && header.startsWith(BEARER_PREFIX)) {
+      tokenService
+          .verify(header.substring(BEARER_PREFIX.length()).trim(), TokenType.ACCESS)
+          .ifPresentOrElse(
+              claims -> {
+                var authorities = claims.roles().stream().map(SimpleGrantedAuthority::new).toList();
+                var principal =
+                    new AuthenticatedUser(
+                        claims.userId(), claims.username(), Set.copyOf(claims.roles()));
+                var authentication =
+                    UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+                authentication.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request));
+                var context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+              },
+              () -> {
+                log.debug("[TOKEN] Bearer token rejeitado em {}", request.getRequestURI());
+                SecurityContextHolder.clearContext();
+              });
+    }
+
+    filterChain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,192 @@
+package br.com.gabrielcaio.verso.security;
+
+import br.com.gabrielcaio.verso.domain.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emite e valida tokens assinados com HMAC-SHA256 no formato JWT (HS256). A validação não consulta
+ * o banco: id, username e roles do usuário viajam no próprio token.
+ */
+@Slf4j
+@Component
+public class TokenService {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+  private static final String HEADER =
+      ENCODER.encodeToString(
+          "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+  private final ObjectMapper objectMapper;
+  private final Mac macPrototype;
+  private final Duration accessTokenTtl;
+  private final Duration refreshTokenTtl;
+  private final Clock clock;
+
+  public TokenService(
+      ObjectMapper objectMapper,
+      @Value("${verso.security.token.secret:}") String secret,
+      @Value("${verso.security.token.access-ttl:15m}") Duration accessTokenTtl,
+      @Value("${verso.security.token.refresh-ttl:7d}") Duration refreshTokenTtl) {
+    this.objectMapper = objectMapper;
+    this.accessTokenTtl = accessTokenTtl;
+    this.refreshTokenTtl = refreshTokenTtl;
+    this.clock = Clock.systemUTC();
+    this.macPrototype = createMac(secretBytes(secret));
+  }
+
+  public TokenPair issue(User user) {
+    Instant now = clock.instant();
+    List<String> roles = user.getRoles().stream().map(role -> role.getName()).toList();
+
+    String accessToken = sign(user, roles, TokenType.ACCESS, now, accessTokenTtl);
+    String refreshToken = sign(user, roles, TokenType.REFRESH, now, refreshTokenTtl);
+
+    return new TokenPair(accessToken, refreshToken, accessTokenTtl.toSeconds());
+  }
+
+  /** Valida assinatura, tipo e expiração. Retorna vazio para qualquer token inválido. */
+  public Optional<TokenClaims> verify(String token, TokenType expectedType) {
+    int firstDot = token.indexOf('.');
+    int lastDot = token.lastIndexOf('.');
+    if (firstDot <= 0 || lastDot == firstDot) {
+      return Optional.empty();
+    }
+
+    byte[] expected = hmac(token.substring(0, lastDot));
+    byte[] actual;
+    try {
+      actual = DECODER.decode(token.substring(lastDot + 1));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    if (!MessageDigest.isEqual(expected, actual)) {
+      log.debug("[TOKEN] Assinatura inválida");
+      return Optional.empty();
+    }
+
+    try {
+      var payload = objectMapper.readTree(DECODER.decode(token.substring(firstDot + 1, lastDot)));
+      var claims =
+          new TokenClaims(
+              Long.valueOf(payload.path("sub").asText()),
+              payload.path("username").asText(),
+              objectMapper.convertValue(
+                  payload.path("roles"),
+                  objectMapper.getTypeFactory().constructCollectionType(List.class, String.class)),
+              TokenType.fromClaim(payload.path("typ").asText()),
+              Instant.ofEpochSecond(payload.path("exp").asLong()));
+
+      if (claims.type() != expectedType) {
+        log.debug("[TOKEN] Tipo inesperado. esperado={}, recebido={}", expectedType, claims.type());
+        return Optional.empty();
+      }
+      if (!claims.expiresAt().isAfter(clock.instant())) {
+        log.debug("[TOKEN] Token expirado para usuário {}", claims.username());
+        return Optional.empty();
+      }
+      return Optional.of(claims);
+    } catch (Exception e) {
+      log.debug("[TOKEN] Payload inválido: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private String sign(
+      User user, List<String> roles, TokenType type, Instant issuedAt, Duration ttl) {
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("sub", String.valueOf(user.getId()));
+    payload.put("username", user.getUsername());
+    payload.put("roles", roles);
+    payload.put("typ", type.claim());
+    payload.put("iat", issuedAt.getEpochSecond());
+    payload.put("exp", issuedAt.plus(ttl).getEpochSecond());
+
+    try {
+      String signingInput =
+          HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+      return signingInput + "." + ENCODER.encodeToString(hmac(signingInput));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Falha ao serializar token", e);
+    }
+  }
+
+  private byte[] hmac(String signingInput) {
+    try {
+      Mac mac = (Mac) macPrototype.clone();
+      return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException("HMAC não suporta clone", e);
+    }
+  }
+
+  private static byte[] secretBytes(String secret) {
+    if (secret == null || secret.isBlank()) {
+      log.warn(
+          "[TOKEN] verso.security.token.secret não configurado. Usando segredo aleatório: "
+              + "tokens deixam de valer após reinício e não são aceitos por outras instâncias");
+      byte[] random = new byte[32];
+      new SecureRandom().nextBytes(random);
+      return random;
+    }
+    return secret.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Mac createMac(byte[] secret) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC indisponível para emissão de tokens", e);
+    }
+  }
+
+  public enum TokenType {
+    ACCESS("access"),
+    REFRESH("refresh");
+
+    private final String claim;
+
+    TokenType(String claim) {
+      this.claim = claim;
+    }
+
+    public String claim() {
+      return claim;
+    }
+
+    static TokenType fromClaim(String claim) {
+      for (TokenType type : values()) {
+        if (type.claim.equals(claim)) {
+          return type;
+        }
+      }
+      throw new IllegalArgumentException("Tipo de token desconhecido: " + claim);
+    }
+  }
+
+  public record TokenClaims(
+      Long userId, String username, List<String> roles, TokenType type, Instant expiresAt) {}
+
+  public record TokenPair(String accessToken, String refreshToken, long expiresIn) {}
+}
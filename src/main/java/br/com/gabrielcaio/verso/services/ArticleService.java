@@ -3,23 +3,44 @@ package br.com.gabrielcaio.verso.services;
 import br.com.gabrielcaio.verso.controllers.error.BusinessException;
 import br.com.gabrielcaio.verso.controllers.error.DataBaseException;
 import br.com.gabrielcaio.verso.controllers.error.ResourceNotFoundException;
+import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Category;
 import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import br.com.gabrielcaio.verso.domain.enums.OutboxEventType;
 import br.com.gabrielcaio.verso.dtos.ArticleResponseWithTitleAndStatusAndCategoryName;
+import br.com.gabrielcaio.verso.dtos.ArticleSummaryDTO;
 import br.com.gabrielcaio.verso.dtos.CreateArticleRequestDTO;
 import br.com.gabrielcaio.verso.dtos.CreateArticleResponseDTO;
+import br.com.gabrielcaio.verso.dtos.CursorPageDTO;
 import br.com.gabrielcaio.verso.dtos.UpdateArticleRequestDTO;
+import br.com.gabrielcaio.verso.infrastructure.counters.ArticleCounterBuffer;
 import br.com.gabrielcaio.verso.mappers.ArticleMapper;
 import br.com.gabrielcaio.verso.repositories.ArticleRepository;
 import br.com.gabrielcaio.verso.repositories.CategoryRepository;
+import br.com.gabrielcaio.verso.repositories.projection.ArticleSummaryRow;
+import br.com.gabrielcaio.verso.security.CurrentUserProvider;
+import br.com.gabrielcaio.verso.services.cache.ArticleDetailCache;
+import br.com.gabrielcaio.verso.services.cache.CategoryCache;
+import br.com.gabrielcaio.verso.services.pagination.KeysetCursor;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
+import br.com.gabrielcaio.verso.services.versioning.ContentVersions;
+import br.com.gabrielcaio.verso.services.versioning.ResourceVersion;
 import br.com.gabrielcaio.verso.validator.ArticleCreateValidator;
 import br.com.gabrielcaio.verso.validator.ArticleDeleteValidator;
 import br.com.gabrielcaio.verso.validator.ArticleUpdateValidator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,58 +49,138 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ArticleService {
 
-  private final UserService userService;
+  private final CurrentUserProvider currentUserProvider;
   private final ArticleRepository articleRepository;
   private final CategoryRepository categoryRepository;
+  private final CategoryCache categoryCache;
+  private final ArticleDetailCache articleDetailCache;
   private final CategoryService categoryService;
   private final ArticleMapper articleMapper;
   private final ArticleUpdateValidator articleUpdateValidator;
   private final ArticleCreateValidator articleCreateValidator;
   private final ArticleDeleteValidator articleDeleteValidator;
-  private final NotificationService notificationService;
+  private final OutboxService outboxService;
+  private final ArticleCounterBuffer articleCounterBuffer;
+  private final PageTotals pageTotals;
+  private final ContentVersions contentVersions;
+
+  @Value("${verso.articles.excerpt-length:200}")
+  private int excerptLength;
 
   @Transactional(readOnly = true)
-  public Page<ArticleResponseWithTitleAndStatusAndCategoryName> findAllArticlesPublicados(
-      Pageable pageable) {
+  public Slice<ArticleSummaryDTO> findAllArticlesPublicados(Pageable pageable, boolean withTotal) {
     log.info(
         "Buscando artigos PUBLICADOS com paginação page={} size={}",
         pageable.getPageNumber(),
         pageable.getPageSize());
 
-    var articlesPage = articleRepository.findAllByStatus(ArticleStatus.PUBLICADO, pageable);
+    var articlesSlice =
+        articleRepository.findSummariesByStatus(
+            ArticleStatus.PUBLICADO, excerptLength + 1, pageable);
+
+    log.info(
+        "Encontrados {} artigos publicados na página, hasNext={}",
+        articlesSlice.getNumberOfElements(),
+        articlesSlice.hasNext());
+    return pageTotals.complete(
+        articlesSlice.map(this::toSummary),
+        withTotal,
+        "articles:published",
+        () -> articleRepository.countByStatus(ArticleStatus.PUBLICADO));
+  }
 
-    log.info("Encontrados {} artigos publicados", articlesPage.getTotalElements());
-    return articlesPage.map(articleMapper::toResponseWithTitleAndStatusAndCategoryName);
+  @Transactional(readOnly = true)
+  public CursorPageDTO<ArticleSummaryDTO> findPublishedFeed(String cursor, int size) {
+    int pageSize = Math.clamp(size, 1, 100);
+    log.info("Buscando feed de artigos PUBLICADOS por cursor. size={}", pageSize);
+
+    var limit = PageRequest.of(0, pageSize + 1);
+    var rows =
+        cursor == null || cursor.isBlank()
+            ? articleRepository.findFeedFirstPage(ArticleStatus.PUBLICADO, excerptLength + 1, limit)
+            : findFeedAfter(KeysetCursor.decode(cursor), limit);
+
+    boolean hasNext = rows.size() > pageSize;
+    var page = hasNext ? rows.subList(0, pageSize) : rows;
+    var last = page.isEmpty() ? null : page.getLast();
+    var nextCursor = hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null;
+
+    return new CursorPageDTO<>(page.stream().map(this::toSummary).toList(), nextCursor, hasNext);
   }
 
+  /**
+   * Resumos dos artigos PUBLICADOS informados, na ordem dos IDs, em uma consulta. IDs de artigos
+   * excluídos ou que deixaram de estar publicados ficam de fora.
+   */
   @Transactional(readOnly = true)
-  public Page<ArticleResponseWithTitleAndStatusAndCategoryName> findAllArticlesRascunho(
-      Pageable pageable) {
+  public List<ArticleSummaryDTO> findPublishedSummaries(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    var byId =
+        articleRepository
+            .findSummariesByIdInAndStatus(ids, ArticleStatus.PUBLICADO, excerptLength + 1)
+            .stream()
+            .collect(Collectors.toMap(ArticleSummaryRow::getId, Function.identity()));
+    return ids.stream().map(byId::get).filter(Objects::nonNull).map(this::toSummary).toList();
+  }
 
-    var currentUser = userService.getCurrentUser();
+  private List<ArticleSummaryRow> findFeedAfter(KeysetCursor cursor, Pageable limit) {
+    return articleRepository.findFeedAfter(
+        ArticleStatus.PUBLICADO, cursor.createdAt(), cursor.id(), excerptLength + 1, limit);
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<ArticleSummaryDTO> findAllArticlesRascunho(Pageable pageable, boolean withTotal) {
+
+    var currentUser = currentUserProvider.get();
     log.info(
         "Buscando rascunhos do usuário id={} username={}",
-        currentUser.getId(),
-        currentUser.getUsername());
+        currentUser.id(),
+        currentUser.username());
 
-    var articlesPage =
-        articleRepository.findAllByStatusAndAuthor(ArticleStatus.RASCUNHO, currentUser, pageable);
+    var articlesSlice =
+        articleRepository.findSummariesByStatusAndAuthorId(
+            ArticleStatus.RASCUNHO, currentUser.id(), excerptLength + 1, pageable);
 
     log.info(
-        "Encontrados {} artigos rascunho do usuário {}",
-        articlesPage.getTotalElements(),
-        currentUser.getUsername());
-    return articlesPage.map(articleMapper::toResponseWithTitleAndStatusAndCategoryName);
+        "Encontrados {} artigos rascunho do usuário {} na página, hasNext={}",
+        articlesSlice.getNumberOfElements(),
+        currentUser.username(),
+        articlesSlice.hasNext());
+    return pageTotals.complete(
+        articlesSlice.map(this::toSummary),
+        withTotal,
+        "articles:drafts:" + currentUser.id(),
+        () -> articleRepository.countByStatusAndAuthorId(ArticleStatus.RASCUNHO, currentUser.id()));
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * Artigos publicados vêm do {@link ArticleDetailCache}. Sem {@code @Transactional}: um acerto no
+   * cache não abre transação nem ocupa conexão; as cargas usam a transação do repositório.
+   */
   public ArticleResponseWithTitleAndStatusAndCategoryName findById(Long id) {
 
     log.info("Buscando artigo por id={}", id);
 
+    // Quem faz a carga do cache guarda o artigo lido: um rascunho não fica em cache, mas também não
+    // é lido de novo abaixo
+    var loaded = new AtomicReference<Optional<Article>>();
+    var published =
+        articleDetailCache.findPublished(
+            id,
+            key -> {
+              loaded.set(articleRepository.findById(key));
+              return loaded.get();
+            });
+    if (published.isPresent()) {
+      log.info("Artigo id={} retornado (status PUBLICADO)", id);
+      return published.get();
+    }
+
     var article =
-        articleRepository
-            .findById(id)
+        Optional.ofNullable(loaded.get())
+            .orElseGet(() -> articleRepository.findById(id))
             .orElseThrow(
                 () -> {
                   log.warn("Artigo id={} não encontrado", id);
@@ -88,28 +189,44 @@ public class ArticleService {
 
     if (article.getStatus() == ArticleStatus.PUBLICADO) {
       log.info("Artigo id={} retornado (status PUBLICADO)", id);
-      return articleMapper.toResponseWithTitleAndStatusAndCategoryName(article);
+      return toResponse(article);
     }
 
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
     log.debug(
         "Artigo id={} é RASCUNHO, verificando autorização. Autor={}, Usuário Atual={}",
         id,
         article.getAuthor().getId(),
-        currentUser.getId());
+        currentUser.id());
 
-    if (article.getAuthor().getId().equals(currentUser.getId())) {
+    if (article.getAuthor().getId().equals(currentUser.id())) {
       log.info("Acesso permitido ao rascunho id={}", id);
-      return articleMapper.toResponseWithTitleAndStatusAndCategoryName(article);
+      return toResponse(article);
     }
 
     log.warn(
         "Usuário id={} tentou acessar rascunho que não é dele (artigo id={})",
-        currentUser.getId(),
+        currentUser.id(),
         id);
     throw new ResourceNotFoundException("O Autor não tem artigo com esse id");
   }
 
+  /**
+   * Validadores para GET condicional do artigo, tirados do {@link ArticleDetailCache} sem montar o
+   * corpo. Só artigos publicados têm versão; rascunhos sempre seguem a leitura completa.
+   */
+  public Optional<ResourceVersion> findPublishedVersion(Long id) {
+    return articleDetailCache.findPublishedVersion(id, articleRepository::findById);
+  }
+
+  /**
+   * Versão das listagens de artigos publicados (página e feed), sem consultar os artigos. Os
+   * contadores exibidos entram pela janela de {@link ContentVersions#withCounters}.
+   */
+  public ResourceVersion findPublishedListingVersion() {
+    return contentVersions.withCounters(ContentVersions.ARTICLES);
+  }
+
   @Transactional
   public ArticleResponseWithTitleAndStatusAndCategoryName update(
       Long id, UpdateArticleRequestDTO updated) {
@@ -125,8 +242,8 @@ public class ArticleService {
                   return new ResourceNotFoundException("Artigo não encontrado");
                 });
 
-    var currentUser = userService.getCurrentUser();
-    log.debug("Validando atualização. Artigo={}, Usuário={}", id, currentUser.getUsername());
+    var currentUser = currentUserProvider.get();
+    log.debug("Validando atualização. Artigo={}, Usuário={}", id, currentUser.username());
 
     articleUpdateValidator.validate(article, updated, currentUser);
 
@@ -150,24 +267,23 @@ public class ArticleService {
       log.debug("Atualizando categoria para '{}'", categoryName);
 
       var category =
-          categoryRepository
-              .findByName(categoryName)
-              .orElseGet(() -> safeCreateCategory(categoryName));
+          categoryCache.findByName(categoryName).orElseGet(() -> safeCreateCategory(categoryName));
 
       article.setCategory(category);
     }
 
     article.setStatus(newStatus);
     articleRepository.save(article);
+    articleDetailCache.evict(id);
 
     log.info("Artigo id={} atualizado com sucesso", id);
 
     if (oldStatus == ArticleStatus.RASCUNHO && newStatus == ArticleStatus.PUBLICADO) {
-      log.info("Artigo id={} publicado! Enviando notificações...", id);
-      notificationService.createNotificationForFollowers(article);
+      log.info("Artigo id={} publicado! Agendando notificações...", id);
+      outboxService.publish(OutboxEventType.ARTICLE_PUBLISHED, article.getId());
     }
 
-    return articleMapper.toResponseWithTitleAndStatusAndCategoryName(article);
+    return toResponse(article);
   }
 
   @Transactional
@@ -184,16 +300,15 @@ public class ArticleService {
                   return new ResourceNotFoundException("Artigo com id " + id + " não encontrado");
                 });
 
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
     log.debug(
-        "Validando permissão para excluir artigo id={} do usuário {}",
-        id,
-        currentUser.getUsername());
+        "Validando permissão para excluir artigo id={} do usuário {}", id, currentUser.username());
 
     articleDeleteValidator.validate(article, currentUser);
 
     try {
       articleRepository.delete(article);
+      articleDetailCache.evict(id);
       log.info("Artigo id={} excluído com sucesso", id);
     } catch (DataIntegrityViolationException e) {
       log.error("Erro de integridade ao excluir artigo id={}", id);
@@ -209,23 +324,21 @@ public class ArticleService {
     var article = articleMapper.toEntity(dto);
     log.debug("Artigo mapeado parcialmente (sem autor/categoria)");
 
-    var author = userService.getCurrentUser();
-    log.debug("Autor identificado: id={} username={}", author.getId(), author.getUsername());
+    var author = currentUserProvider.get();
+    log.debug("Autor identificado: id={} username={}", author.id(), author.username());
 
     String categoryName = dto.getCategory().trim().toUpperCase();
     log.debug("Processando categoria '{}'", categoryName);
 
     var category =
-        categoryRepository
-            .findByName(categoryName)
-            .orElseGet(() -> safeCreateCategory(categoryName));
+        categoryCache.findByName(categoryName).orElseGet(() -> safeCreateCategory(categoryName));
 
     log.debug("Categoria final associada: {}", category.getName());
 
     articleCreateValidator.validate(article, author, category);
     log.debug("Validações concluídas para criação de artigo");
 
-    article.setAuthor(author);
+    article.setAuthor(currentUserProvider.getReference());
     article.setCategory(category);
     article.setStatus(parseStatus(dto.getStatus()));
 
@@ -233,8 +346,8 @@ public class ArticleService {
     log.info("Artigo criado com sucesso id={} status={}", article.getId(), article.getStatus());
 
     if (article.getStatus() == ArticleStatus.PUBLICADO) {
-      log.info("Enviando notificações para seguidores do autor {}", author.getUsername());
-      notificationService.createNotificationForFollowers(article);
+      log.info("Agendando notificações para seguidores do autor {}", author.username());
+      outboxService.publish(OutboxEventType.ARTICLE_PUBLISHED, article.getId());
     }
 
     return articleMapper.toCreateResponse(article);
@@ -253,7 +366,9 @@ public class ArticleService {
     log.debug("Criando categoria '{}'", name);
     try {
       var category = Category.builder().name(name).build();
-      return categoryRepository.save(category);
+      category = categoryRepository.save(category);
+      categoryCache.invalidate();
+      return category;
     } catch (DataIntegrityViolationException e) {
       log.warn("Categoria '{}' já existia durante criação concorrente", name);
       return categoryRepository
@@ -261,4 +376,44 @@ public class ArticleService {
           .orElseThrow(() -> new DataBaseException("Falha ao criar categoria"));
     }
   }
+
+  /**
+   * Busca um caractere a mais que o trecho para saber se o conteúdo foi cortado. Contadores somam
+   * os deltas ainda no buffer, como no detalhe do artigo.
+   */
+  private ArticleSummaryDTO toSummary(ArticleSummaryRow row) {
+    var excerpt = row.getExcerpt();
+    if (excerpt != null && excerpt.length() > excerptLength) {
+      excerpt = excerpt.substring(0, excerptLength).stripTrailing() + "...";
+    }
+    var pending = articleCounterBuffer.pending(row.getId());
+    return new ArticleSummaryDTO(
+        row.getId(),
+        row.getTitle(),
+        row.getStatus(),
+        row.getCategoryName(),
+        row.getAuthorUsername(),
+        excerpt,
+        row.getLikesCount() + pending.likes(),
+        row.getCommentsCount() + pending.comments(),
+        row.getCreatedAt());
+  }
+
+  /**
+   * Soma ao valor persistido os likes e comentários que ainda estão no buffer. O nome da categoria
+   * vem do {@link CategoryCache}, sem carregar a categoria do artigo.
+   */
+  private ArticleResponseWithTitleAndStatusAndCategoryName toResponse(Article article) {
+    var response = articleMapper.toResponseWithTitleAndStatusAndCategoryName(article);
+    response.setCategory(categoryCache.nameOf(article.getCategory().getId()));
+    return withPendingCounts(response, article.getId());
+  }
+
+  private ArticleResponseWithTitleAndStatusAndCategoryName withPendingCounts(
+      ArticleResponseWithTitleAndStatusAndCategoryName response, Long articleId) {
+    var pending = articleCounterBuffer.pending(articleId);
+    response.setLikesCount(response.getLikesCount() + pending.likes());
+    response.setCommentsCount(response.getCommentsCount() + pending.comments());
+    return response;
+  }
 }
@@ -0,0 +1,93 @@
+package br.com.gabrielcaio.verso.services;
+
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.dtos.LoginRequestDTO;
+import br.com.gabrielcaio.verso.dtos.RefreshTokenRequestDTO;
+import br.com.gabrielcaio.verso.dtos.TokenResponseDTO;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import br.com.gabrielcaio.verso.security.TokenService;
+import br.com.gabrielcaio.verso.security.TokenService.TokenType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+  private static final String TOKEN_TYPE = "Bearer";
+
+  private final UserRepository userRepository;
+  private final PasswordEncoder passwordEncoder;
+  private final TokenService tokenService;
+
+  /**
+   * Hash comparado quando o usuário não existe ou está desativado, calculado uma vez, como no
+   * {@code DaoAuthenticationProvider}.
+   */
+  private volatile String dummyPasswordHash;
+
+  @Transactional(readOnly = true)
+  public TokenResponseDTO login(LoginRequestDTO dto) {
+    log.info("[AUTH] Tentativa de login. username={}", dto.getUsername());
+
+    var user = userRepository.findByUsername(dto.getUsername()).filter(User::isEnabled);
+
+    // Sem usuário válido a senha ainda é comparada com um hash, para o tempo de resposta não
+    // revelar quais usernames existem
+    var hash = user.map(User::getPassword).orElseGet(this::dummyPasswordHash);
+    if (!passwordEncoder.matches(dto.getPassword(), hash) || user.isEmpty()) {
+      log.warn("[AUTH] Credenciais inválidas. username={}", dto.getUsername());
+      throw new BadCredentialsException("Usuário ou senha inválidos");
+    }
+
+    log.info("[AUTH] Login realizado. userId={}", user.get().getId());
+    return toDto(tokenService.issue(user.get()));
+  }
+
+  /**
+   * Único ponto do fluxo por token que consulta o banco: recarrega o usuário para que roles
+   * alteradas ou contas desativadas sejam refletidas no próximo access token.
+   */
+  @Transactional(readOnly = true)
+  public TokenResponseDTO refresh(RefreshTokenRequestDTO dto) {
+    var claims =
+        tokenService
+            .verify(dto.getRefreshToken(), TokenType.REFRESH)
+            .orElseThrow(
+                () -> {
+                  log.warn("[AUTH] Refresh token inválido ou expirado");
+                  return new BadCredentialsException("Refresh token inválido");
+                });
+
+    var user =
+        userRepository
+            .findById(claims.userId())
+            .filter(User::isEnabled)
+            .orElseThrow(
+                () -> {
+                  log.warn(
+                      "[AUTH] Usuário do refresh token indisponível. userId={}", claims.userId());
+                  return new BadCredentialsException("Refresh token inválido");
+                });
+
+    log.info("[AUTH] Tokens renovados. userId={}", user.getId());
+    return toDto(tokenService.issue(user));
+  }
+
+  private String dummyPasswordHash() {
+    if (dummyPasswordHash == null) {
+      dummyPasswordHash = passwordEncoder.encode("userNotFoundPassword");
+    }
+    return dummyPasswordHash;
+  }
+
+  private TokenResponseDTO toDto(TokenService.TokenPair pair) {
+    return new TokenResponseDTO(
+        pair.accessToken(), pair.refreshToken(), TOKEN_TYPE, pair.expiresIn());
+  }
+}
@@ -1,22 +1,29 @@
 package br.com.gabrielcaio.verso.services;
 
+import br.com.gabrielcaio.verso.controllers.error.BusinessException;
 import br.com.gabrielcaio.verso.controllers.error.DataBaseException;
 import br.com.gabrielcaio.verso.controllers.error.EntityExistsException;
 import br.com.gabrielcaio.verso.controllers.error.ResourceNotFoundException;
-import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Category;
 import br.com.gabrielcaio.verso.dtos.CategoryDTO;
+import br.com.gabrielcaio.verso.dtos.CategoryDeletionJobDTO;
 import br.com.gabrielcaio.verso.dtos.CategoryResponseWithNameDTO;
 import br.com.gabrielcaio.verso.dtos.CreateCategoryRequestDTO;
 import br.com.gabrielcaio.verso.dtos.UpdateCategoryRequestDTO;
+import br.com.gabrielcaio.verso.infrastructure.jobs.CategoryDeletionJobs;
 import br.com.gabrielcaio.verso.repositories.ArticleRepository;
 import br.com.gabrielcaio.verso.repositories.CategoryRepository;
-import java.util.List;
+import br.com.gabrielcaio.verso.services.cache.ArticleDetailCache;
+import br.com.gabrielcaio.verso.services.cache.CategoryCache;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
+import br.com.gabrielcaio.verso.services.versioning.ContentVersions;
+import br.com.gabrielcaio.verso.services.versioning.ResourceVersion;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +36,11 @@ public class CategoryService {
 
   private final CategoryRepository categoryRepository;
   private final ArticleRepository articleRepository;
+  private final PageTotals pageTotals;
+  private final CategoryDeletionJobs categoryDeletionJobs;
+  private final CategoryCache categoryCache;
+  private final ArticleDetailCache articleDetailCache;
+  private final ContentVersions contentVersions;
 
   // ---------------------------------------------------------
   // CREATE
@@ -50,6 +62,7 @@ public class CategoryService {
 
     Category entity = Category.builder().name(name).build();
     entity = categoryRepository.save(entity);
+    categoryCache.invalidate();
 
     log.info(
         "[CATEGORY CREATE] Categoria criada com sucesso. ID: {}, Nome: {}",
@@ -88,6 +101,7 @@ public class CategoryService {
 
     category.setName(newName);
     category = categoryRepository.save(category);
+    categoryCache.invalidate();
 
     log.info(
         "[CATEGORY UPDATE] Categoria atualizada com sucesso. ID: {}, Novo nome: {}", id, newName);
@@ -102,33 +116,25 @@ public class CategoryService {
 
     log.info("[CATEGORY DELETE] Solicitada exclusão da categoria ID: {}", id);
 
-    var categoryToDelete =
-        categoryRepository
-            .findById(id)
-            .orElseThrow(
-                () -> {
-                  log.warn("[CATEGORY DELETE] Categoria ID {} não encontrada para exclusão", id);
-                  return new ResourceNotFoundException("Categoria não encontrada");
-                });
-
+    var categoryToDelete = findForDeletion(id);
     var categoryDefault = getOrCreateDefaultCategory();
-
-    if (categoryDefault.getId().equals(id)) {
-      log.warn("[CATEGORY DELETE] Tentativa de excluir categoria default (ID: {})", id);
-      throw new DataBaseException("A categoria default não pode ser excluída");
+    checkNotDefault(id, categoryDefault);
+    if (categoryDeletionJobs.isRunning(id)) {
+      log.warn("[CATEGORY DELETE] Categoria ID {} já está sendo excluída em segundo plano", id);
+      throw new BusinessException("A categoria já está sendo excluída em segundo plano");
     }
 
-    List<Article> articles = articleRepository.findAllByCategory(categoryToDelete);
+    int moved = articleRepository.reassignCategory(categoryToDelete, categoryDefault);
+    articleDetailCache.evictAll();
     log.info(
-        "[CATEGORY DELETE] Reatribuindo {} artigos para categoria default ({})",
-        articles.size(),
+        "[CATEGORY DELETE] {} artigos reatribuídos para categoria default ({})",
+        moved,
         categoryDefault.getName());
 
-    articles.forEach(a -> a.setCategory(categoryDefault));
-    articleRepository.saveAll(articles);
-
     try {
       categoryRepository.delete(categoryToDelete);
+      categoryRepository.flush();
+      categoryCache.invalidate();
       log.info("[CATEGORY DELETE] Categoria ID {} excluída com sucesso", id);
     } catch (DataIntegrityViolationException e) {
       log.error("[CATEGORY DELETE] Falha ao excluir categoria ID {}. Erro: {}", id, e.getMessage());
@@ -136,6 +142,31 @@ public class CategoryService {
     }
   }
 
+  /**
+   * Exclusão para categorias muito grandes: valida e devolve na hora um job que move os artigos em
+   * lotes e apaga a categoria em segundo plano.
+   */
+  @Transactional
+  public CategoryDeletionJobDTO startDeletion(Long id) {
+    log.info("[CATEGORY DELETE JOB] Solicitada exclusão em segundo plano da categoria ID: {}", id);
+
+    findForDeletion(id);
+    var categoryDefault = getOrCreateDefaultCategory();
+    checkNotDefault(id, categoryDefault);
+
+    return categoryDeletionJobs.submit(id, categoryDefault.getId());
+  }
+
+  public CategoryDeletionJobDTO findDeletionJob(UUID jobId) {
+    return categoryDeletionJobs
+        .find(jobId)
+        .orElseThrow(
+            () -> {
+              log.warn("[CATEGORY DELETE JOB] Job {} não encontrado", jobId);
+              return new ResourceNotFoundException("Job de exclusão não encontrado");
+            });
+  }
+
   // ---------------------------------------------------------
   // FIND BY ID
   // ---------------------------------------------------------
@@ -144,7 +175,7 @@ public class CategoryService {
     log.info("[CATEGORY FIND BY ID] Buscando categoria ID {}", id);
 
     var category =
-        categoryRepository
+        categoryCache
             .findById(id)
             .orElseThrow(
                 () -> {
@@ -160,17 +191,26 @@ public class CategoryService {
   // LIST ALL
   // ---------------------------------------------------------
   @Transactional(readOnly = true)
-  public Page<CategoryResponseWithNameDTO> findAll(Pageable pageable) {
+  public Slice<CategoryResponseWithNameDTO> findAll(Pageable pageable, boolean withTotal) {
     log.info(
         "[CATEGORY FIND ALL] Listando categorias. Página: {}, Tamanho: {}",
         pageable.getPageNumber(),
         pageable.getPageSize());
 
-    var categoriesPage = categoryRepository.findAll(pageable);
+    var categoriesSlice = categoryRepository.findAllBy(pageable);
 
-    log.info("[CATEGORY FIND ALL] Retornando {} categorias", categoriesPage.getNumberOfElements());
+    log.info("[CATEGORY FIND ALL] Retornando {} categorias", categoriesSlice.getNumberOfElements());
 
-    return categoriesPage.map(category -> new CategoryResponseWithNameDTO(category.getName()));
+    return pageTotals.complete(
+        categoriesSlice.map(category -> new CategoryResponseWithNameDTO(category.getName())),
+        withTotal,
+        "categories",
+        categoryRepository::count);
+  }
+
+  /** Versão da listagem de categorias para GET condicional, sem consultar as categorias. */
+  public ResourceVersion findListingVersion() {
+    return contentVersions.current(ContentVersions.CATEGORIES);
   }
 
   // ---------------------------------------------------------
@@ -180,10 +220,27 @@ public class CategoryService {
     return new CategoryDTO(entity.getId(), entity.getName());
   }
 
+  private Category findForDeletion(Long id) {
+    return categoryRepository
+        .findById(id)
+        .orElseThrow(
+            () -> {
+              log.warn("[CATEGORY DELETE] Categoria ID {} não encontrada para exclusão", id);
+              return new ResourceNotFoundException("Categoria não encontrada");
+            });
+  }
+
+  private void checkNotDefault(Long id, Category categoryDefault) {
+    if (categoryDefault.getId().equals(id)) {
+      log.warn("[CATEGORY DELETE] Tentativa de excluir categoria default (ID: {})", id);
+      throw new DataBaseException("A categoria default não pode ser excluída");
+    }
+  }
+
   private Category getOrCreateDefaultCategory() {
     log.debug("[CATEGORY DEFAULT] Verificando existência da categoria default");
 
-    return categoryRepository
+    return categoryCache
         .findByName(DEFAULT_CATEGORY_NAME)
         .orElseGet(
             () -> {
@@ -192,7 +249,7 @@ public class CategoryService {
 
               this.create(new CreateCategoryRequestDTO(DEFAULT_CATEGORY_NAME));
 
-              return categoryRepository
+              return categoryCache
                   .findByName(DEFAULT_CATEGORY_NAME)
                   .orElseThrow(
                       () -> {
@@ -1,18 +1,31 @@
 package br.com.gabrielcaio.verso.services;
 
+import br.com.gabrielcaio.verso.controllers.error.BusinessException;
 import br.com.gabrielcaio.verso.controllers.error.ResourceNotFoundException;
 import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Comment;
+import br.com.gabrielcaio.verso.domain.enums.OutboxEventType;
+import br.com.gabrielcaio.verso.dtos.CommentRepliesResponseDTO;
 import br.com.gabrielcaio.verso.dtos.CommentResponseDTO;
 import br.com.gabrielcaio.verso.dtos.CreateCommentRequestDTO;
 import br.com.gabrielcaio.verso.dtos.ThreadedCommentDTO;
+import br.com.gabrielcaio.verso.infrastructure.counters.ArticleCounterBuffer;
 import br.com.gabrielcaio.verso.repositories.ArticleRepository;
 import br.com.gabrielcaio.verso.repositories.CommentRepository;
-import java.util.stream.Collectors;
+import br.com.gabrielcaio.verso.repositories.projection.CommentThreadRow;
+import br.com.gabrielcaio.verso.security.CurrentUserProvider;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +35,18 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommentService {
 
-  private final UserService userService;
+  private final CurrentUserProvider currentUserProvider;
   private final ArticleRepository articleRepository;
   private final CommentRepository commentRepository;
-  private final NotificationService notificationService;
+  private final OutboxService outboxService;
+  private final ArticleCounterBuffer articleCounterBuffer;
+  private final PageTotals pageTotals;
+
+  @Value("${verso.comments.thread-max-depth:10}")
+  private int threadMaxDepth;
+
+  @Value("${verso.comments.replies-page-size:5}")
+  private int repliesPageSize;
 
   // ---------------------------------------------------------
   // CREATE
@@ -38,7 +59,6 @@ public class CommentService {
         dto.getContent());
 
     var article = getArticle(articleId);
-    var author = userService.getCurrentUser();
 
     Comment parent = null;
 
@@ -60,43 +80,35 @@ public class CommentService {
         log.warn("[COMMENT CREATE] Comentário pai {} pertence a outro artigo", dto.getParentId());
         throw new AccessDeniedException("Comentário pai pertence a outro artigo");
       }
+
+      if (parent.getDepth() >= Comment.MAX_DEPTH) {
+        log.warn(
+            "[COMMENT CREATE] Comentário pai {} já está na profundidade máxima {}",
+            dto.getParentId(),
+            Comment.MAX_DEPTH);
+        throw new BusinessException("Limite de respostas encadeadas atingido");
+      }
     }
 
     var comment =
         Comment.builder()
             .content(dto.getContent().trim())
-            .author(author)
+            .author(currentUserProvider.getReference())
             .article(article)
             .parent(parent)
             .build();
 
     comment = commentRepository.save(comment);
+    // O caminho depende do id gerado no insert; o dirty checking grava no flush
+    comment.assignPath();
     log.info("[COMMENT CREATE] Comentário {} criado com sucesso", comment.getId());
 
-    // Atualiza contador
-    if (article.getCommentsCount() != null) {
-      article.setCommentsCount(article.getCommentsCount() + 1);
-      articleRepository.save(article);
-      log.info(
-          "[COMMENT CREATE] Contador de comentários do artigo {} incrementado para {}",
-          article.getId(),
-          article.getCommentsCount());
-    }
+    // Contador é gravado em lote pelo buffer depois do commit
+    articleCounterBuffer.addComments(article.getId(), 1);
+    log.info("[COMMENT CREATE] Contador de comentários do artigo {} incrementado", article.getId());
 
-    // Notificações
-    try {
-      if (parent == null) {
-        log.info("[COMMENT CREATE] Criando notificação para autor do artigo {}", article.getId());
-        notificationService.createNotificationForArticleComment(article, comment);
-      } else if (!parent.getAuthor().getId().equals(author.getId())) {
-        log.info(
-            "[COMMENT CREATE] Criando notificação de resposta para autor do comentário {}",
-            parent.getId());
-        notificationService.createNotificationForCommentReply(parent, comment);
-      }
-    } catch (Exception e) {
-      log.error("[COMMENT CREATE] Falha ao enviar notificação: {}", e.getMessage());
-    }
+    // Notificações são entregues de forma assíncrona pelo outbox
+    outboxService.publish(OutboxEventType.COMMENT_CREATED, comment.getId());
 
     return toFlatDto(comment);
   }
@@ -104,8 +116,13 @@ public class CommentService {
   // ---------------------------------------------------------
   // LIST FLAT
   // ---------------------------------------------------------
+  /**
+   * O total com {@code withTotal=true} vem do contador desnormalizado do artigo somado aos deltas
+   * ainda no buffer, sem COUNT sobre {@code tb_comments}.
+   */
   @Transactional(readOnly = true)
-  public Page<CommentResponseDTO> listFlatByArticle(Long articleId, Pageable pageable) {
+  public Slice<CommentResponseDTO> listFlatByArticle(
+      Long articleId, Pageable pageable, boolean withTotal) {
     log.info(
         "[COMMENT LIST FLAT] Listando comentários flat do artigo {}. Página: {}",
         articleId,
@@ -113,58 +130,92 @@ public class CommentService {
 
     var article = getArticle(articleId);
 
-    return commentRepository
-        .findByArticleOrderByCreatedAtAsc(article, pageable)
-        .map(this::toFlatDto);
+    var comments = commentRepository.findByArticleOrderByCreatedAtAsc(article, pageable);
+
+    return pageTotals.complete(
+        comments.map(this::toFlatDto),
+        withTotal,
+        "comments:article:" + articleId,
+        () -> article.getCommentsCount() + articleCounterBuffer.pending(articleId).comments());
   }
 
   // ---------------------------------------------------------
   // LIST THREADED
   // ---------------------------------------------------------
   @Transactional(readOnly = true)
-  public Page<ThreadedCommentDTO> listThreadedByArticle(Long articleId, Pageable pageable) {
+  public Slice<ThreadedCommentDTO> listThreadedByArticle(
+      Long articleId, Pageable pageable, boolean withTotal) {
     log.info(
         "[COMMENT LIST THREAD] Listando comentários estruturados do artigo {}. Página: {}",
         articleId,
         pageable.getPageNumber());
 
-    var article = getArticle(articleId);
+    if (!articleRepository.existsById(articleId)) {
+      log.warn("[COMMENT ARTICLE] Artigo {} não encontrado", articleId);
+      throw new ResourceNotFoundException("Artigo não encontrado");
+    }
+
+    var rootIds = commentRepository.findRootIdsByArticleId(articleId, pageable);
+    if (rootIds.isEmpty()) {
+      return pageTotals.complete(
+          new SliceImpl<ThreadedCommentDTO>(List.of(), pageable, false),
+          withTotal,
+          "comments:roots:" + articleId,
+          () -> commentRepository.countRootsByArticleId(articleId));
+    }
+
+    var rows = commentRepository.findThreads(rootIds.getContent(), threadMaxDepth, repliesPageSize);
+    var nodes = buildThreads(rows, 0);
+
+    log.debug(
+        "[COMMENT LIST THREAD] {} raízes e {} comentários carregados para o artigo {}",
+        rootIds.getNumberOfElements(),
+        rows.size(),
+        articleId);
+
+    return pageTotals.complete(
+        rootIds.map(nodes::get),
+        withTotal,
+        "comments:roots:" + articleId,
+        () -> commentRepository.countRootsByArticleId(articleId));
+  }
+
+  // ---------------------------------------------------------
+  // LIST REPLIES
+  // ---------------------------------------------------------
+  @Transactional(readOnly = true)
+  public CommentRepliesResponseDTO listReplies(Long commentId, Long cursor, int size) {
+    log.info(
+        "[COMMENT LIST REPLIES] Listando respostas do comentário {}. Cursor: {}",
+        commentId,
+        cursor);
 
-    var roots =
-        commentRepository.findByArticleAndParentIsNullOrderByCreatedAtAsc(article, pageable);
-
-    return roots.map(
-        root ->
-            new ThreadedCommentDTO(
-                root.getId(),
-                root.getContent(),
-                root.getAuthor().getId(),
-                root.getAuthor().getUsername(),
-                root.getArticle().getId(),
-                root.getCreatedAt(),
-                commentRepository.findByParentOrderByCreatedAtAsc(root).stream()
-                    .map(
-                        child ->
-                            new ThreadedCommentDTO(
-                                child.getId(),
-                                child.getContent(),
-                                child.getAuthor().getId(),
-                                child.getAuthor().getUsername(),
-                                child.getArticle().getId(),
-                                child.getCreatedAt(),
-                                commentRepository.findByParentOrderByCreatedAtAsc(child).stream()
-                                    .map(
-                                        grand ->
-                                            new ThreadedCommentDTO(
-                                                grand.getId(),
-                                                grand.getContent(),
-                                                grand.getAuthor().getId(),
-                                                grand.getAuthor().getUsername(),
-                                                grand.getArticle().getId(),
-                                                grand.getCreatedAt(),
-                                                java.util.List.of()))
-                                    .collect(Collectors.toList())))
-                    .collect(Collectors.toList())));
+    var parent =
+        commentRepository
+            .findById(commentId)
+            .orElseThrow(
+                () -> {
+                  log.warn("[COMMENT LIST REPLIES] Comentário {} não encontrado", commentId);
+                  return new ResourceNotFoundException("Comentário não encontrado");
+                });
+
+    int pageSize = Math.clamp(size, 1, 100);
+    var childIds =
+        commentRepository.findChildIdsAfter(
+            commentId, cursor == null ? 0L : cursor, PageRequest.of(0, pageSize + 1));
+    boolean hasMore = childIds.size() > pageSize;
+    var children = hasMore ? childIds.subList(0, pageSize) : childIds;
+    if (children.isEmpty()) {
+      return new CommentRepliesResponseDTO(List.of(), null);
+    }
+
+    var rows =
+        commentRepository.findThreads(
+            children, parent.getDepth() + 1 + threadMaxDepth, repliesPageSize);
+    var nodes = buildThreads(rows, parent.getDepth() + 1);
+
+    return new CommentRepliesResponseDTO(
+        children.stream().map(nodes::get).toList(), hasMore ? children.getLast() : null);
   }
 
   // ---------------------------------------------------------
@@ -174,7 +225,7 @@ public class CommentService {
   public void delete(Long commentId) {
     log.info("[COMMENT DELETE] Solicitada exclusão do comentário {}", commentId);
 
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
     var comment =
         commentRepository
@@ -185,32 +236,31 @@ public class CommentService {
                   return new ResourceNotFoundException("Comentário não encontrado");
                 });
 
-    var isAuthor = comment.getAuthor().getId().equals(currentUser.getId());
-    var isArticleAuthor = comment.getArticle().getAuthor().getId().equals(currentUser.getId());
+    var isAuthor = comment.getAuthor().getId().equals(currentUser.id());
+    var isArticleAuthor = comment.getArticle().getAuthor().getId().equals(currentUser.id());
 
     if (!isAuthor && !isArticleAuthor) {
       log.warn(
           "[COMMENT DELETE] Usuário {} tentou excluir comentário {} sem permissão",
-          currentUser.getId(),
+          currentUser.id(),
           commentId);
       throw new AccessDeniedException("Você não tem permissão para remover este comentário");
     }
 
-    var article = comment.getArticle();
+    var articleId = comment.getArticle().getId();
+    // Respostas são removidas em cascata, então o contador cai pelo tamanho da subárvore
+    long removed =
+        commentRepository.countByPathRange(
+            articleId, comment.getPath(), Comment.subtreeUpperBound(comment.getPath()));
 
     commentRepository.delete(comment);
     log.info("[COMMENT DELETE] Comentário {} removido com sucesso", commentId);
 
-    if (article.getCommentsCount() != null) {
-      long count = commentRepository.countByArticle(article);
-      article.setCommentsCount(count);
-      articleRepository.save(article);
-
-      log.info(
-          "[COMMENT DELETE] Recalculado contador de comentários do artigo {} para {}",
-          article.getId(),
-          count);
-    }
+    articleCounterBuffer.addComments(articleId, -removed);
+    log.info(
+        "[COMMENT DELETE] Contador de comentários do artigo {} decrementado em {}",
+        articleId,
+        removed);
   }
 
   // ---------------------------------------------------------
@@ -226,6 +276,43 @@ public class CommentService {
             });
   }
 
+  /**
+   * As linhas chegam em ordem de caminho (pré-ordem), então o pai sempre é visto antes dos filhos,
+   * e já limitadas a {@code repliesPageSize} respostas por nó. Nós com mais respostas do que as
+   * carregadas recebem o cursor para o endpoint de respostas: o id da última carregada, ou zero
+   * quando a profundidade máxima cortou todas.
+   */
+  private Map<Long, ThreadedCommentDTO> buildThreads(List<CommentThreadRow> rows, int topDepth) {
+    Map<Long, ThreadedCommentDTO> nodes = new HashMap<>(rows.size() * 2);
+
+    for (CommentThreadRow row : rows) {
+      var node =
+          new ThreadedCommentDTO(
+              row.getId(),
+              row.getContent(),
+              row.getAuthorId(),
+              row.getAuthorUsername(),
+              row.getArticleId(),
+              row.getCreatedAt(),
+              new ArrayList<>(),
+              row.getReplyCount(),
+              null);
+      nodes.put(row.getId(), node);
+
+      if (row.getDepth() > topDepth) {
+        nodes.get(row.getParentId()).getReplies().add(node);
+      }
+    }
+
+    for (var node : nodes.values()) {
+      var replies = node.getReplies();
+      if (node.getReplyCount() > replies.size()) {
+        node.setNextRepliesCursor(replies.isEmpty() ? 0L : replies.getLast().getId());
+      }
+    }
+    return nodes;
+  }
+
   private CommentResponseDTO toFlatDto(Comment c) {
     return new CommentResponseDTO(
         c.getId(),
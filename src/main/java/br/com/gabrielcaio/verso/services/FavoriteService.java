@@ -5,12 +5,18 @@ import br.com.gabrielcaio.verso.controllers.error.ResourceNotFoundException;
 import br.com.gabrielcaio.verso.domain.entity.Favorite;
 import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
 import br.com.gabrielcaio.verso.dtos.FavoriteResponseDTO;
+import br.com.gabrielcaio.verso.infrastructure.membership.FavoriteIndex;
 import br.com.gabrielcaio.verso.repositories.ArticleRepository;
 import br.com.gabrielcaio.verso.repositories.FavoriteRepository;
+import br.com.gabrielcaio.verso.security.CurrentUserProvider;
+import br.com.gabrielcaio.verso.services.cache.CategoryCache;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,17 +25,22 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class FavoriteService {
 
+  private static final int MAX_CHECK_IDS = 100;
+
   private final FavoriteRepository favoriteRepository;
   private final ArticleRepository articleRepository;
-  private final UserService userService;
+  private final CurrentUserProvider currentUserProvider;
+  private final PageTotals pageTotals;
+  private final CategoryCache categoryCache;
+  private final FavoriteIndex favoriteIndex;
 
   @Transactional
   public FavoriteResponseDTO addFavorite(Long articleId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
     log.info(
         "[FAVORITE] Iniciando processo para favoritar artigo. articleId={}, userId={}",
         articleId,
-        currentUser.getId());
+        currentUser.id());
 
     var article =
         articleRepository
@@ -39,7 +50,7 @@ public class FavoriteService {
                   log.warn(
                       "[FAVORITE] Artigo não encontrado ao tentar favoritar. articleId={}, userId={}",
                       articleId,
-                      currentUser.getId());
+                      currentUser.id());
                   return new ResourceNotFoundException("Artigo não encontrado");
                 });
 
@@ -48,15 +59,16 @@ public class FavoriteService {
           "[FAVORITE] Tentativa de favoritar artigo NÃO publicado. articleId={}, status={}, userId={}",
           articleId,
           article.getStatus(),
-          currentUser.getId());
+          currentUser.id());
       throw new BusinessException("Apenas artigos publicados podem ser favoritados");
     }
 
-    if (favoriteRepository.existsByUserAndArticleId(currentUser, articleId)) {
+    if (favoriteRepository.existsByUserAndArticleId(
+        currentUserProvider.getReference(), articleId)) {
       log.warn(
           "[FAVORITE] Artigo já estava favoritado anteriormente. articleId={}, userId={}",
           articleId,
-          currentUser.getId());
+          currentUser.id());
       throw new BusinessException("Este artigo já está nos seus favoritos");
     }
 
@@ -64,84 +76,110 @@ public class FavoriteService {
     log.debug(
         "[FAVORITE] Criando novo favorito no banco. articleId={}, userId={}",
         articleId,
-        currentUser.getId());
+        currentUser.id());
 
     var favorite = new Favorite();
-    favorite.setUser(currentUser);
+    favorite.setUser(currentUserProvider.getReference());
     favorite.setArticle(article);
     favorite = favoriteRepository.save(favorite);
+    favoriteIndex.add(currentUser.id(), articleId);
 
     log.info(
         "[FAVORITE] Artigo favoritado com sucesso. favoriteId={}, articleId={}, userId={}",
         favorite.getId(),
         articleId,
-        currentUser.getId());
+        currentUser.id());
 
     return toDto(favorite);
   }
 
   @Transactional
   public void removeFavorite(Long articleId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
     log.info(
         "[FAVORITE] Iniciando remoção de favorito. articleId={}, userId={}",
         articleId,
-        currentUser.getId());
+        currentUser.id());
 
-    if (!favoriteRepository.existsByUserAndArticleId(currentUser, articleId)) {
+    if (!favoriteRepository.existsByUserAndArticleId(
+        currentUserProvider.getReference(), articleId)) {
       log.warn(
           "[FAVORITE] Tentativa de remover favorito inexistente. articleId={}, userId={}",
           articleId,
-          currentUser.getId());
+          currentUser.id());
       throw new ResourceNotFoundException("Artigo não encontrado nos seus favoritos");
     }
 
-    favoriteRepository.deleteByUserAndArticleId(currentUser, articleId);
+    favoriteRepository.deleteByUserAndArticleId(currentUserProvider.getReference(), articleId);
+    favoriteIndex.remove(currentUser.id(), articleId);
 
     log.info(
         "[FAVORITE] Favorito removido com sucesso. articleId={}, userId={}",
         articleId,
-        currentUser.getId());
+        currentUser.id());
   }
 
   @Transactional(readOnly = true)
-  public Page<FavoriteResponseDTO> findAllFavorites(Pageable pageable) {
-    var currentUser = userService.getCurrentUser();
-    log.debug("[FAVORITE] Buscando favoritos. userId={}, page={}", currentUser.getId(), pageable);
+  public Slice<FavoriteResponseDTO> findAllFavorites(Pageable pageable, boolean withTotal) {
+    var currentUser = currentUserProvider.get();
+    log.debug("[FAVORITE] Buscando favoritos. userId={}, page={}", currentUser.id(), pageable);
 
-    var favoritesPage =
-        favoriteRepository.findAllByUserAndArticleStatus(
-            currentUser, ArticleStatus.PUBLICADO, pageable);
+    var user = currentUserProvider.getReference();
+    var favoritesSlice =
+        favoriteRepository.findAllByUserAndArticleStatus(user, ArticleStatus.PUBLICADO, pageable);
 
     log.info(
-        "[FAVORITE] Favoritos recuperados com sucesso. userId={}, totalElements={}",
-        currentUser.getId(),
-        favoritesPage.getTotalElements());
-
-    return favoritesPage.map(this::toDto);
+        "[FAVORITE] Favoritos recuperados com sucesso. userId={}, itens={}, hasNext={}",
+        currentUser.id(),
+        favoritesSlice.getNumberOfElements(),
+        favoritesSlice.hasNext());
+
+    return pageTotals.complete(
+        favoritesSlice.map(this::toDto),
+        withTotal,
+        "favorites:user:" + currentUser.id(),
+        () -> favoriteRepository.countByUserAndArticleStatus(user, ArticleStatus.PUBLICADO));
   }
 
   @Transactional(readOnly = true)
   public boolean isFavorite(Long articleId) {
-    var currentUser = userService.getCurrentUser();
-    boolean result = favoriteRepository.existsByUserAndArticleId(currentUser, articleId);
+    var currentUser = currentUserProvider.get();
+    boolean result = favoriteIndex.contains(currentUser.id(), articleId);
 
     log.debug(
         "[FAVORITE] isFavorite verificado. articleId={}, userId={}, result={}",
         articleId,
-        currentUser.getId(),
+        currentUser.id(),
         result);
 
     return result;
   }
 
+  /** Para cada ID de artigo, se está nos favoritos do usuário autenticado, na ordem recebida. */
+  @Transactional(readOnly = true)
+  public Map<Long, Boolean> checkFavorites(List<Long> articleIds) {
+    var currentUser = currentUserProvider.get();
+    if (articleIds.size() > MAX_CHECK_IDS) {
+      log.warn(
+          "[FAVORITE] Verificação em lote acima do limite. userId={}, ids={}",
+          currentUser.id(),
+          articleIds.size());
+      throw new BusinessException("Informe no máximo " + MAX_CHECK_IDS + " IDs por verificação");
+    }
+
+    var result = favoriteIndex.containsAll(currentUser.id(), articleIds);
+    log.debug(
+        "[FAVORITE] Verificação em lote. userId={}, ids={}", currentUser.id(), articleIds.size());
+    return result;
+  }
+
   private FavoriteResponseDTO toDto(Favorite favorite) {
     var article = favorite.getArticle();
     return new FavoriteResponseDTO(
         favorite.getId(),
         article.getId(),
         article.getTitle(),
-        article.getCategory().getName(),
+        categoryCache.nameOf(article.getCategory().getId()),
         favorite.getCreatedAt());
   }
 }
@@ -6,12 +6,19 @@ import br.com.gabrielcaio.verso.domain.entity.Follow;
 import br.com.gabrielcaio.verso.domain.entity.User;
 import br.com.gabrielcaio.verso.dtos.FollowResponseDTO;
 import br.com.gabrielcaio.verso.dtos.UserProfileDTO;
+import br.com.gabrielcaio.verso.infrastructure.membership.FollowingIndex;
 import br.com.gabrielcaio.verso.repositories.FollowRepository;
 import br.com.gabrielcaio.verso.repositories.UserRepository;
+import br.com.gabrielcaio.verso.security.CurrentUserProvider;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,17 +27,22 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class FollowService {
 
+  private static final int MAX_CHECK_IDS = 100;
+
   private final FollowRepository followRepository;
   private final UserRepository userRepository;
-  private final UserService userService;
+  private final CurrentUserProvider currentUserProvider;
+  private final PageTotals pageTotals;
+  private final TimelineService timelineService;
+  private final FollowingIndex followingIndex;
 
   @Transactional
   public FollowResponseDTO followUser(Long userId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
     log.info(
         "[FOLLOW] Tentando seguir usuário. followerId={}, followingId={}",
-        currentUser.getId(),
+        currentUser.id(),
         userId);
 
     var userToFollow =
@@ -42,15 +54,16 @@ public class FollowService {
                   return new ResourceNotFoundException("Usuário não encontrado");
                 });
 
-    if (currentUser.getId().equals(userId)) {
+    if (currentUser.id().equals(userId)) {
       log.warn("[FOLLOW] Usuário tentou seguir a si mesmo. userId={}", userId);
       throw new BusinessException("Você não pode seguir a si mesmo");
     }
 
-    if (followRepository.existsByFollowerAndFollowing(currentUser, userToFollow)) {
+    if (followRepository.existsByFollowerAndFollowing(
+        currentUserProvider.getReference(), userToFollow)) {
       log.warn(
           "[FOLLOW] Usuário já estava seguindo. followerId={}, followingId={}",
-          currentUser.getId(),
+          currentUser.id(),
           userId);
       throw new BusinessException("Você já está seguindo este usuário");
     }
@@ -58,18 +71,21 @@ public class FollowService {
     // Criar seguimento
     log.debug(
         "[FOLLOW] Criando relação de follow no banco. followerId={}, followingId={}",
-        currentUser.getId(),
+        currentUser.id(),
         userId);
 
     var follow = new Follow();
-    follow.setFollower(currentUser);
+    follow.setFollower(currentUserProvider.getReference());
     follow.setFollowing(userToFollow);
     follow = followRepository.save(follow);
+    userRepository.addFollowCounts(currentUser.id(), userId, 1);
+    followingIndex.add(currentUser.id(), userId);
+    timelineService.onFollow(currentUser.id(), userId);
 
     log.info(
         "[FOLLOW] Usuário seguido com sucesso. followId={}, followerId={}, followingId={}",
         follow.getId(),
-        currentUser.getId(),
+        currentUser.id(),
         userId);
 
     return toDto(follow);
@@ -77,11 +93,11 @@ public class FollowService {
 
   @Transactional
   public void unfollowUser(Long userId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
     log.info(
         "[FOLLOW] Tentando deixar de seguir usuário. followerId={}, followingId={}",
-        currentUser.getId(),
+        currentUser.id(),
         userId);
 
     var userToUnfollow =
@@ -95,68 +111,83 @@ public class FollowService {
                   return new ResourceNotFoundException("Usuário não encontrado");
                 });
 
-    if (!followRepository.existsByFollowerAndFollowing(currentUser, userToUnfollow)) {
+    // O DELETE decide se havia follow: unfollows simultâneos decrementam os contadores uma vez só
+    if (followRepository.deleteByIds(currentUser.id(), userToUnfollow.getId()) == 0) {
       log.warn(
           "[FOLLOW] Tentativa de desfazer follow inexistente. followerId={}, followingId={}",
-          currentUser.getId(),
+          currentUser.id(),
           userId);
       throw new ResourceNotFoundException("Você não está seguindo este usuário");
     }
 
-    followRepository.deleteByFollowerAndFollowing(currentUser, userToUnfollow);
+    userRepository.addFollowCounts(currentUser.id(), userId, -1);
+    followingIndex.remove(currentUser.id(), userId);
+    timelineService.onUnfollow(currentUser.id(), userId);
 
     log.info(
         "[FOLLOW] Follow removido com sucesso. followerId={}, unfollowedId={}",
-        currentUser.getId(),
+        currentUser.id(),
         userId);
   }
 
   @Transactional(readOnly = true)
-  public Page<UserProfileDTO> getFollowing(Pageable pageable) {
-    var currentUser = userService.getCurrentUser();
+  public Slice<UserProfileDTO> getFollowing(Pageable pageable, boolean withTotal) {
+    var currentUser = currentUserProvider.get();
 
     log.debug(
         "[FOLLOW] Buscando usuários que o currentUser segue. followerId={}, page={}",
-        currentUser.getId(),
+        currentUser.id(),
         pageable);
 
-    var followingPage = followRepository.findFollowingByFollower(currentUser, pageable);
+    var follower = currentUserProvider.getReference();
+    var followingSlice = followRepository.findFollowingByFollower(follower, pageable);
 
     log.info(
-        "[FOLLOW] Following recuperado. followerId={}, totalElements={}",
-        currentUser.getId(),
-        followingPage.getTotalElements());
-
-    return followingPage.map(user -> toUserProfileDto(user, currentUser));
+        "[FOLLOW] Following recuperado. followerId={}, itens={}, hasNext={}",
+        currentUser.id(),
+        followingSlice.getNumberOfElements(),
+        followingSlice.hasNext());
+
+    return pageTotals.complete(
+        toUserProfileDtos(followingSlice),
+        withTotal,
+        "follows:following:" + currentUser.id(),
+        follower::getFollowingCount);
   }
 
   @Transactional(readOnly = true)
-  public Page<UserProfileDTO> getFollowers(Pageable pageable) {
-    var currentUser = userService.getCurrentUser();
+  public Slice<UserProfileDTO> getFollowers(Pageable pageable, boolean withTotal) {
+    var currentUser = currentUserProvider.get();
 
     log.debug(
         "[FOLLOW] Buscando seguidores do currentUser. followingId={}, page={}",
-        currentUser.getId(),
+        currentUser.id(),
         pageable);
 
-    var followersPage = followRepository.findFollowersByFollowing(currentUser, pageable);
+    var following = currentUserProvider.getReference();
+    var followersSlice = followRepository.findFollowersByFollowing(following, pageable);
 
     log.info(
-        "[FOLLOW] Followers recuperados. followingId={}, totalElements={}",
-        currentUser.getId(),
-        followersPage.getTotalElements());
-
-    return followersPage.map(user -> toUserProfileDto(user, currentUser));
+        "[FOLLOW] Followers recuperados. followingId={}, itens={}, hasNext={}",
+        currentUser.id(),
+        followersSlice.getNumberOfElements(),
+        followersSlice.hasNext());
+
+    return pageTotals.complete(
+        toUserProfileDtos(followersSlice),
+        withTotal,
+        "follows:followers:" + currentUser.id(),
+        following::getFollowersCount);
   }
 
   @Transactional(readOnly = true)
   public UserProfileDTO getUserProfile(Long userId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
     log.info(
         "[PROFILE] Buscando perfil do usuário. targetUserId={}, requesterId={}",
         userId,
-        currentUser.getId());
+        currentUser.id());
 
     var user =
         userRepository
@@ -167,40 +198,55 @@ public class FollowService {
                   return new ResourceNotFoundException("Usuário não encontrado");
                 });
 
-    return toUserProfileDto(user, currentUser);
+    return toUserProfileDtos(new SliceImpl<>(List.of(user))).getContent().getFirst();
   }
 
   @Transactional(readOnly = true)
   public boolean isFollowing(Long userId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
     log.debug(
         "[FOLLOW] Verificando isFollowing. followerId={}, targetUserId={}",
-        currentUser.getId(),
+        currentUser.id(),
         userId);
 
-    var user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(
-                () -> {
-                  log.warn(
-                      "[FOLLOW] Usuário não encontrado para verificação de follow. userId={}",
-                      userId);
-                  return new ResourceNotFoundException("Usuário não encontrado");
-                });
-
-    boolean result = followRepository.existsByFollowerAndFollowing(currentUser, user);
+    // O índice só guarda quem é seguido; uma resposta negativa ainda precisa confirmar o usuário
+    boolean result = followingIndex.contains(currentUser.id(), userId);
+    if (!result && !userRepository.existsById(userId)) {
+      log.warn("[FOLLOW] Usuário não encontrado para verificação de follow. userId={}", userId);
+      throw new ResourceNotFoundException("Usuário não encontrado");
+    }
 
     log.debug(
         "[FOLLOW] isFollowing result. followerId={}, targetUserId={}, result={}",
-        currentUser.getId(),
+        currentUser.id(),
         userId,
         result);
 
     return result;
   }
 
+  /**
+   * Para cada ID, se o usuário autenticado o segue, na ordem recebida. IDs de usuários inexistentes
+   * respondem {@code false}.
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, Boolean> checkFollowing(List<Long> userIds) {
+    var currentUser = currentUserProvider.get();
+    if (userIds.size() > MAX_CHECK_IDS) {
+      log.warn(
+          "[FOLLOW] Verificação em lote acima do limite. followerId={}, ids={}",
+          currentUser.id(),
+          userIds.size());
+      throw new BusinessException("Informe no máximo " + MAX_CHECK_IDS + " IDs por verificação");
+    }
+
+    var result = followingIndex.containsAll(currentUser.id(), userIds);
+    log.debug(
+        "[FOLLOW] Verificação em lote. followerId={}, ids={}", currentUser.id(), userIds.size());
+    return result;
+  }
+
   private FollowResponseDTO toDto(Follow follow) {
     return new FollowResponseDTO(
         follow.getId(),
@@ -211,17 +257,30 @@ public class FollowService {
         follow.getCreatedAt());
   }
 
-  private UserProfileDTO toUserProfileDto(User user, User currentUser) {
-    long followersCount = followRepository.countByFollowing(user);
-    long followingCount = followRepository.countByFollower(user);
-    boolean isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, user);
-
-    return new UserProfileDTO(
-        user.getId(),
-        user.getUsername(),
-        user.getEmail(),
-        followersCount,
-        followingCount,
-        isFollowing);
+  /**
+   * Monta os perfis da página com uma consulta, qualquer que seja o tamanho dela: os contadores já
+   * vêm nas colunas desnormalizadas do usuário, e só falta saber quais deles o usuário autenticado
+   * segue.
+   */
+  private Slice<UserProfileDTO> toUserProfileDtos(Slice<User> users) {
+    if (!users.hasContent()) {
+      return users.map(user -> null);
+    }
+
+    var userIds = users.stream().map(User::getId).toList();
+    var followed =
+        new HashSet<>(followRepository.findFollowedAmong(currentUserProvider.get().id(), userIds));
+
+    log.debug("[FOLLOW] Perfis montados em lote. usuarios={}", userIds.size());
+
+    return users.map(
+        user ->
+            new UserProfileDTO(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFollowersCount(),
+                user.getFollowingCount(),
+                followed.contains(user.getId())));
   }
 }
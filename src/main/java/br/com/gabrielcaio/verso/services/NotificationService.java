@@ -4,15 +4,14 @@ import br.com.gabrielcaio.verso.controllers.error.ResourceNotFoundException;
 import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Comment;
 import br.com.gabrielcaio.verso.domain.entity.Notification;
-import br.com.gabrielcaio.verso.domain.entity.User;
 import br.com.gabrielcaio.verso.dtos.NotificationResponseDTO;
-import br.com.gabrielcaio.verso.repositories.FollowRepository;
 import br.com.gabrielcaio.verso.repositories.NotificationRepository;
-import java.util.List;
+import br.com.gabrielcaio.verso.security.CurrentUserProvider;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,11 +21,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
   private final NotificationRepository notificationRepository;
-  private final FollowRepository followRepository;
-  private final UserService userService;
+  private final CurrentUserProvider currentUserProvider;
+  private final PageTotals pageTotals;
 
+  /**
+   * Fan-out em um único {@code INSERT ... SELECT} a partir de {@code tb_follows}: nenhum seguidor é
+   * carregado na aplicação e o custo não cresce em round trips com o número de seguidores.
+   */
   @Transactional
-  public void createNotificationForFollowers(Article article) {
+  public void createNotificationForFollowers(Article article, Long outboxEventId) {
     var author = article.getAuthor();
 
     log.info(
@@ -34,78 +37,80 @@ public class NotificationService {
         author.getId(),
         author.getUsername());
 
-    List<User> followers =
-        followRepository.findFollowersByFollowing(author, Pageable.unpaged()).getContent();
-
-    log.debug("Total de seguidores encontrados: {}", followers.size());
-
     String message =
         String.format("%s publicou um novo artigo: %s", author.getUsername(), article.getTitle());
 
-    for (User follower : followers) {
-      log.debug(
-          "Criando notificação para seguidor id={} username={}",
-          follower.getId(),
-          follower.getUsername());
-
-      Notification notification = new Notification();
-      notification.setUser(follower);
-      notification.setArticle(article);
-      notification.setMessage(message);
-      notification.setRead(false);
+    int created =
+        notificationRepository.insertForFollowers(
+            author.getId(), article.getId(), message, outboxEventId);
 
-      notificationRepository.save(notification);
-    }
-
-    log.info("Notificações criadas com sucesso para artigo id={}", article.getId());
+    log.info(
+        "Notificações criadas com sucesso para artigo id={}. Seguidores notificados={}",
+        article.getId(),
+        created);
   }
 
   @Transactional(readOnly = true)
-  public Page<NotificationResponseDTO> getAllNotifications(Pageable pageable) {
-    var currentUser = userService.getCurrentUser();
+  public Slice<NotificationResponseDTO> getAllNotifications(Pageable pageable, boolean withTotal) {
+    var currentUser = currentUserProvider.get();
 
     log.info(
         "Buscando todas notificações do usuário id={} username={} page={} size={}",
-        currentUser.getId(),
-        currentUser.getUsername(),
+        currentUser.id(),
+        currentUser.username(),
         pageable.getPageNumber(),
         pageable.getPageSize());
 
-    var notificationsPage =
-        notificationRepository.findAllByUserOrderByCreatedAtDesc(currentUser, pageable);
+    var user = currentUserProvider.getReference();
+    var notificationsSlice =
+        notificationRepository.findAllByUserOrderByCreatedAtDesc(user, pageable);
 
-    log.info("Total de notificações encontradas: {}", notificationsPage.getTotalElements());
-
-    return notificationsPage.map(this::toDto);
+    log.info(
+        "Notificações encontradas na página: {}, hasNext={}",
+        notificationsSlice.getNumberOfElements(),
+        notificationsSlice.hasNext());
+
+    return pageTotals.complete(
+        notificationsSlice.map(this::toDto),
+        withTotal,
+        "notifications:all:" + currentUser.id(),
+        () -> notificationRepository.countByUser(user));
   }
 
   @Transactional(readOnly = true)
-  public Page<NotificationResponseDTO> getUnreadNotifications(Pageable pageable) {
-    var currentUser = userService.getCurrentUser();
+  public Slice<NotificationResponseDTO> getUnreadNotifications(
+      Pageable pageable, boolean withTotal) {
+    var currentUser = currentUserProvider.get();
 
     log.info(
         "Buscando notificações NÃO LIDAS do usuário id={} username={}",
-        currentUser.getId(),
-        currentUser.getUsername());
+        currentUser.id(),
+        currentUser.username());
 
-    var notificationsPage =
-        notificationRepository.findAllByUserAndReadOrderByCreatedAtDesc(
-            currentUser, false, pageable);
+    var user = currentUserProvider.getReference();
+    var notificationsSlice =
+        notificationRepository.findAllByUserAndReadOrderByCreatedAtDesc(user, false, pageable);
 
     log.info(
-        "Total de notificações não lidas encontradas: {}", notificationsPage.getTotalElements());
-
-    return notificationsPage.map(this::toDto);
+        "Notificações não lidas encontradas na página: {}, hasNext={}",
+        notificationsSlice.getNumberOfElements(),
+        notificationsSlice.hasNext());
+
+    return pageTotals.complete(
+        notificationsSlice.map(this::toDto),
+        withTotal,
+        "notifications:unread:" + currentUser.id(),
+        () -> notificationRepository.countByUserAndRead(user, false));
   }
 
   @Transactional
   public void markAsRead(Long notificationId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
     log.info(
         "Marcando notificação id={} como lida para usuário id={}",
         notificationId,
-        currentUser.getId());
+        currentUser.id());
 
     var notification =
         notificationRepository
@@ -116,38 +121,40 @@ public class NotificationService {
                   return new ResourceNotFoundException("Notificação não encontrada");
                 });
 
-    if (!notification.getUser().getId().equals(currentUser.getId())) {
+    if (!notification.getUser().getId().equals(currentUser.id())) {
       log.warn(
           "Usuário id={} tentou acessar notificação que não pertence a ele. Notificação id={}",
-          currentUser.getId(),
+          currentUser.id(),
           notificationId);
       throw new ResourceNotFoundException("Notificação não encontrada");
     }
 
-    notificationRepository.markAsRead(notificationId, currentUser);
+    notificationRepository.markAsRead(notificationId, currentUserProvider.getReference());
+    pageTotals.invalidate("notifications:unread:" + currentUser.id());
 
     log.info("Notificação id={} marcada como lida com sucesso", notificationId);
   }
 
   @Transactional
   public void markAllAsRead() {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
-    log.info("Marcando todas as notificações como lidas para usuário id={}", currentUser.getId());
+    log.info("Marcando todas as notificações como lidas para usuário id={}", currentUser.id());
 
-    notificationRepository.markAllAsReadByUser(currentUser);
+    notificationRepository.markAllAsReadByUser(currentUserProvider.getReference());
+    pageTotals.invalidate("notifications:unread:" + currentUser.id());
 
-    log.info(
-        "Todas as notificações do usuário id={} foram marcadas como lidas", currentUser.getId());
+    log.info("Todas as notificações do usuário id={} foram marcadas como lidas", currentUser.id());
   }
 
   @Transactional(readOnly = true)
   public long getUnreadCount() {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
-    log.info("Contando notificações não lidas do usuário id={}", currentUser.getId());
+    log.info("Contando notificações não lidas do usuário id={}", currentUser.id());
 
-    long count = notificationRepository.countByUserAndRead(currentUser, false);
+    long count =
+        notificationRepository.countByUserAndRead(currentUserProvider.getReference(), false);
 
     log.info("Total de notificações não lidas: {}", count);
 
@@ -165,7 +172,8 @@ public class NotificationService {
   }
 
   @Transactional
-  public void createNotificationForArticleComment(Article article, Comment comment) {
+  public void createNotificationForArticleComment(
+      Article article, Comment comment, Long outboxEventId) {
     log.info("Criando notificação de comentário para autor do artigo id={}", article.getId());
 
     if (article.getAuthor() != null
@@ -176,13 +184,11 @@ public class NotificationService {
           comment.getAuthor().getId(),
           article.getAuthor().getId());
 
-      var notification = new Notification();
-      notification.setUser(article.getAuthor());
-      notification.setArticle(article);
-      notification.setMessage("Novo comentário no seu artigo \"" + article.getTitle() + "\"");
-      notification.setRead(false);
-
-      notificationRepository.save(notification);
+      notificationRepository.insertForUser(
+          article.getAuthor().getId(),
+          article.getId(),
+          "Novo comentário no seu artigo \"" + article.getTitle() + "\"",
+          outboxEventId);
 
       log.info(
           "Notificação criada para autor id={} (comentário recebido)", article.getAuthor().getId());
@@ -190,7 +196,7 @@ public class NotificationService {
   }
 
   @Transactional
-  public void createNotificationForCommentReply(Comment parent, Comment reply) {
+  public void createNotificationForCommentReply(Comment parent, Comment reply, Long outboxEventId) {
     log.info("Criando notificação de resposta a comentário id={}", parent.getId());
 
     if (parent.getAuthor() != null
@@ -201,13 +207,11 @@ public class NotificationService {
           reply.getAuthor().getId(),
           parent.getAuthor().getId());
 
-      var notification = new Notification();
-      notification.setUser(parent.getAuthor());
-      notification.setArticle(reply.getArticle());
-      notification.setMessage("Nova resposta ao seu comentário");
-      notification.setRead(false);
-
-      notificationRepository.save(notification);
+      notificationRepository.insertForUser(
+          parent.getAuthor().getId(),
+          reply.getArticle().getId(),
+          "Nova resposta ao seu comentário",
+          outboxEventId);
 
       log.info(
           "Notificação criada para usuário id={} (resposta recebida)", parent.getAuthor().getId());
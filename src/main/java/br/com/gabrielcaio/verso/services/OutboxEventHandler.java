@@ -0,0 +1,61 @@
+package br.com.gabrielcaio.verso.services;
+
+import br.com.gabrielcaio.verso.domain.entity.OutboxEvent;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.repositories.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Traduz eventos do outbox nas notificações correspondentes e, para artigos publicados, no fan-out
+ * para as timelines dos seguidores. Roda na mesma transação que marca o evento como processado; se
+ * o artigo ou comentário já foi removido, o evento é descartado. As notificações carregam o id do
+ * evento, então uma segunda entrega do mesmo evento não as duplica.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxEventHandler {
+
+  private final ArticleRepository articleRepository;
+  private final CommentRepository commentRepository;
+  private final NotificationService notificationService;
+  private final TimelineService timelineService;
+
+  @Transactional
+  public void handle(OutboxEvent event) {
+    switch (event.getType()) {
+      case ARTICLE_PUBLISHED -> handleArticlePublished(event.getId(), event.getAggregateId());
+      case COMMENT_CREATED -> handleCommentCreated(event.getId(), event.getAggregateId());
+    }
+  }
+
+  private void handleArticlePublished(Long eventId, Long articleId) {
+    articleRepository
+        .findById(articleId)
+        .ifPresentOrElse(
+            article -> {
+              notificationService.createNotificationForFollowers(article, eventId);
+              timelineService.fanOut(article);
+            },
+            () -> log.warn("[OUTBOX] Artigo {} não existe mais. Evento descartado", articleId));
+  }
+
+  private void handleCommentCreated(Long eventId, Long commentId) {
+    commentRepository
+        .findById(commentId)
+        .ifPresentOrElse(
+            comment -> {
+              if (comment.getParent() == null) {
+                notificationService.createNotificationForArticleComment(
+                    comment.getArticle(), comment, eventId);
+              } else {
+                notificationService.createNotificationForCommentReply(
+                    comment.getParent(), comment, eventId);
+              }
+            },
+            () -> log.warn("[OUTBOX] Comentário {} não existe mais. Evento descartado", commentId));
+  }
+}
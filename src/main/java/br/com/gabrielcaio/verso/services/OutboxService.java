@@ -0,0 +1,42 @@
+package br.com.gabrielcaio.verso.services;
+
+import br.com.gabrielcaio.verso.domain.entity.OutboxEvent;
+import br.com.gabrielcaio.verso.domain.enums.OutboxEventType;
+import br.com.gabrielcaio.verso.repositories.OutboxEventRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Registra eventos de domínio no outbox dentro da transação de quem chama. O evento só fica visível
+ * para o {@code OutboxWorker} se a transação de negócio fizer commit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+  private final OutboxEventRepository outboxEventRepository;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(OutboxEventType type, Long aggregateId) {
+    var event =
+        OutboxEvent.builder()
+            .type(type)
+            .aggregateId(aggregateId)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+
+    outboxEventRepository.save(event);
+    log.info("[OUTBOX] Evento registrado. type={}, aggregateId={}", type, aggregateId);
+  }
+
+  /** Apaga um lote de eventos processados antes de {@code before}. Retorna quantos saíram. */
+  @Transactional
+  public int purgeProcessedBefore(LocalDateTime before, int limit) {
+    return outboxEventRepository.deleteProcessedBefore(before, limit);
+  }
+}
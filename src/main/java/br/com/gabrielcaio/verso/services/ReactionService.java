@@ -2,21 +2,30 @@ package br.com.gabrielcaio.verso.services;
 
 import br.com.gabrielcaio.verso.controllers.error.BusinessException;
 import br.com.gabrielcaio.verso.controllers.error.ResourceNotFoundException;
-import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Reaction;
 import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
 import br.com.gabrielcaio.verso.domain.enums.ReactionType;
 import br.com.gabrielcaio.verso.dtos.ArticleReactionStatsDTO;
 import br.com.gabrielcaio.verso.dtos.CreateReactionRequestDTO;
 import br.com.gabrielcaio.verso.dtos.ReactionResponseDTO;
+import br.com.gabrielcaio.verso.infrastructure.counters.ArticleCounterBuffer;
+import br.com.gabrielcaio.verso.infrastructure.counters.ArticleCounterBuffer.PendingCounts;
+import br.com.gabrielcaio.verso.repositories.ArticleReactionCountsRepository;
 import br.com.gabrielcaio.verso.repositories.ArticleRepository;
 import br.com.gabrielcaio.verso.repositories.ReactionRepository;
-import java.util.HashMap;
+import br.com.gabrielcaio.verso.security.CurrentUserProvider;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
+import br.com.gabrielcaio.verso.services.versioning.ResourceVersion;
+import br.com.gabrielcaio.verso.services.versioning.Versioned;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,15 +36,18 @@ public class ReactionService {
 
   private final ReactionRepository reactionRepository;
   private final ArticleRepository articleRepository;
-  private final UserService userService;
+  private final ArticleReactionCountsRepository articleReactionCountsRepository;
+  private final CurrentUserProvider currentUserProvider;
+  private final ArticleCounterBuffer articleCounterBuffer;
+  private final PageTotals pageTotals;
 
   @Transactional
   public ReactionResponseDTO addOrUpdateReaction(Long articleId, CreateReactionRequestDTO dto) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
     log.info(
         "[REACTION] Iniciando add/update reação. userId={}, articleId={}, newType={}",
-        currentUser.getId(),
+        currentUser.id(),
         articleId,
         dto.getType());
 
@@ -56,7 +68,8 @@ public class ReactionService {
       throw new BusinessException("Apenas artigos publicados podem receber reações");
     }
 
-    var existingReaction = reactionRepository.findByUserAndArticle(currentUser, article);
+    var existingReaction =
+        reactionRepository.findByUserAndArticle(currentUserProvider.getReference(), article);
     Reaction reaction;
 
     if (existingReaction.isPresent()) {
@@ -65,7 +78,7 @@ public class ReactionService {
       log.info(
           "[REACTION] Atualizando reação existente. reactionId={}, userId={}, oldType={}, newType={}",
           reaction.getId(),
-          currentUser.getId(),
+          currentUser.id(),
           reaction.getType(),
           dto.getType());
 
@@ -73,41 +86,39 @@ public class ReactionService {
       reaction.setType(dto.getType());
       reaction = reactionRepository.save(reaction);
 
-      updateLikesCount(article, oldType, dto.getType());
+      if (oldType != dto.getType()) {
+        articleCounterBuffer.addReaction(articleId, oldType, -1);
+        articleCounterBuffer.addReaction(articleId, dto.getType(), 1);
+      }
     } else {
       log.info(
           "[REACTION] Criando nova reação. userId={}, articleId={}, type={}",
-          currentUser.getId(),
+          currentUser.id(),
           articleId,
           dto.getType());
 
       reaction = new Reaction();
-      reaction.setUser(currentUser);
+      reaction.setUser(currentUserProvider.getReference());
       reaction.setArticle(article);
       reaction.setType(dto.getType());
       reaction = reactionRepository.save(reaction);
-
-      if (dto.getType() == ReactionType.LIKE) {
-        article.setLikesCount(article.getLikesCount() + 1);
-        articleRepository.save(article);
-      }
+      articleCounterBuffer.addReaction(articleId, dto.getType(), 1);
     }
 
     log.info(
         "[REACTION] Reação registrada com sucesso. reactionId={}, articleId={}, userId={}",
         reaction.getId(),
         articleId,
-        currentUser.getId());
+        currentUser.id());
 
     return toDto(reaction);
   }
 
   @Transactional
   public void removeReaction(Long articleId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
-    log.info(
-        "[REACTION] Removendo reação. userId={}, articleId={}", currentUser.getId(), articleId);
+    log.info("[REACTION] Removendo reação. userId={}, articleId={}", currentUser.id(), articleId);
 
     var article =
         articleRepository
@@ -120,36 +131,29 @@ public class ReactionService {
 
     var reaction =
         reactionRepository
-            .findByUserAndArticle(currentUser, article)
+            .findByUserAndArticle(currentUserProvider.getReference(), article)
             .orElseThrow(
                 () -> {
                   log.warn(
                       "[REACTION] Nenhuma reação encontrada para remoção. userId={}, articleId={}",
-                      currentUser.getId(),
+                      currentUser.id(),
                       articleId);
                   return new ResourceNotFoundException("Reação não encontrada");
                 });
 
-    if (reaction.getType() == ReactionType.LIKE) {
-      log.debug(
-          "[REACTION] Removendo like. articleId={}, oldLikes={}",
-          articleId,
-          article.getLikesCount());
-      article.setLikesCount(Math.max(0, article.getLikesCount() - 1));
-      articleRepository.save(article);
-    }
-
     reactionRepository.delete(reaction);
+    articleCounterBuffer.addReaction(articleId, reaction.getType(), -1);
 
     log.info(
         "[REACTION] Reação removida com sucesso. reactionId={}, articleId={}, userId={}",
         reaction.getId(),
         articleId,
-        currentUser.getId());
+        currentUser.id());
   }
 
   @Transactional(readOnly = true)
-  public Page<ReactionResponseDTO> findAllReactionsByArticle(Long articleId, Pageable pageable) {
+  public Slice<ReactionResponseDTO> findAllReactionsByArticle(
+      Long articleId, Pageable pageable, boolean withTotal) {
     log.debug("[REACTION] Buscando reações de artigo. articleId={}, page={}", articleId, pageable);
 
     var article =
@@ -163,42 +167,53 @@ public class ReactionService {
                   return new ResourceNotFoundException("Artigo não encontrado");
                 });
 
-    var reactionsPage = reactionRepository.findAllByArticle(article, pageable);
+    var reactionsSlice = reactionRepository.findAllByArticle(article, pageable);
 
     log.info(
-        "[REACTION] Reações listadas. articleId={}, total={}",
+        "[REACTION] Reações listadas. articleId={}, itens={}, hasNext={}",
         articleId,
-        reactionsPage.getTotalElements());
-
-    return reactionsPage.map(this::toDto);
+        reactionsSlice.getNumberOfElements(),
+        reactionsSlice.hasNext());
+
+    return pageTotals.complete(
+        reactionsSlice.map(this::toDto),
+        withTotal,
+        "reactions:article:" + articleId,
+        () -> reactionRepository.countByArticle(article));
   }
 
   @Transactional(readOnly = true)
-  public Page<ReactionResponseDTO> findAllReactionsByUser(Pageable pageable) {
-    var currentUser = userService.getCurrentUser();
+  public Slice<ReactionResponseDTO> findAllReactionsByUser(Pageable pageable, boolean withTotal) {
+    var currentUser = currentUserProvider.get();
 
     log.debug(
-        "[REACTION] Buscando reações do usuário. userId={}, page={}",
-        currentUser.getId(),
-        pageable);
+        "[REACTION] Buscando reações do usuário. userId={}, page={}", currentUser.id(), pageable);
 
-    var reactionsPage = reactionRepository.findAllByUser(currentUser, pageable);
+    var user = currentUserProvider.getReference();
+    var reactionsSlice = reactionRepository.findAllByUser(user, pageable);
 
     log.info(
-        "[REACTION] Reações encontradas para usuário. userId={}, total={}",
-        currentUser.getId(),
-        reactionsPage.getTotalElements());
-
-    return reactionsPage.map(this::toDto);
+        "[REACTION] Reações encontradas para usuário. userId={}, itens={}, hasNext={}",
+        currentUser.id(),
+        reactionsSlice.getNumberOfElements(),
+        reactionsSlice.hasNext());
+
+    return pageTotals.complete(
+        reactionsSlice.map(this::toDto),
+        withTotal,
+        "reactions:user:" + currentUser.id(),
+        () -> reactionRepository.countByUser(user));
   }
 
+  /** Estatísticas com os validadores para GET condicional, lidos na mesma consulta. */
   @Transactional(readOnly = true)
-  public ArticleReactionStatsDTO getArticleReactionStats(Long articleId) {
+  public Versioned<ArticleReactionStatsDTO> getArticleReactionStats(Long articleId) {
     log.debug("[REACTION] Calculando estatísticas de reações. articleId={}", articleId);
 
-    var article =
-        articleRepository
-            .findById(articleId)
+    var userId = currentUserProvider.get().id();
+    var stats =
+        articleReactionCountsRepository
+            .findStats(articleId, userId)
             .orElseThrow(
                 () -> {
                   log.warn(
@@ -207,40 +222,99 @@ public class ReactionService {
                   return new ResourceNotFoundException("Artigo não encontrado");
                 });
 
-    var currentUser = userService.getCurrentUser();
-    var userReaction = reactionRepository.findByUserAndArticle(currentUser, article);
-
-    Map<String, Long> reactionsByType = new HashMap<>();
-    long totalReactions = 0;
-
-    for (ReactionType type : ReactionType.values()) {
-      Long count = reactionRepository.countByArticleAndType(article, type);
-      if (count > 0) {
-        reactionsByType.put(type.name(), count);
-        totalReactions += count;
-      }
-    }
+    // Contadores somam os deltas ainda no buffer, lidos depois do banco como no resumo do artigo
+    var pending = articleCounterBuffer.pending(articleId);
+    Map<String, Long> reactionsByType = new LinkedHashMap<>();
+    putIfPositive(reactionsByType, ReactionType.LIKE, stats.getLikeCount(), pending);
+    putIfPositive(reactionsByType, ReactionType.LOVE, stats.getLoveCount(), pending);
+    putIfPositive(reactionsByType, ReactionType.LAUGH, stats.getLaughCount(), pending);
+    putIfPositive(reactionsByType, ReactionType.WOW, stats.getWowCount(), pending);
+    putIfPositive(reactionsByType, ReactionType.SAD, stats.getSadCount(), pending);
+    putIfPositive(reactionsByType, ReactionType.ANGRY, stats.getAngryCount(), pending);
+    long totalReactions = reactionsByType.values().stream().mapToLong(Long::longValue).sum();
 
     log.info(
         "[REACTION] Estatísticas geradas. articleId={}, totalReactions={}",
         articleId,
         totalReactions);
 
-    return new ArticleReactionStatsDTO(
-        article.getId(),
-        article.getTitle(),
-        totalReactions,
-        reactionsByType,
-        userReaction.map(r -> r.getType().name()).orElse(null));
+    var body =
+        new ArticleReactionStatsDTO(
+            stats.getArticleId(),
+            stats.getArticleTitle(),
+            totalReactions,
+            reactionsByType,
+            stats.getUserReaction());
+    return new Versioned<>(
+        body,
+        statsVersion(
+            articleId,
+            userId,
+            pending,
+            stats.getArticleCreatedAt(),
+            stats.getArticleUpdatedAt(),
+            stats.getCountsUpdatedAt()));
+  }
+
+  /**
+   * Só os validadores das estatísticas, sem ler contadores nem reações, para decidir um 304 antes
+   * de montar a resposta.
+   */
+  @Transactional(readOnly = true)
+  public Optional<ResourceVersion> findArticleReactionStatsVersion(Long articleId) {
+    var userId = currentUserProvider.get().id();
+    return articleReactionCountsRepository
+        .findStatsVersion(articleId)
+        .map(
+            row ->
+                statsVersion(
+                    articleId,
+                    userId,
+                    articleCounterBuffer.pending(articleId),
+                    row.getArticleCreatedAt(),
+                    row.getArticleUpdatedAt(),
+                    row.getCountsUpdatedAt()));
+  }
+
+  /**
+   * O ETag leva o usuário porque a resposta traz a reação dele. Reações ainda no buffer entram pelo
+   * número de escritas pendentes; depois do flush, pelo timestamp da linha de contadores, que só
+   * então muda, e com ele o {@code Last-Modified}.
+   */
+  private static ResourceVersion statsVersion(
+      Long articleId,
+      Long userId,
+      PendingCounts pending,
+      LocalDateTime articleCreatedAt,
+      LocalDateTime articleUpdatedAt,
+      LocalDateTime countsUpdatedAt) {
+    return ResourceVersion.of(
+        List.of(
+            articleId,
+            userId,
+            String.valueOf(articleUpdatedAt),
+            String.valueOf(countsUpdatedAt),
+            pending.writes()),
+        articleCreatedAt,
+        articleUpdatedAt,
+        countsUpdatedAt);
+  }
+
+  private static void putIfPositive(
+      Map<String, Long> counts, ReactionType type, Long stored, PendingCounts pending) {
+    long count = (stored == null ? 0 : stored) + pending.reaction(type);
+    if (count > 0) {
+      counts.put(type.name(), count);
+    }
   }
 
   @Transactional(readOnly = true)
   public ReactionType getUserReaction(Long articleId) {
-    var currentUser = userService.getCurrentUser();
+    var currentUser = currentUserProvider.get();
 
     log.debug(
         "[REACTION] Buscando reação do usuário para artigo. userId={}, articleId={}",
-        currentUser.getId(),
+        currentUser.id(),
         articleId);
 
     var article =
@@ -256,46 +330,19 @@ public class ReactionService {
 
     var reaction =
         reactionRepository
-            .findByUserAndArticle(currentUser, article)
+            .findByUserAndArticle(currentUserProvider.getReference(), article)
             .map(Reaction::getType)
             .orElse(null);
 
     log.info(
         "[REACTION] Reação do usuário encontrada. userId={}, articleId={}, reaction={}",
-        currentUser.getId(),
+        currentUser.id(),
         articleId,
         reaction);
 
     return reaction;
   }
 
-  private void updateLikesCount(Article article, ReactionType oldType, ReactionType newType) {
-    boolean wasLike = oldType == ReactionType.LIKE;
-    boolean isLike = newType == ReactionType.LIKE;
-
-    log.debug(
-        "[REACTION] Ajustando likes. articleId={}, oldType={}, newType={}",
-        article.getId(),
-        oldType,
-        newType);
-
-    if (wasLike && !isLike) {
-      article.setLikesCount(Math.max(0, article.getLikesCount() - 1));
-      articleRepository.save(article);
-      log.debug(
-          "[REACTION] Like removido. articleId={}, newLikes={}",
-          article.getId(),
-          article.getLikesCount());
-    } else if (!wasLike && isLike) {
-      article.setLikesCount(article.getLikesCount() + 1);
-      articleRepository.save(article);
-      log.debug(
-          "[REACTION] Like adicionado. articleId={}, newLikes={}",
-          article.getId(),
-          article.getLikesCount());
-    }
-  }
-
   private ReactionResponseDTO toDto(Reaction reaction) {
     var article = reaction.getArticle();
     var user = reaction.getUser();
@@ -7,11 +7,13 @@ import br.com.gabrielcaio.verso.domain.entity.Roles;
 import br.com.gabrielcaio.verso.dtos.CreateRolesRequestDTO;
 import br.com.gabrielcaio.verso.dtos.RolesWithIdAndName;
 import br.com.gabrielcaio.verso.repositories.RolesRepository;
+import br.com.gabrielcaio.verso.security.AuthenticationCache;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,8 @@ public class RolesService {
 
   private final RolesRepository rolesRepository;
   private final UserService userService;
+  private final AuthenticationCache authenticationCache;
+  private final PageTotals pageTotals;
 
   @Transactional(readOnly = true)
   public RolesWithIdAndName findById(Long id) {
@@ -41,12 +45,16 @@ public class RolesService {
   }
 
   @Transactional(readOnly = true)
-  public Page<RolesWithIdAndName> findAllRolesWithIdAndName(Pageable pageable) {
+  public Slice<RolesWithIdAndName> findAllRolesWithIdAndName(Pageable pageable, boolean withTotal) {
     log.info("[RolesService] Listando todas as roles. Página: {}", pageable.getPageNumber());
-    var rolesPage = rolesRepository.findAll(pageable);
-    log.info("[RolesService] Total de roles encontradas: {}", rolesPage.getTotalElements());
-
-    return rolesPage.map(role -> new RolesWithIdAndName(role.getId(), role.getName()));
+    var rolesSlice = rolesRepository.findAllBy(pageable);
+    log.info("[RolesService] Roles encontradas na página: {}", rolesSlice.getNumberOfElements());
+
+    return pageTotals.complete(
+        rolesSlice.map(role -> new RolesWithIdAndName(role.getId(), role.getName())),
+        withTotal,
+        "roles",
+        rolesRepository::count);
   }
 
   @Transactional(readOnly = true)
@@ -100,6 +108,7 @@ public class RolesService {
 
     existingRole.setName(dto.getName());
     existingRole = rolesRepository.save(existingRole);
+    authenticationCache.invalidateAll();
 
     log.info(
         "[RolesService] Role atualizada com sucesso: {} - {}",
@@ -130,6 +139,7 @@ public class RolesService {
 
     try {
       rolesRepository.delete(role);
+      authenticationCache.invalidateAll();
       log.info("[RolesService] Role deletada com sucesso: {}", id);
     } catch (DataIntegrityViolationException e) {
       log.error("[RolesService] Erro de integridade ao deletar role ID: {}", id, e);
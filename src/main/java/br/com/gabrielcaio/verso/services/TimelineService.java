@@ -0,0 +1,197 @@
+package br.com.gabrielcaio.verso.services;
+
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.dtos.ArticleSummaryDTO;
+import br.com.gabrielcaio.verso.dtos.CursorPageDTO;
+import br.com.gabrielcaio.verso.infrastructure.timeline.AuthorStreamMerger;
+import br.com.gabrielcaio.verso.infrastructure.timeline.HotTimelines;
+import br.com.gabrielcaio.verso.infrastructure.timeline.HotTimelines.HotTimeline;
+import br.com.gabrielcaio.verso.infrastructure.timeline.TimelineEntry;
+import br.com.gabrielcaio.verso.infrastructure.timeline.TimelineStore;
+import br.com.gabrielcaio.verso.repositories.FollowRepository;
+import br.com.gabrielcaio.verso.security.CurrentUserProvider;
+import br.com.gabrielcaio.verso.services.pagination.KeysetCursor;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Timeline de cada usuário com os artigos de quem ele segue. Ao publicar, o artigo é gravado na
+ * timeline de cada seguidor (fan-out na escrita), limitada a {@code max-entries} entradas, e a
+ * leitura é um range scan por usuário. Autores com mais de {@code fan-out-max-followers} seguidores
+ * passam a ser lidos na hora por quem os segue (fan-out na leitura), para que uma publicação não
+ * escreva em milhares de timelines.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+  private final TimelineStore timelineStore;
+  private final HotTimelines hotTimelines;
+  private final ArticleService articleService;
+  private final CurrentUserProvider currentUserProvider;
+  private final FollowRepository followRepository;
+  private final AuthorStreamMerger authorStreamMerger;
+
+  @Value("${verso.timeline.max-entries:500}")
+  private int maxEntries;
+
+  @Value("${verso.timeline.fan-out-max-followers:10000}")
+  private int fanOutMaxFollowers;
+
+  /**
+   * Grava o artigo publicado na timeline dos seguidores do autor. Idempotente: uma segunda entrega
+   * do mesmo evento não duplica entradas.
+   */
+  @Transactional
+  public void fanOut(Article article) {
+    var authorId = article.getAuthor().getId();
+
+    if (timelineStore.isPullAuthor(authorId)) {
+      log.info(
+          "[TIMELINE] Autor lido na hora, sem fan-out. authorId={}, articleId={}",
+          authorId,
+          article.getId());
+      return;
+    }
+
+    if (timelineStore.hasMoreFollowersThan(authorId, fanOutMaxFollowers)) {
+      log.info(
+          "[TIMELINE] Autor passou de {} seguidores e passa a ser lido na hora. authorId={}",
+          fanOutMaxFollowers,
+          authorId);
+      timelineStore.markPullAuthor(authorId);
+      hotTimelines.evictAll();
+      return;
+    }
+
+    var entry = new TimelineEntry(article.getId(), article.getCreatedAt());
+    var followerIds = timelineStore.pushToFollowers(authorId, entry);
+    int trimmed = timelineStore.trimFollowers(authorId, maxEntries);
+    hotTimelines.push(followerIds, entry);
+
+    log.info(
+        "[TIMELINE] Fan-out concluído. articleId={}, timelines={}, entradasCortadas={}",
+        article.getId(),
+        followerIds.size(),
+        trimmed);
+  }
+
+  /** Traz os artigos recentes do autor para a timeline de quem passou a segui-lo. */
+  @Transactional
+  public void onFollow(Long followerId, Long authorId) {
+    if (!timelineStore.isPullAuthor(authorId)) {
+      int added = timelineStore.backfill(followerId, authorId, maxEntries);
+      timelineStore.trimUser(followerId, maxEntries);
+      log.debug(
+          "[TIMELINE] Timeline preenchida. followerId={}, authorId={}, entradas={}",
+          followerId,
+          authorId,
+          added);
+    }
+    hotTimelines.evict(followerId);
+  }
+
+  /** Remove da timeline os artigos de quem deixou de ser seguido. */
+  @Transactional
+  public void onUnfollow(Long followerId, Long authorId) {
+    int removed = timelineStore.removeAuthor(followerId, authorId);
+    hotTimelines.evict(followerId);
+    log.debug(
+        "[TIMELINE] Entradas removidas. followerId={}, authorId={}, entradas={}",
+        followerId,
+        authorId,
+        removed);
+  }
+
+  /**
+   * Página da timeline do usuário autenticado por cursor. As entradas vêm do ring em memória quando
+   * ele cobre a página, ou da tabela; os artigos de autores lidos na hora são intercalados na mesma
+   * ordem. Artigos que deixaram de estar publicados são omitidos, então uma página pode vir menor
+   * que {@code size} mesmo com {@code hasNext}.
+   */
+  @Transactional(readOnly = true)
+  public CursorPageDTO<ArticleSummaryDTO> findHomeTimeline(String cursor, int size) {
+    int pageSize = Math.clamp(size, 1, 100);
+    var userId = currentUserProvider.get().id();
+    var after = decode(cursor);
+    log.info("[TIMELINE] Buscando timeline. userId={}, size={}", userId, pageSize);
+
+    var hot = hotTimelines.get(userId, this::loadHotTimeline);
+    var pushed = hot.page(after, pageSize + 1);
+    if (pushed == null) {
+      pushed = timelineStore.findEntries(userId, after, pageSize + 1);
+    }
+    var pulled =
+        hot.pullAuthors().isEmpty()
+            ? List.<TimelineEntry>of()
+            : timelineStore.findPulledEntries(hot.pullAuthors(), after, pageSize + 1);
+
+    return toPage(merge(pushed, pulled, pageSize + 1), pageSize);
+  }
+
+  /**
+   * Página do feed de quem o usuário autenticado segue, montada na leitura a partir dos artigos de
+   * cada autor (k-way merge), sem depender das timelines gravadas. Alternativa para quem segue
+   * milhares de autores.
+   */
+  @Transactional(readOnly = true)
+  public CursorPageDTO<ArticleSummaryDTO> findFollowingFeed(String cursor, int size) {
+    int pageSize = Math.clamp(size, 1, 100);
+    var userId = currentUserProvider.get().id();
+    var authorIds = followRepository.findFollowingIdsByFollowerId(userId);
+    log.info(
+        "[TIMELINE] Montando feed na leitura. userId={}, autores={}, size={}",
+        userId,
+        authorIds.size(),
+        pageSize);
+
+    return toPage(authorStreamMerger.merge(authorIds, decode(cursor), pageSize + 1), pageSize);
+  }
+
+  /** Recebe até {@code pageSize + 1} entradas; a sobra só indica que há próxima página. */
+  private CursorPageDTO<ArticleSummaryDTO> toPage(List<TimelineEntry> entries, int pageSize) {
+    boolean hasNext = entries.size() > pageSize;
+    var page = hasNext ? entries.subList(0, pageSize) : entries;
+    var last = page.isEmpty() ? null : page.getLast();
+    var nextCursor = hasNext ? new KeysetCursor(last.createdAt(), last.articleId()).encode() : null;
+
+    var content =
+        articleService.findPublishedSummaries(page.stream().map(TimelineEntry::articleId).toList());
+    return new CursorPageDTO<>(content, nextCursor, hasNext);
+  }
+
+  private HotTimeline loadHotTimeline(Long userId) {
+    return new HotTimeline(
+        hotTimelines.capacity(),
+        timelineStore.findEntries(userId, null, hotTimelines.capacity()),
+        timelineStore.findPullAuthorsFollowedBy(userId));
+  }
+
+  /** Intercala as duas listas já ordenadas, sem repetir artigos gravados antes da troca de modo. */
+  private static List<TimelineEntry> merge(
+      List<TimelineEntry> pushed, List<TimelineEntry> pulled, int limit) {
+    if (pulled.isEmpty()) {
+      return pushed.size() > limit ? pushed.subList(0, limit) : pushed;
+    }
+    var merged = new LinkedHashMap<Long, TimelineEntry>();
+    Stream.concat(pushed.stream(), pulled.stream())
+        .sorted(TimelineEntry.NEWEST_FIRST)
+        .forEach(entry -> merged.putIfAbsent(entry.articleId(), entry));
+    return merged.values().stream().limit(limit).toList();
+  }
+
+  private static TimelineEntry decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    var position = KeysetCursor.decode(cursor);
+    return new TimelineEntry(position.id(), position.createdAt());
+  }
+}
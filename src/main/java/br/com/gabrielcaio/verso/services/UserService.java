@@ -6,14 +6,13 @@ import br.com.gabrielcaio.verso.domain.entity.User;
 import br.com.gabrielcaio.verso.dtos.UserDTO;
 import br.com.gabrielcaio.verso.repositories.RolesRepository;
 import br.com.gabrielcaio.verso.repositories.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
+import br.com.gabrielcaio.verso.services.pagination.PageTotals;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,19 +25,7 @@ public class UserService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final RolesRepository rolesRepository;
-
-  public User getCurrentUser() {
-    var username = SecurityContextHolder.getContext().getAuthentication().getName();
-    log.info("[UserService] Buscando usuário autenticado: {}", username);
-
-    return userRepository
-        .findByUsername(username)
-        .orElseThrow(
-            () -> {
-              log.warn("[UserService] Usuário autenticado '{}' não encontrado no banco", username);
-              return new EntityNotFoundException("Usuário não encontrado");
-            });
-  }
+  private final PageTotals pageTotals;
 
   @Transactional
   public void register(UserDTO dto) {
@@ -69,13 +56,14 @@ public class UserService {
   }
 
   @Transactional(readOnly = true)
-  public Page<String> findAll(Pageable pageable) {
+  public Slice<String> findAll(Pageable pageable, boolean withTotal) {
     log.info("[UserService] Listando usuários. Página: {}", pageable.getPageNumber());
-    var page = userRepository.findAll(pageable);
+    var slice = userRepository.findAllBy(pageable);
 
     log.info(
-        "[UserService] Total de usuários retornados na página: {}", page.getNumberOfElements());
-    return page.map(User::getUsername);
+        "[UserService] Total de usuários retornados na página: {}", slice.getNumberOfElements());
+    return pageTotals.complete(
+        slice.map(User::getUsername), withTotal, "users", userRepository::count);
   }
 
   private void addRoles(User user, UserDTO dto) {
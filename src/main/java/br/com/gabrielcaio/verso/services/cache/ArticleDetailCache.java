@@ -0,0 +1,209 @@
+package br.com.gabrielcaio.verso.services.cache;
+
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import br.com.gabrielcaio.verso.dtos.ArticleResponseWithTitleAndStatusAndCategoryName;
+import br.com.gabrielcaio.verso.infrastructure.counters.ArticleCounterBuffer;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.services.versioning.ResourceVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache read-through do detalhe de artigos PUBLICADOS, limitado pelo tamanho aproximado do título e
+ * do conteúdo em memória. Leituras simultâneas de um artigo fora do cache são agrupadas em uma
+ * única carga no banco (o {@code get} do Caffeine bloqueia as demais até a primeira terminar).
+ *
+ * <p>Guarda só o que muda com edições: o nome da categoria é resolvido na leitura pelo {@link
+ * CategoryCache}, e likes e comentários ficam fora da entrada. Os contadores gravados ficam em um
+ * cache próprio, pequeno, descartado só para os artigos de cada flush do {@link
+ * ArticleCounterBuffer}, e os deltas pendentes são somados na leitura. Assim um like não tira o
+ * conteúdo do artigo do cache. Entradas são descartadas quando o artigo é alterado ou excluído e
+ * quando artigos mudam de categoria.
+ */
+@Slf4j
+@Component
+public class ArticleDetailCache {
+
+  private final Cache<Long, CachedArticle> cache;
+  private final Cache<Long, StoredCounts> counts;
+  private final ArticleRepository articleRepository;
+  private final CategoryCache categoryCache;
+  private final ArticleCounterBuffer articleCounterBuffer;
+
+  public ArticleDetailCache(
+      ArticleRepository articleRepository,
+      CategoryCache categoryCache,
+      ArticleCounterBuffer articleCounterBuffer,
+      MeterRegistry meterRegistry,
+      @Value("${verso.articles.detail-cache.max-size:64MB}") DataSize maxSize,
+      @Value("${verso.articles.detail-cache.max-counted-articles:100000}") long maxCountedArticles,
+      @Value("${verso.articles.detail-cache.ttl:10m}") Duration ttl) {
+    this.articleRepository = articleRepository;
+    this.categoryCache = categoryCache;
+    this.articleCounterBuffer = articleCounterBuffer;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Long id, CachedArticle article) -> article.weight())
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    this.counts =
+        Caffeine.newBuilder()
+            .maximumSize(maxCountedArticles)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "article_detail");
+    CaffeineCacheMetrics.monitor(meterRegistry, counts, "article_counts");
+    articleCounterBuffer.onFlush(counts::invalidateAll);
+    log.info("[ARTICLE CACHE] Cache de detalhe inicializado. maxSize={}, ttl={}", maxSize, ttl);
+  }
+
+  /**
+   * Detalhe do artigo se ele estiver publicado, carregando por {@code loader} só na falta. Vazio
+   * quando o artigo não existe ou não está publicado; nesse caso nada fica em cache.
+   */
+  public Optional<ArticleResponseWithTitleAndStatusAndCategoryName> findPublished(
+      Long id, Function<Long, Optional<Article>> loader) {
+    return load(id, loader).map(article -> render(id, article));
+  }
+
+  /**
+   * Validadores do detalhe de um artigo publicado, tirados das mesmas entradas do cache: timestamps
+   * do artigo e da categoria e os contadores já somados aos deltas pendentes, que também mudam o
+   * corpo. Vazio nos mesmos casos de {@link #findPublished}.
+   */
+  public Optional<ResourceVersion> findPublishedVersion(
+      Long id, Function<Long, Optional<Article>> loader) {
+    return load(id, loader)
+        .map(
+            article -> {
+              var current = currentCounts(id);
+              var categoryUpdatedAt =
+                  categoryCache
+                      .findById(article.categoryId())
+                      .map(
+                          category ->
+                              firstNonNull(category.getUpdatedAt(), category.getCreatedAt()))
+                      .orElse(null);
+              return ResourceVersion.of(
+                  List.of(
+                      id,
+                      String.valueOf(article.updatedAt()),
+                      current.likes(),
+                      current.comments(),
+                      article.categoryId(),
+                      String.valueOf(categoryUpdatedAt)),
+                  article.updatedAt(),
+                  categoryUpdatedAt);
+            });
+  }
+
+  private Optional<CachedArticle> load(Long id, Function<Long, Optional<Article>> loader) {
+    return Optional.ofNullable(
+        cache.get(
+            id,
+            key ->
+                loader
+                    .apply(key)
+                    .filter(article -> article.getStatus() == ArticleStatus.PUBLICADO)
+                    .map(CachedArticle::of)
+                    .orElse(null)));
+  }
+
+  /** Contadores gravados, do cache ou do banco, mais os deltas ainda no buffer. */
+  private StoredCounts currentCounts(Long id) {
+    var stored =
+        counts.get(
+            id,
+            key ->
+                articleRepository
+                    .findCountsById(key)
+                    .map(row -> new StoredCounts(row.getLikesCount(), row.getCommentsCount()))
+                    .orElse(StoredCounts.NONE));
+    var pending = articleCounterBuffer.pending(id);
+    return new StoredCounts(
+        stored.likes() + pending.likes(), stored.comments() + pending.comments());
+  }
+
+  /** Descarta o artigo agora e de novo ao fim da transação atual, depois da escrita. */
+  public void evict(Long id) {
+    cache.invalidate(id);
+    counts.invalidate(id);
+    afterCompletion(
+        () -> {
+          cache.invalidate(id);
+          counts.invalidate(id);
+        });
+  }
+
+  /** Descarta tudo, para mudanças que atingem muitos artigos (ex.: troca de categoria em massa). */
+  public void evictAll() {
+    cache.invalidateAll();
+    afterCompletion(cache::invalidateAll);
+  }
+
+  private ArticleResponseWithTitleAndStatusAndCategoryName render(Long id, CachedArticle article) {
+    var current = currentCounts(id);
+    return new ArticleResponseWithTitleAndStatusAndCategoryName(
+        article.title(),
+        article.content(),
+        categoryCache.nameOf(article.categoryId()),
+        current.likes(),
+        current.comments());
+  }
+
+  private static void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            action.run();
+          }
+        });
+  }
+
+  private static LocalDateTime firstNonNull(LocalDateTime first, LocalDateTime second) {
+    return first != null ? first : second;
+  }
+
+  private record StoredCounts(long likes, long comments) {
+
+    static final StoredCounts NONE = new StoredCounts(0, 0);
+  }
+
+  private record CachedArticle(
+      String title, String content, Long categoryId, LocalDateTime updatedAt) {
+
+    static CachedArticle of(Article article) {
+      return new CachedArticle(
+          article.getTitle(),
+          article.getContent(),
+          article.getCategory().getId(),
+          firstNonNull(article.getUpdatedAt(), article.getCreatedAt()));
+    }
+
+    /** Bytes aproximados: dois por caractere de texto mais o cabeçalho dos objetos. */
+    int weight() {
+      return 2 * (title.length() + content.length()) + 120;
+    }
+  }
+}
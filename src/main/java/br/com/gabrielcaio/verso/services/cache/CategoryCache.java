@@ -0,0 +1,184 @@
+package br.com.gabrielcaio.verso.services.cache;
+
+import br.com.gabrielcaio.verso.domain.entity.Category;
+import br.com.gabrielcaio.verso.repositories.CategoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cópia em memória de todas as categorias, indexada por nome e por ID. As categorias são poucas e
+ * quase não mudam, então a tabela inteira é carregada de uma vez e trocada por um novo snapshot
+ * quando alguma é criada, renomeada ou excluída. Um snapshot mais velho que {@code refresh} é
+ * recarregado, para pegar mudanças feitas por outras instâncias.
+ *
+ * <p>As buscas devolvem uma {@link Category} nova e destacada a cada chamada, com ID e nome; ela
+ * serve para associar a um artigo e para ler o nome, não para ser alterada. Os nomes são comparados
+ * exatamente como estão gravados; a normalização (trim + maiúsculas) continua com quem chama.
+ */
+@Slf4j
+@Component
+public class CategoryCache {
+
+  private final CategoryRepository categoryRepository;
+  private final Duration refresh;
+
+  private final Counter nameHits;
+  private final Counter nameMisses;
+  private final Counter idHits;
+  private final Counter idMisses;
+  private final Counter reloads;
+
+  /** Incrementado a cada descarte, para que um reload concorrente não publique dados velhos. */
+  private final AtomicLong generation = new AtomicLong();
+
+  private volatile Snapshot snapshot;
+
+  public CategoryCache(
+      CategoryRepository categoryRepository,
+      MeterRegistry meterRegistry,
+      @Value("${verso.categories.cache.refresh:5m}") Duration refresh) {
+    this.categoryRepository = categoryRepository;
+    this.refresh = refresh;
+
+    this.nameHits =
+        meterRegistry.counter("verso.categories.cache", "lookup", "name", "result", "hit");
+    this.nameMisses =
+        meterRegistry.counter("verso.categories.cache", "lookup", "name", "result", "miss");
+    this.idHits = meterRegistry.counter("verso.categories.cache", "lookup", "id", "result", "hit");
+    this.idMisses =
+        meterRegistry.counter("verso.categories.cache", "lookup", "id", "result", "miss");
+    this.reloads = meterRegistry.counter("verso.categories.cache.reloads");
+    Gauge.builder("verso.categories.cache.size", this, CategoryCache::size)
+        .description("Categorias no snapshot em memória")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Categoria pelo nome exato. Um nome fora do snapshot ainda é procurado no banco; se existir, o
+   * snapshot estava velho e é descartado.
+   */
+  public Optional<Category> findByName(String name) {
+    var entry = current().byName().get(name);
+    if (entry != null) {
+      nameHits.increment();
+      return Optional.of(entry.toCategory());
+    }
+
+    nameMisses.increment();
+    var fromDatabase = categoryRepository.findByName(name);
+    fromDatabase.ifPresent(
+        category -> {
+          log.debug("[CATEGORY CACHE] Categoria '{}' fora do snapshot; descartando", name);
+          discard();
+        });
+    return fromDatabase;
+  }
+
+  public Optional<Category> findById(Long id) {
+    var entry = current().byId().get(id);
+    if (entry != null) {
+      idHits.increment();
+      return Optional.of(entry.toCategory());
+    }
+
+    idMisses.increment();
+    var fromDatabase = categoryRepository.findById(id);
+    fromDatabase.ifPresent(
+        category -> {
+          log.debug("[CATEGORY CACHE] Categoria ID {} fora do snapshot; descartando", id);
+          discard();
+        });
+    return fromDatabase;
+  }
+
+  /** Nome da categoria de um artigo, sem inicializar o proxy {@code article.getCategory()}. */
+  public String nameOf(Long categoryId) {
+    return findById(categoryId).map(Category::getName).orElse(null);
+  }
+
+  /**
+   * Descarta o snapshot na hora e de novo ao fim da transação atual, já que um reload feito antes
+   * do commit (ou rollback) pode ter lido o estado errado. Deve ser chamado por toda escrita em
+   * {@code tb_categories}.
+   */
+  public void invalidate() {
+    discard();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              discard();
+            }
+          });
+    }
+  }
+
+  private void discard() {
+    generation.incrementAndGet();
+    snapshot = null;
+  }
+
+  private int size() {
+    var current = snapshot;
+    return current == null ? 0 : current.byId().size();
+  }
+
+  private Snapshot current() {
+    var current = snapshot;
+    if (current != null && current.loadedAt().plus(refresh).isAfter(LocalDateTime.now())) {
+      return current;
+    }
+    return reload();
+  }
+
+  private synchronized Snapshot reload() {
+    var current = snapshot;
+    if (current != null && current.loadedAt().plus(refresh).isAfter(LocalDateTime.now())) {
+      return current;
+    }
+
+    long loadingGeneration = generation.get();
+    var entries = categoryRepository.findAll().stream().map(Entry::of).toList();
+    var loaded =
+        new Snapshot(
+            entries.stream()
+                .collect(Collectors.toUnmodifiableMap(Entry::name, Function.identity())),
+            entries.stream().collect(Collectors.toUnmodifiableMap(Entry::id, Function.identity())),
+            LocalDateTime.now());
+    if (generation.get() == loadingGeneration) {
+      snapshot = loaded;
+    }
+    reloads.increment();
+    log.debug("[CATEGORY CACHE] Snapshot recarregado com {} categorias", entries.size());
+    return loaded;
+  }
+
+  private record Snapshot(
+      Map<String, Entry> byName, Map<Long, Entry> byId, LocalDateTime loadedAt) {}
+
+  private record Entry(Long id, String name, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    static Entry of(Category category) {
+      return new Entry(
+          category.getId(), category.getName(), category.getCreatedAt(), category.getUpdatedAt());
+    }
+
+    Category toCategory() {
+      return Category.builder().id(id).name(name).createdAt(createdAt).updatedAt(updatedAt).build();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package br.com.gabrielcaio.verso.services.pagination;
+
+import br.com.gabrielcaio.verso.controllers.error.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição em uma listagem ordenada por {@code (createdAt DESC, id DESC)}. Vai para o cliente como
+ * string opaca em Base64 URL-safe; o cliente só devolve o valor recebido em {@code nextCursor}.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  public String encode() {
+    return ENCODER.encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decode(String cursor) {
+    try {
+      var raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('|');
+      return new KeysetCursor(
+          LocalDateTime.parse(raw.substring(0, separator)),
+          Long.valueOf(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new BusinessException("Cursor inválido");
+    }
+  }
+}
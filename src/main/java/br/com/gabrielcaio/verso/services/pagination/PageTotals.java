@@ -0,0 +1,65 @@
+package br.com.gabrielcaio.verso.services.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Completa as listagens paginadas, que são lidas como {@link Slice} (size + 1 linhas, sem COUNT).
+ * Com {@code withTotal=false} o slice vai direto para o cliente. Com {@code withTotal=true} o total
+ * vem de um COUNT guardado em cache por chave de listagem durante um TTL curto, então é aproximado:
+ * pode ficar atrás das escritas até expirar. Na última página o total é conhecido sem COUNT e
+ * atualiza o cache.
+ */
+@Slf4j
+@Component
+public class PageTotals {
+
+  private final Cache<String, Long> cache;
+
+  public PageTotals(
+      MeterRegistry meterRegistry,
+      @Value("${verso.pagination.total-cache.max-size:10000}") long maxSize,
+      @Value("${verso.pagination.total-cache.ttl:30s}") Duration ttl) {
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "page_totals");
+    log.info("[PAGINATION] Cache de totais inicializado. maxSize={}, ttl={}", maxSize, ttl);
+  }
+
+  /**
+   * Devolve o próprio slice quando {@code withTotal} é falso; caso contrário uma página com o total
+   * da listagem identificada por {@code key}, contado por {@code count} só quando não está em
+   * cache.
+   */
+  public <T> Slice<T> complete(Slice<T> slice, boolean withTotal, String key, LongSupplier count) {
+    if (!withTotal) {
+      return slice;
+    }
+
+    var pageable = slice.getPageable();
+    long seen = (pageable.isPaged() ? pageable.getOffset() : 0) + slice.getNumberOfElements();
+
+    if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+      cache.put(key, seen);
+      return new PageImpl<>(slice.getContent(), pageable, seen);
+    }
+
+    long total = cache.get(key, ignored -> count.getAsLong());
+    long atLeast = slice.hasNext() ? seen + 1 : seen;
+    return new PageImpl<>(slice.getContent(), pageable, Math.max(total, atLeast));
+  }
+
+  /** Descarta o total de uma listagem cuja contagem mudou de forma que o cliente vai notar. */
+  public void invalidate(String key) {
+    cache.invalidate(key);
+  }
+}
@@ -0,0 +1,70 @@
+package br.com.gabrielcaio.verso.services.versioning;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lê a versão de um escopo de listagens em {@code tb_content_versions}, mantida por triggers no
+ * banco a cada mudança visível em {@code tb_articles} e a cada escrita em {@code tb_categories}. É
+ * uma leitura por chave primária, válida entre instâncias, que permite responder 304 sem consultar
+ * a listagem.
+ *
+ * <p>Gravar likes e comentários não muda a versão, para que o flush de contadores não trave a linha
+ * do escopo a cada intervalo. Listagens que exibem contadores usam {@link #withCounters}, que soma
+ * à versão uma janela de {@code listing-counters-max-age}: o cliente revalida e recebe os
+ * contadores atualizados no máximo uma vez por janela.
+ */
+@Component
+public class ContentVersions {
+
+  public static final String ARTICLES = "articles";
+  public static final String CATEGORIES = "categories";
+
+  private static final String SELECT_SQL =
+      "SELECT version, updated_at FROM tb_content_versions WHERE scope = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration countersMaxAge;
+  private final Clock clock;
+
+  public ContentVersions(
+      JdbcTemplate jdbcTemplate,
+      @Value("${verso.conditional.listing-counters-max-age:1m}") Duration countersMaxAge) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.countersMaxAge = countersMaxAge;
+    this.clock = Clock.systemDefaultZone();
+  }
+
+  public ResourceVersion current(String scope) {
+    return read(scope, List.of(), null);
+  }
+
+  /** Versão do escopo mais a janela de contadores em que o instante atual cai. */
+  public ResourceVersion withCounters(String scope) {
+    long window = clock.millis() / countersMaxAge.toMillis();
+    var windowStart =
+        LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(window * countersMaxAge.toMillis()), clock.getZone());
+    return read(scope, List.of(window), windowStart);
+  }
+
+  private ResourceVersion read(String scope, List<Long> extraParts, LocalDateTime extraTimestamp) {
+    return jdbcTemplate.queryForObject(
+        SELECT_SQL,
+        (rs, rowNum) -> {
+          Timestamp updatedAt = rs.getTimestamp("updated_at");
+          var parts = new ArrayList<Object>(List.of(scope, rs.getLong("version")));
+          parts.addAll(extraParts);
+          return ResourceVersion.of(parts, updatedAt.toLocalDateTime(), extraTimestamp);
+        },
+        scope);
+  }
+}
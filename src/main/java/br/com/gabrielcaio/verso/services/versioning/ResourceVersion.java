@@ -0,0 +1,33 @@
+package br.com.gabrielcaio.verso.services.versioning;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Validadores de um recurso para GET condicional: um ETag fraco montado a partir de versões e
+ * timestamps já conhecidos (nunca do hash do corpo) e o instante da última modificação.
+ *
+ * @param eTag ETag fraco, já entre aspas
+ * @param lastModified epoch em milissegundos, ou {@code -1} quando desconhecido
+ */
+public record ResourceVersion(String eTag, long lastModified) {
+
+  /**
+   * Junta as partes em um ETag fraco. O {@code lastModified} é o mais recente dos timestamps
+   * informados, ignorando nulos.
+   */
+  public static ResourceVersion of(List<?> parts, LocalDateTime... timestamps) {
+    var eTag = parts.stream().map(String::valueOf).collect(Collectors.joining("-", "W/\"", "\""));
+    var lastModified =
+        Arrays.stream(timestamps)
+            .filter(Objects::nonNull)
+            .max(LocalDateTime::compareTo)
+            .map(timestamp -> timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+            .orElse(-1L);
+    return new ResourceVersion(eTag, lastModified);
+  }
+}
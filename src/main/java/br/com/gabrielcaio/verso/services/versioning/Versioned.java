@@ -0,0 +1,4 @@
+package br.com.gabrielcaio.verso.services.versioning;
+
+/** Corpo de uma resposta junto com os validadores lidos na mesma consulta. */
+public record Versioned<T>(T body, ResourceVersion version) {}
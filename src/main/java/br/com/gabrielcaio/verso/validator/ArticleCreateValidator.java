@@ -3,9 +3,9 @@ package br.com.gabrielcaio.verso.validator;
 import br.com.gabrielcaio.verso.controllers.error.EntityExistsException;
 import br.com.gabrielcaio.verso.domain.entity.Article;
 import br.com.gabrielcaio.verso.domain.entity.Category;
-import br.com.gabrielcaio.verso.domain.entity.User;
 import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
 import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -14,12 +14,12 @@ import org.springframework.stereotype.Component;
 public class ArticleCreateValidator {
   private final ArticleRepository articleRepository;
 
-  public void validate(Article article, User author, Category category) {
+  public void validate(Article article, AuthenticatedUser author, Category category) {
     boolean exists =
-        articleRepository.existsByAuthorIdAndTitleIgnoreCase(author.getId(), article.getTitle());
+        articleRepository.existsByAuthorIdAndTitleIgnoreCase(author.id(), article.getTitle());
     if (exists) {
       throw new EntityExistsException(
-          "Author(" + author.getUsername() + ") já possui um artigo com esse título");
+          "Author(" + author.username() + ") já possui um artigo com esse título");
     }
 
     // validar status
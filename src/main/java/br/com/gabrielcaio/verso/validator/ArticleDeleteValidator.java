@@ -1,7 +1,7 @@
 package br.com.gabrielcaio.verso.validator;
 
 import br.com.gabrielcaio.verso.domain.entity.Article;
-import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
@@ -9,8 +9,8 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class ArticleDeleteValidator {
-  public void validate(Article article, User currentUser) {
-    if (!article.getAuthor().getId().equals(currentUser.getId())) {
+  public void validate(Article article, AuthenticatedUser currentUser) {
+    if (!article.getAuthor().getId().equals(currentUser.id())) {
       throw new AccessDeniedException("Você só pode excluir seus próprios artigos");
     }
   }
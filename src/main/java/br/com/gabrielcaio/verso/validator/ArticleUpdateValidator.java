@@ -2,10 +2,10 @@ package br.com.gabrielcaio.verso.validator;
 
 import br.com.gabrielcaio.verso.controllers.error.BusinessException;
 import br.com.gabrielcaio.verso.domain.entity.Article;
-import br.com.gabrielcaio.verso.domain.entity.User;
 import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
 import br.com.gabrielcaio.verso.dtos.UpdateArticleRequestDTO;
 import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
@@ -16,9 +16,10 @@ public class ArticleUpdateValidator {
 
   private final ArticleRepository articleRepository;
 
-  public void validate(Article article, UpdateArticleRequestDTO updated, User currentUser) {
+  public void validate(
+      Article article, UpdateArticleRequestDTO updated, AuthenticatedUser currentUser) {
 
-    if (!article.getAuthor().getId().equals(currentUser.getId())) {
+    if (!article.getAuthor().getId().equals(currentUser.id())) {
       throw new AccessDeniedException("Você só pode editar seus próprios artigos");
     }
 
@@ -39,7 +40,7 @@ public class ArticleUpdateValidator {
     if (updated.getTitle() != null && !updated.getTitle().isBlank()) {
       boolean exists =
           articleRepository.existsByAuthorIdAndTitleIgnoreCase(
-              currentUser.getId(), updated.getTitle());
+              currentUser.id(), updated.getTitle());
       if (exists && !updated.getTitle().equalsIgnoreCase(article.getTitle())) {
         throw new BusinessException("Você já possui um artigo com esse título");
       }
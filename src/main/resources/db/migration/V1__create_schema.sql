@@ -0,0 +1,156 @@
+-- Esquema inicial, equivalente ao que o Hibernate gerava com ddl-auto.
+
+CREATE TABLE tb_roles (
+    role_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name    VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_roles PRIMARY KEY (role_id),
+    CONSTRAINT uk_role_name UNIQUE (name)
+);
+
+CREATE TABLE tb_users (
+    user_id    BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username   VARCHAR(100) NOT NULL,
+    email      VARCHAR(120) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    enabled    BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_users PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE TABLE tb_users_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    CONSTRAINT uk_user_role PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_users_roles_user FOREIGN KEY (user_id) REFERENCES tb_users,
+    CONSTRAINT fk_users_roles_role FOREIGN KEY (role_id) REFERENCES tb_roles
+);
+
+CREATE TABLE tb_categories (
+    category_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(60) NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT pk_categories PRIMARY KEY (category_id),
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+CREATE TABLE tb_articles (
+    article_id     BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title          VARCHAR(150) NOT NULL,
+    content        TEXT         NOT NULL,
+    status         VARCHAR(20) DEFAULT 'PUBLICADO' NOT NULL,
+    author_id      BIGINT       NOT NULL,
+    category_id    BIGINT       NOT NULL,
+    likes_count    BIGINT DEFAULT 0 NOT NULL,
+    comments_count BIGINT DEFAULT 0 NOT NULL,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT pk_articles PRIMARY KEY (article_id),
+    CONSTRAINT ck_articles_status CHECK (status IN ('RASCUNHO', 'PUBLICADO')),
+    CONSTRAINT fk_article_user FOREIGN KEY (author_id) REFERENCES tb_users,
+    CONSTRAINT fk_article_category FOREIGN KEY (category_id) REFERENCES tb_categories
+);
+
+CREATE INDEX idx_article_status_created_id
+    ON tb_articles (status, created_at DESC, article_id DESC);
+
+CREATE TABLE tb_article_reaction_counts (
+    article_id  BIGINT       NOT NULL,
+    like_count  BIGINT       NOT NULL,
+    love_count  BIGINT       NOT NULL,
+    laugh_count BIGINT       NOT NULL,
+    wow_count   BIGINT       NOT NULL,
+    sad_count   BIGINT       NOT NULL,
+    angry_count BIGINT       NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_article_reaction_counts PRIMARY KEY (article_id),
+    CONSTRAINT fk_reaction_counts_article FOREIGN KEY (article_id)
+        REFERENCES tb_articles ON DELETE CASCADE
+);
+
+CREATE TABLE tb_comments (
+    comment_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    content    TEXT    NOT NULL,
+    article_id BIGINT  NOT NULL,
+    author_id  BIGINT  NOT NULL,
+    parent_id  BIGINT,
+    path       VARCHAR(2000) COLLATE "C",
+    depth      INTEGER NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_comments PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comment_article FOREIGN KEY (article_id) REFERENCES tb_articles,
+    CONSTRAINT fk_comment_user FOREIGN KEY (author_id) REFERENCES tb_users,
+    CONSTRAINT fk_comment_parent FOREIGN KEY (parent_id) REFERENCES tb_comments
+);
+
+CREATE INDEX idx_comment_article_path ON tb_comments (article_id, path);
+CREATE INDEX idx_comment_parent_id ON tb_comments (parent_id, comment_id);
+
+CREATE TABLE tb_reactions (
+    reaction_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id     BIGINT      NOT NULL,
+    article_id  BIGINT      NOT NULL,
+    type        VARCHAR(20) NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT pk_reactions PRIMARY KEY (reaction_id),
+    CONSTRAINT uk_user_article_reaction UNIQUE (user_id, article_id),
+    CONSTRAINT ck_reactions_type CHECK (type IN ('LIKE', 'LOVE', 'LAUGH', 'WOW', 'SAD', 'ANGRY')),
+    CONSTRAINT fk_reaction_user FOREIGN KEY (user_id) REFERENCES tb_users,
+    CONSTRAINT fk_reaction_article FOREIGN KEY (article_id) REFERENCES tb_articles
+);
+
+CREATE TABLE tb_favorites (
+    favorite_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id     BIGINT NOT NULL,
+    article_id  BIGINT NOT NULL,
+    created_at  TIMESTAMP(6),
+    CONSTRAINT pk_favorites PRIMARY KEY (favorite_id),
+    CONSTRAINT uk_user_article_favorite UNIQUE (user_id, article_id),
+    CONSTRAINT fk_favorite_user FOREIGN KEY (user_id) REFERENCES tb_users,
+    CONSTRAINT fk_favorite_article FOREIGN KEY (article_id) REFERENCES tb_articles
+);
+
+CREATE TABLE tb_follows (
+    follow_id    BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    follower_id  BIGINT NOT NULL,
+    following_id BIGINT NOT NULL,
+    created_at   TIMESTAMP(6),
+    CONSTRAINT pk_follows PRIMARY KEY (follow_id),
+    CONSTRAINT uk_follower_following UNIQUE (follower_id, following_id),
+    CONSTRAINT fk_follow_follower FOREIGN KEY (follower_id) REFERENCES tb_users,
+    CONSTRAINT fk_follow_following FOREIGN KEY (following_id) REFERENCES tb_users
+);
+
+CREATE TABLE tb_notifications (
+    notification_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id         BIGINT       NOT NULL,
+    article_id      BIGINT       NOT NULL,
+    message         VARCHAR(255) NOT NULL,
+    read            BOOLEAN      NOT NULL,
+    created_at      TIMESTAMP(6),
+    CONSTRAINT pk_notifications PRIMARY KEY (notification_id),
+    CONSTRAINT fk_notification_user FOREIGN KEY (user_id) REFERENCES tb_users,
+    CONSTRAINT fk_notification_article FOREIGN KEY (article_id) REFERENCES tb_articles
+);
+
+CREATE TABLE tb_outbox_events (
+    outbox_event_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    type            VARCHAR(40)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error      VARCHAR(500),
+    processed_at    TIMESTAMP(6),
+    created_at      TIMESTAMP(6),
+    CONSTRAINT pk_outbox_events PRIMARY KEY (outbox_event_id),
+    CONSTRAINT ck_outbox_events_type CHECK (type IN ('ARTICLE_PUBLISHED', 'COMMENT_CREATED')),
+    CONSTRAINT ck_outbox_events_status CHECK (status IN ('PENDING', 'PROCESSED', 'FAILED'))
+);
+
+CREATE INDEX idx_outbox_status_next_attempt ON tb_outbox_events (status, next_attempt_at);
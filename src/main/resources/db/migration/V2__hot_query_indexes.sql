@@ -0,0 +1,42 @@
+-- Índices secundários das consultas quentes. Cada índice segue o filtro e a ordenação da consulta
+-- que atende, para que a página saia de um range scan em vez de Seq Scan + Sort.
+
+-- NotificationRepository.findAllByUserOrderByCreatedAtDesc / countByUser
+CREATE INDEX idx_notification_user_created
+    ON tb_notifications (user_id, created_at DESC, notification_id DESC);
+
+-- NotificationRepository.findAllByUserAndReadOrderByCreatedAtDesc / countByUserAndRead /
+-- markAllAsReadByUser. O filtro por read chega como parâmetro, então o índice não é parcial.
+CREATE INDEX idx_notification_user_read_created
+    ON tb_notifications (user_id, read, created_at DESC);
+
+-- Remoção de artigos (FK de tb_notifications)
+CREATE INDEX idx_notification_article ON tb_notifications (article_id);
+
+-- CommentRepository.findRootIdsByArticleId / countRootsByArticleId /
+-- findByArticleAndParentIsNullOrderByCreatedAtAsc
+CREATE INDEX idx_comment_article_roots
+    ON tb_comments (article_id, created_at, comment_id)
+    WHERE parent_id IS NULL;
+
+-- CommentRepository.findByArticleOrderByCreatedAtAsc (listagem flat)
+CREATE INDEX idx_comment_article_created ON tb_comments (article_id, created_at, comment_id);
+
+-- FollowRepository.findFollowersByFollowing / countByFollowing e o fan-out de notificações.
+-- O sentido follower -> following já é coberto por uk_follower_following.
+CREATE INDEX idx_follow_following ON tb_follows (following_id, follower_id);
+
+-- ArticleRepository.findSummariesByStatusAndAuthorId / countByStatusAndAuthorId (rascunhos)
+CREATE INDEX idx_article_author_status_created
+    ON tb_articles (author_id, status, created_at DESC);
+
+-- ArticleRepository.findAllByCategory (remoção de categoria)
+CREATE INDEX idx_article_category ON tb_articles (category_id);
+
+-- ReactionRepository.findAllByArticle / countByArticle / countByTypeForArticle.
+-- O sentido user -> article já é coberto por uk_user_article_reaction.
+CREATE INDEX idx_reaction_article_type ON tb_reactions (article_id, type);
+
+-- Remoção de artigos (FK de tb_favorites). O sentido user -> article já é coberto por
+-- uk_user_article_favorite.
+CREATE INDEX idx_favorite_article ON tb_favorites (article_id);
@@ -0,0 +1,43 @@
+-- IDs das tabelas de alto volume passam de IDENTITY para sequences com INCREMENT BY 50, o mesmo
+-- allocationSize das entidades. Com o otimizador pooled do Hibernate cada nextval reserva o bloco
+-- (valor - 49 .. valor), então os inserts são agrupados em lote no JDBC em vez de exigir um round
+-- trip por linha para ler o ID gerado.
+--
+-- A coluna continua com DEFAULT nextval para os INSERTs nativos (fan-out de notificações, cargas
+-- em SQL). Cada um consome um valor inteiro da sequence e usa só o topo do bloco, o que nunca
+-- colide com os blocos entregues ao Hibernate.
+
+ALTER TABLE tb_articles ALTER COLUMN article_id DROP IDENTITY;
+CREATE SEQUENCE tb_articles_seq INCREMENT BY 50 OWNED BY tb_articles.article_id;
+SELECT setval('tb_articles_seq', COALESCE((SELECT MAX(article_id) FROM tb_articles), 0) + 50, false);
+ALTER TABLE tb_articles ALTER COLUMN article_id SET DEFAULT nextval('tb_articles_seq');
+
+ALTER TABLE tb_comments ALTER COLUMN comment_id DROP IDENTITY;
+CREATE SEQUENCE tb_comments_seq INCREMENT BY 50 OWNED BY tb_comments.comment_id;
+SELECT setval('tb_comments_seq', COALESCE((SELECT MAX(comment_id) FROM tb_comments), 0) + 50, false);
+ALTER TABLE tb_comments ALTER COLUMN comment_id SET DEFAULT nextval('tb_comments_seq');
+
+ALTER TABLE tb_reactions ALTER COLUMN reaction_id DROP IDENTITY;
+CREATE SEQUENCE tb_reactions_seq INCREMENT BY 50 OWNED BY tb_reactions.reaction_id;
+SELECT setval('tb_reactions_seq', COALESCE((SELECT MAX(reaction_id) FROM tb_reactions), 0) + 50, false);
+ALTER TABLE tb_reactions ALTER COLUMN reaction_id SET DEFAULT nextval('tb_reactions_seq');
+
+ALTER TABLE tb_notifications ALTER COLUMN notification_id DROP IDENTITY;
+CREATE SEQUENCE tb_notifications_seq INCREMENT BY 50 OWNED BY tb_notifications.notification_id;
+SELECT setval('tb_notifications_seq', COALESCE((SELECT MAX(notification_id) FROM tb_notifications), 0) + 50, false);
+ALTER TABLE tb_notifications ALTER COLUMN notification_id SET DEFAULT nextval('tb_notifications_seq');
+
+ALTER TABLE tb_follows ALTER COLUMN follow_id DROP IDENTITY;
+CREATE SEQUENCE tb_follows_seq INCREMENT BY 50 OWNED BY tb_follows.follow_id;
+SELECT setval('tb_follows_seq', COALESCE((SELECT MAX(follow_id) FROM tb_follows), 0) + 50, false);
+ALTER TABLE tb_follows ALTER COLUMN follow_id SET DEFAULT nextval('tb_follows_seq');
+
+ALTER TABLE tb_favorites ALTER COLUMN favorite_id DROP IDENTITY;
+CREATE SEQUENCE tb_favorites_seq INCREMENT BY 50 OWNED BY tb_favorites.favorite_id;
+SELECT setval('tb_favorites_seq', COALESCE((SELECT MAX(favorite_id) FROM tb_favorites), 0) + 50, false);
+ALTER TABLE tb_favorites ALTER COLUMN favorite_id SET DEFAULT nextval('tb_favorites_seq');
+
+ALTER TABLE tb_outbox_events ALTER COLUMN outbox_event_id DROP IDENTITY;
+CREATE SEQUENCE tb_outbox_events_seq INCREMENT BY 50 OWNED BY tb_outbox_events.outbox_event_id;
+SELECT setval('tb_outbox_events_seq', COALESCE((SELECT MAX(outbox_event_id) FROM tb_outbox_events), 0) + 50, false);
+ALTER TABLE tb_outbox_events ALTER COLUMN outbox_event_id SET DEFAULT nextval('tb_outbox_events_seq');
@@ -0,0 +1,36 @@
+-- Versão por escopo das listagens, usada como ETag/Last-Modified nos GETs condicionais. Os
+-- triggers são por comando, não por linha, e só incrementam uma vez por transação (last_txid): um
+-- flush de contadores com centenas de UPDATEs gera uma única versão nova.
+--
+-- Categorias aparecem pelo nome nas listagens de artigos, então uma escrita em tb_categories também
+-- avança 'articles'. Os escopos são sempre travados na mesma ordem ('articles' antes de
+-- 'categories') para que transações que escrevem nas duas tabelas não entrem em deadlock.
+
+CREATE TABLE tb_content_versions (
+    scope      VARCHAR(40) PRIMARY KEY,
+    version    BIGINT      NOT NULL DEFAULT 0,
+    last_txid  BIGINT,
+    updated_at TIMESTAMP   NOT NULL DEFAULT LOCALTIMESTAMP
+);
+
+INSERT INTO tb_content_versions (scope) VALUES ('articles'), ('categories');
+
+CREATE FUNCTION bump_content_versions() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    FOR i IN 0 .. TG_NARGS - 1 LOOP
+        UPDATE tb_content_versions
+        SET version = version + 1, last_txid = txid_current(), updated_at = clock_timestamp()
+        WHERE scope = TG_ARGV[i] AND last_txid IS DISTINCT FROM txid_current();
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_articles_content_version
+    AFTER INSERT OR UPDATE OR DELETE ON tb_articles
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_content_versions('articles');
+
+CREATE TRIGGER trg_categories_content_version
+    AFTER INSERT OR UPDATE OR DELETE ON tb_categories
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_content_versions('articles', 'categories');
@@ -0,0 +1,30 @@
+-- Timeline pré-calculada de cada usuário (fan-out na escrita): ao publicar, o artigo é inserido na
+-- timeline de cada seguidor do autor, e a leitura vira um range scan em
+-- idx_timeline_user_created. created_at é o do artigo, a mesma chave do feed global, para que as
+-- duas listagens usem o mesmo cursor.
+
+CREATE TABLE tb_timeline_entries (
+    user_id    BIGINT       NOT NULL,
+    article_id BIGINT       NOT NULL,
+    author_id  BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_timeline_entries PRIMARY KEY (user_id, article_id),
+    CONSTRAINT fk_timeline_user FOREIGN KEY (user_id) REFERENCES tb_users ON DELETE CASCADE,
+    CONSTRAINT fk_timeline_article FOREIGN KEY (article_id) REFERENCES tb_articles ON DELETE CASCADE
+);
+
+CREATE INDEX idx_timeline_user_created
+    ON tb_timeline_entries (user_id, created_at DESC, article_id DESC);
+
+-- Remoção de artigos (FK de tb_timeline_entries)
+CREATE INDEX idx_timeline_article ON tb_timeline_entries (article_id);
+
+-- Autores com seguidores demais para o fan-out na escrita. Os artigos deles não entram nas
+-- timelines; quem os segue recebe esses artigos na leitura (fan-out na leitura), por
+-- idx_article_author_status_created.
+CREATE TABLE tb_timeline_pull_authors (
+    author_id  BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT LOCALTIMESTAMP,
+    CONSTRAINT pk_timeline_pull_authors PRIMARY KEY (author_id),
+    CONSTRAINT fk_timeline_pull_author FOREIGN KEY (author_id) REFERENCES tb_users ON DELETE CASCADE
+);
@@ -0,0 +1,17 @@
+-- Contadores de follows desnormalizados em tb_users, para que o perfil não conte linhas de
+-- tb_follows a cada leitura. São mantidos por incrementos atômicos na mesma transação do
+-- follow/unfollow; o job de reconciliação recalcula em lotes o que divergir.
+
+ALTER TABLE tb_users
+    ADD COLUMN followers_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN following_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tb_users u
+SET followers_count = c.total
+FROM (SELECT following_id, count(*) AS total FROM tb_follows GROUP BY following_id) c
+WHERE c.following_id = u.user_id;
+
+UPDATE tb_users u
+SET following_count = c.total
+FROM (SELECT follower_id, count(*) AS total FROM tb_follows GROUP BY follower_id) c
+WHERE c.follower_id = u.user_id;
@@ -0,0 +1,16 @@
+-- A versão 'articles' só avança com mudanças que aparecem nas listagens: criação, exclusão e
+-- UPDATEs que tocam colunas exibidas (título, conteúdo do trecho, status, categoria, autor, data).
+-- O flush de likes/comentários só grava os contadores e não dispara mais o trigger, então deixa de
+-- disputar a linha 'articles' de tb_content_versions com as outras escritas em tb_articles.
+--
+-- Os contadores das listagens entram na versão pela janela de tempo de ContentVersions.
+
+DROP TRIGGER trg_articles_content_version ON tb_articles;
+
+CREATE TRIGGER trg_articles_content_version
+    AFTER INSERT OR DELETE ON tb_articles
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_content_versions('articles');
+
+CREATE TRIGGER trg_articles_content_version_update
+    AFTER UPDATE OF title, content, status, category_id, author_id, created_at ON tb_articles
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_content_versions('articles');
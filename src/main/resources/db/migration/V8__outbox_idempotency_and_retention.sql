@@ -0,0 +1,10 @@
+-- Notificações criadas pelo outbox guardam o evento de origem. Uma segunda entrega do mesmo evento
+-- (lease expirado, nova tentativa depois de falha) cai no índice único e é ignorada com
+-- ON CONFLICT DO NOTHING. Notificações sem evento ficam com NULL, que não conflita.
+
+ALTER TABLE tb_notifications ADD COLUMN outbox_event_id BIGINT;
+
+CREATE UNIQUE INDEX uk_notification_outbox_event_user ON tb_notifications (outbox_event_id, user_id);
+
+-- Limpeza periódica dos eventos já processados, mais antigos que a retenção
+CREATE INDEX idx_outbox_processed_at ON tb_outbox_events (processed_at) WHERE status = 'PROCESSED';
@@ -0,0 +1,88 @@
+package br.com.gabrielcaio.verso.benchmark;
+
+import br.com.gabrielcaio.verso.security.AuthenticationCache;
+import br.com.gabrielcaio.verso.security.CachingAuthenticationProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+/**
+ * Compara o caminho de autenticação HTTP Basic com e sem o {@link AuthenticationCache}.
+ *
+ * <p>Não roda no {@code mvn test}; execute o {@code main} pela IDE após {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationCacheBenchmark {
+
+  private static final String USERNAME = "user";
+  private static final String PASSWORD = "user123";
+
+  private AuthenticationProvider uncached;
+  private AuthenticationProvider cached;
+
+  @Setup
+  public void setup() {
+    var encoder = new BCryptPasswordEncoder(10);
+    var userDetailsService =
+        new InMemoryUserDetailsManager(
+            User.withUsername(USERNAME).password(encoder.encode(PASSWORD)).roles("USER").build());
+
+    var daoProvider = new DaoAuthenticationProvider(userDetailsService);
+    daoProvider.setPasswordEncoder(encoder);
+
+    uncached = daoProvider;
+    cached =
+        new CachingAuthenticationProvider(
+            daoProvider,
+            new AuthenticationCache(new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5)),
+            username -> true);
+    cached.authenticate(request());
+  }
+
+  @Benchmark
+  public Authentication uncachedBcrypt() {
+    return uncached.authenticate(request());
+  }
+
+  @Benchmark
+  public Authentication cachedHmac() {
+    return cached.authenticate(request());
+  }
+
+  private static Authentication request() {
+    return UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, PASSWORD);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(AuthenticationCacheBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
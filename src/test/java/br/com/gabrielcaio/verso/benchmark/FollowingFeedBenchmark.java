@@ -0,0 +1,131 @@
+package br.com.gabrielcaio.verso.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.infrastructure.timeline.AuthorStreamMerger;
+import br.com.gabrielcaio.verso.infrastructure.timeline.TimelineEntry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Latência de uma página de 20 itens do feed dos usuários seguidos, no início e a 1000 itens de
+ * profundidade, comparando o {@code IN (...) ORDER BY} com o k-way merge do {@link
+ * AuthorStreamMerger}: muitos autores com poucos artigos e poucos autores com histórico longo. O
+ * {@code IN} lê e ordena todos os artigos dos autores seguidos; o merge faz uma busca no índice por
+ * autor, qualquer que seja o histórico.
+ *
+ * <p>Precisa de Docker (Testcontainers) e não roda no {@code mvn test} nem no {@code verify};
+ * execute pela IDE.
+ */
+@Slf4j
+class FollowingFeedBenchmark extends BaseIT {
+
+  private static final int WARMUP = 5;
+  private static final int ITERATIONS = 20;
+  private static final int PAGE = 21;
+  private static final int DEEP_OFFSET = 1_000;
+
+  private static final String NAIVE_SQL =
+      """
+      SELECT article_id, created_at FROM tb_articles
+      WHERE author_id IN (%s) AND status = 'PUBLICADO'
+        AND (created_at, article_id) < (?, ?)
+      ORDER BY created_at DESC, article_id DESC
+      LIMIT ?
+      """;
+
+  @Autowired private AuthorStreamMerger authorStreamMerger;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @ParameterizedTest
+  @CsvSource({"1000, 10", "5000, 10", "200, 500", "1000, 200"})
+  void followingFeed(int authors, int articlesPerAuthor) {
+    var authorIds = seedAuthors(authors, articlesPerAuthor);
+    var deep = naive(authorIds, null, DEEP_OFFSET).getLast();
+
+    for (var after : new TimelineEntry[] {null, deep}) {
+      assertThat(authorStreamMerger.merge(authorIds, after, PAGE))
+          .isEqualTo(naive(authorIds, after, PAGE));
+
+      double naiveMillis = measure(() -> naive(authorIds, after, PAGE));
+      double mergeMillis = measure(() -> authorStreamMerger.merge(authorIds, after, PAGE));
+
+      log.info(
+          "[BENCHMARK] {} autores x {} artigos, {} | IN (...) ORDER BY={}ms | k-way merge={}ms",
+          authors,
+          articlesPerAuthor,
+          after == null ? "primeira página" : "após " + DEEP_OFFSET + " itens",
+          String.format("%.2f", naiveMillis),
+          String.format("%.2f", mergeMillis));
+    }
+  }
+
+  private double measure(Supplier<List<TimelineEntry>> page) {
+    for (int i = 0; i < WARMUP; i++) {
+      page.get();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      page.get();
+    }
+    return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / 1000.0 / ITERATIONS;
+  }
+
+  private List<TimelineEntry> naive(List<Long> authorIds, TimelineEntry after, int limit) {
+    var position =
+        after == null
+            ? new TimelineEntry(Long.MAX_VALUE, LocalDateTime.of(9999, 1, 1, 0, 0))
+            : after;
+    var args = new ArrayList<Object>(authorIds);
+    args.add(position.createdAt());
+    args.add(position.articleId());
+    args.add(limit);
+    return jdbcTemplate.query(
+        NAIVE_SQL.formatted(String.join(",", Collections.nCopies(authorIds.size(), "?"))),
+        (rs, rowNum) ->
+            new TimelineEntry(
+                rs.getLong("article_id"), rs.getTimestamp("created_at").toLocalDateTime()),
+        args.toArray());
+  }
+
+  private List<Long> seedAuthors(int authors, int articlesPerAuthor) {
+    var prefix = "bench_feed_" + UUID.randomUUID().toString().substring(0, 8) + "_";
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_users (username, email, password, enabled, created_at)
+        SELECT ? || g, ? || g || '@test.com', 'x', true, LOCALTIMESTAMP
+        FROM generate_series(1, ?) g
+        """,
+        prefix,
+        prefix,
+        authors);
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_articles (title, content, status, author_id, category_id, created_at)
+        SELECT 'Artigo ' || u.user_id || '/' || g, 'Conteúdo',
+               CASE WHEN g % 10 = 0 THEN 'RASCUNHO' ELSE 'PUBLICADO' END,
+               u.user_id, (SELECT min(category_id) FROM tb_categories),
+               LOCALTIMESTAMP - ((u.user_id * 7919 + g * 104729) % 20000000) * interval '1 second'
+        FROM tb_users u, generate_series(1, ?) g
+        WHERE u.username LIKE ?
+        """,
+        articlesPerAuthor, prefix + "%");
+    jdbcTemplate.execute("ANALYZE tb_articles");
+    var authorIds =
+        jdbcTemplate.queryForList(
+            "SELECT user_id FROM tb_users WHERE username LIKE ?", Long.class, prefix + "%");
+    Collections.shuffle(authorIds);
+    return authorIds;
+  }
+}
@@ -0,0 +1,115 @@
+package br.com.gabrielcaio.verso.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.domain.entity.Notification;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.repositories.NotificationRepository;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Mede a inserção de 100k notificações pelo JPA. O lado "antes" reproduz o que o IDENTITY impunha:
+ * um INSERT por linha com leitura do ID gerado, sem lote. O lado "depois" usa {@code saveAll} com
+ * IDs da sequence pooled e {@code hibernate.jdbc.batch_size}.
+ *
+ * <p>Precisa de Docker (Testcontainers) e não roda no {@code mvn test} nem no {@code verify};
+ * execute pela IDE.
+ */
+@Slf4j
+class NotificationBatchInsertBenchmark extends BaseIT {
+
+  private static final int ROWS = 100_000;
+  private static final int CHUNK = 1_000;
+
+  @Autowired private NotificationRepository notificationRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @Test
+  void insert100kNotifications() {
+    var user = register("bench_batch_insert");
+    var legacyArticle = publish(user, "Inserção por linha");
+    var batchedArticle = publish(user, "Inserção em lote");
+
+    long legacyMillis = time(() -> identityStyleInsert(user.getId(), legacyArticle.getId()));
+    long batchedMillis = time(() -> batchedInsert(user.getId(), batchedArticle.getId()));
+
+    log.info(
+        "[BENCHMARK] notificações={} | INSERT por linha com ID gerado={}ms | saveAll em lote={}ms",
+        ROWS,
+        legacyMillis,
+        batchedMillis);
+
+    assertThat(countFor(legacyArticle.getId())).isEqualTo(ROWS);
+    assertThat(countFor(batchedArticle.getId())).isEqualTo(ROWS);
+  }
+
+  /** Reprodução do IDENTITY: cada linha é um round trip que devolve o ID gerado. */
+  private void identityStyleInsert(Long userId, Long articleId) {
+    for (int i = 0; i < ROWS; i++) {
+      var keyHolder = new GeneratedKeyHolder();
+      jdbcTemplate.update(
+          connection -> {
+            PreparedStatement ps =
+                connection.prepareStatement(
+                    """
+                    INSERT INTO tb_notifications (user_id, article_id, message, read, created_at)
+                    VALUES (?, ?, 'Notificação de benchmark', false, LOCALTIMESTAMP)
+                    """,
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, userId);
+            ps.setLong(2, articleId);
+            return ps;
+          },
+          keyHolder);
+    }
+  }
+
+  private void batchedInsert(Long userId, Long articleId) {
+    var user = entityManager.getReference(User.class, userId);
+    var article = entityManager.getReference(Article.class, articleId);
+
+    List<Notification> chunk = new ArrayList<>(CHUNK);
+    for (int i = 0; i < ROWS; i++) {
+      var notification = new Notification();
+      notification.setUser(user);
+      notification.setArticle(article);
+      notification.setMessage("Notificação de benchmark");
+      chunk.add(notification);
+
+      if (chunk.size() == CHUNK) {
+        notificationRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        user = entityManager.getReference(User.class, userId);
+        article = entityManager.getReference(Article.class, articleId);
+        chunk.clear();
+      }
+    }
+  }
+
+  private long countFor(Long articleId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM tb_notifications WHERE article_id = ?", Long.class, articleId);
+  }
+
+  private long time(Runnable insert) {
+    long start = System.nanoTime();
+    transactionTemplate.executeWithoutResult(status -> insert.run());
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+}
@@ -0,0 +1,113 @@
+package br.com.gabrielcaio.verso.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.Notification;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.repositories.FollowRepository;
+import br.com.gabrielcaio.verso.repositories.NotificationRepository;
+import br.com.gabrielcaio.verso.services.NotificationService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Mede o fan-out de notificações na publicação de um artigo com 1k, 10k e 100k seguidores,
+ * comparando o loop antigo (um {@code save} por seguidor) com o {@code INSERT ... SELECT}.
+ *
+ * <p>Precisa de Docker (Testcontainers) e não roda no {@code mvn test} nem no {@code verify};
+ * execute pela IDE.
+ */
+@Slf4j
+class NotificationFanOutBenchmark extends BaseIT {
+
+  @Autowired private NotificationService notificationService;
+  @Autowired private NotificationRepository notificationRepository;
+  @Autowired private FollowRepository followRepository;
+  @Autowired private ArticleRepository articleRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1_000, 10_000, 100_000})
+  void fanOut(int followers) {
+    var author = createAuthorWithFollowers(followers);
+
+    var legacyArticle = publish(author, "Fan-out legado " + followers);
+    long legacyMillis = time(() -> legacyFanOut(legacyArticle.getId()));
+
+    var batchedArticle = publish(author, "Fan-out em lote " + followers);
+    long batchedMillis =
+        time(
+            () ->
+                notificationService.createNotificationForFollowers(
+                    articleRepository.findById(batchedArticle.getId()).orElseThrow(), null));
+
+    log.info(
+        "[BENCHMARK] seguidores={} | loop com save={}ms | INSERT ... SELECT={}ms",
+        followers,
+        legacyMillis,
+        batchedMillis);
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_notifications WHERE article_id = ?",
+                Long.class,
+                batchedArticle.getId()))
+        .isEqualTo(followers);
+  }
+
+  /** Reprodução do fan-out anterior: carrega todos os seguidores e salva um a um. */
+  private void legacyFanOut(Long articleId) {
+    var article = articleRepository.findById(articleId).orElseThrow();
+    var author = article.getAuthor();
+    var message = author.getUsername() + " publicou um novo artigo: " + article.getTitle();
+
+    for (User follower :
+        followRepository.findFollowersByFollowing(author, Pageable.unpaged()).getContent()) {
+      var notification = new Notification();
+      notification.setUser(follower);
+      notification.setArticle(article);
+      notification.setMessage(message);
+      notificationRepository.save(notification);
+    }
+  }
+
+  private long time(Runnable fanOut) {
+    long start = System.nanoTime();
+    transactionTemplate.executeWithoutResult(status -> fanOut.run());
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  private User createAuthorWithFollowers(int followers) {
+    var prefix = uniqueName("bench" + followers) + "_";
+    var author = register("bench" + followers + "_author");
+
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_users (username, email, password, enabled, created_at, updated_at)
+        SELECT ? || g, ? || g || '@test.com', 'x', true, LOCALTIMESTAMP, LOCALTIMESTAMP
+        FROM generate_series(1, ?) g
+        """,
+        prefix,
+        prefix,
+        followers);
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_follows (follower_id, following_id, created_at)
+        SELECT u.user_id, ?, LOCALTIMESTAMP FROM tb_users u
+        WHERE u.user_id > ?
+        """,
+        author.getId(),
+        author.getId());
+
+    return author;
+  }
+}
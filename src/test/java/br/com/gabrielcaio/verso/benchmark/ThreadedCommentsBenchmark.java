@@ -0,0 +1,162 @@
+package br.com.gabrielcaio.verso.benchmark;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.domain.entity.Comment;
+import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import br.com.gabrielcaio.verso.dtos.ThreadedCommentDTO;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.repositories.CategoryRepository;
+import br.com.gabrielcaio.verso.repositories.CommentRepository;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import br.com.gabrielcaio.verso.services.CommentService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Latência da listagem em árvore de um artigo com 5 mil comentários (100 raízes x 7 filhos x 6
+ * netos), comparando o N+1 antigo com a varredura por caminho materializado.
+ *
+ * <p>Precisa de Docker (Testcontainers) e não roda no {@code mvn test} nem no {@code verify};
+ * execute pela IDE.
+ */
+@Slf4j
+class ThreadedCommentsBenchmark extends BaseIT {
+
+  private static final int WARMUP = 5;
+  private static final int ITERATIONS = 20;
+
+  @Autowired private CommentService commentService;
+  @Autowired private CommentRepository commentRepository;
+  @Autowired private ArticleRepository articleRepository;
+  @Autowired private CategoryRepository categoryRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @ParameterizedTest
+  @ValueSource(ints = {10, 100})
+  void threadedListing(int pageSize) {
+    var article = seedArticleWithComments();
+    var pageable = PageRequest.of(0, pageSize);
+
+    double legacyMillis = measure(() -> legacyThreaded(article.getId(), pageable));
+    double pathMillis =
+        measure(() -> commentService.listThreadedByArticle(article.getId(), pageable, true));
+
+    log.info(
+        "[BENCHMARK] 5k comentários, página={} | N+1 (3 níveis)={}ms | caminho materializado={}ms",
+        pageSize,
+        String.format("%.2f", legacyMillis),
+        String.format("%.2f", pathMillis));
+  }
+
+  private double measure(Supplier<Slice<ThreadedCommentDTO>> listing) {
+    for (int i = 0; i < WARMUP; i++) {
+      transactionTemplate.execute(status -> listing.get());
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      transactionTemplate.execute(status -> listing.get());
+    }
+    return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / 1000.0 / ITERATIONS;
+  }
+
+  /** Reprodução da implementação anterior: uma consulta por raiz e por filho, fixa em 3 níveis. */
+  private Page<ThreadedCommentDTO> legacyThreaded(Long articleId, PageRequest pageable) {
+    var article = articleRepository.findById(articleId).orElseThrow();
+    return commentRepository
+        .findByArticleAndParentIsNullOrderByCreatedAtAsc(article, pageable)
+        .map(root -> toDto(root, 2));
+  }
+
+  private ThreadedCommentDTO toDto(Comment comment, int remainingLevels) {
+    List<ThreadedCommentDTO> replies =
+        remainingLevels == 0
+            ? List.of()
+            : commentRepository.findByParentOrderByCreatedAtAsc(comment).stream()
+                .map(child -> toDto(child, remainingLevels - 1))
+                .toList();
+    return new ThreadedCommentDTO(
+        comment.getId(),
+        comment.getContent(),
+        comment.getAuthor().getId(),
+        comment.getAuthor().getUsername(),
+        comment.getArticle().getId(),
+        comment.getCreatedAt(),
+        replies,
+        replies.size(),
+        null);
+  }
+
+  private Article seedArticleWithComments() {
+    var author = userRepository.findByEmail("user@test.com").orElseThrow();
+    var category = categoryRepository.findByName("Tecnologia").orElseThrow();
+    var article =
+        articleRepository.save(
+            Article.builder()
+                .title("Benchmark de threads " + System.nanoTime())
+                .content("Artigo com 5 mil comentários")
+                .status(ArticleStatus.PUBLICADO)
+                .author(author)
+                .category(category)
+                .build());
+
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_comments (content, author_id, article_id, depth, created_at, updated_at)
+        SELECT 'raiz ' || g, ?, ?, 0, LOCALTIMESTAMP, LOCALTIMESTAMP
+        FROM generate_series(1, 100) g
+        """,
+        author.getId(),
+        article.getId());
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_comments
+          (content, author_id, article_id, parent_id, depth, created_at, updated_at)
+        SELECT 'filho ' || g, ?, c.article_id, c.comment_id, 1, LOCALTIMESTAMP, LOCALTIMESTAMP
+        FROM tb_comments c CROSS JOIN generate_series(1, 7) g
+        WHERE c.article_id = ? AND c.parent_id IS NULL
+        """,
+        author.getId(),
+        article.getId());
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_comments
+          (content, author_id, article_id, parent_id, depth, created_at, updated_at)
+        SELECT 'neto ' || g, ?, c.article_id, c.comment_id, 2, LOCALTIMESTAMP, LOCALTIMESTAMP
+        FROM tb_comments c
+        JOIN tb_comments p ON p.comment_id = c.parent_id
+        CROSS JOIN generate_series(1, 6) g
+        WHERE c.article_id = ? AND p.parent_id IS NULL
+        """,
+        author.getId(),
+        article.getId());
+
+    // Caminhos preenchidos nível a nível, como o CommentService faz a cada insert
+    for (int depth = 0; depth <= 2; depth++) {
+      jdbcTemplate.update(
+          """
+          UPDATE tb_comments c
+          SET path = COALESCE(p.path, '') || lpad(c.comment_id::text, 19, '0') || '/'
+          FROM tb_comments c2
+          LEFT JOIN tb_comments p ON p.comment_id = c2.parent_id
+          WHERE c2.comment_id = c.comment_id AND c.article_id = ? AND c.depth = ?
+          """,
+          article.getId(),
+          depth);
+    }
+
+    return article;
+  }
+}
@@ -0,0 +1,210 @@
+package br.com.gabrielcaio.verso.benchmark;
+
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.infrastructure.tracing.ServiceTracingAspect;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+/**
+ * Compara o overhead por chamada do antigo {@code ServiceLoggingAspect} (reflexão + log em INFO)
+ * com o {@link ServiceTracingAspect} (timer Micrometer, log em DEBUG desligado).
+ *
+ * <p>Os appenders são removidos para medir só o custo do aspecto, sem I/O de log: o número do
+ * aspecto antigo é um limite inferior do que ele custa em produção.
+ *
+ * <p>Não roda no {@code mvn test}; execute o {@code main} pela IDE após {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TracingAspectBenchmark {
+
+  private ArticleLookup plain;
+  private ArticleLookup legacy;
+  private ArticleLookup tracing;
+
+  @Setup
+  public void setup() {
+    var root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    root.detachAndStopAllAppenders();
+    root.setLevel(Level.INFO);
+
+    var article = new Article();
+    article.setId(42L);
+    article.setTitle("Benchmark");
+
+    plain = new ArticleLookup(article);
+    legacy = proxy(plain, new LegacyAdvice(new LegacyServiceLoggingAspect()));
+    tracing = proxy(plain, new TracingAdvice(new ServiceTracingAspect(new SimpleMeterRegistry())));
+  }
+
+  @Benchmark
+  public Article noAspect() {
+    return plain.findById(42L);
+  }
+
+  @Benchmark
+  public Article legacyLoggingAspect() {
+    return legacy.findById(42L);
+  }
+
+  @Benchmark
+  public Article tracingAspect() {
+    return tracing.findById(42L);
+  }
+
+  private static ArticleLookup proxy(ArticleLookup target, Object aspect) {
+    var factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(aspect);
+    return factory.getProxy();
+  }
+
+  public static class ArticleLookup {
+
+    private final Article article;
+
+    public ArticleLookup() {
+      this(null);
+    }
+
+    public ArticleLookup(Article article) {
+      this.article = article;
+    }
+
+    public Article findById(Long id) {
+      return article;
+    }
+  }
+
+  @Aspect
+  public static class LegacyAdvice {
+
+    private final LegacyServiceLoggingAspect delegate;
+
+    public LegacyAdvice(LegacyServiceLoggingAspect delegate) {
+      this.delegate = delegate;
+    }
+
+    @Around(
+        "execution(* br.com.gabrielcaio.verso.benchmark.TracingAspectBenchmark.ArticleLookup.*(..))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+      return delegate.logServiceMethods(joinPoint);
+    }
+  }
+
+  @Aspect
+  public static class TracingAdvice {
+
+    private final ServiceTracingAspect delegate;
+
+    public TracingAdvice(ServiceTracingAspect delegate) {
+      this.delegate = delegate;
+    }
+
+    @Around(
+        "execution(* br.com.gabrielcaio.verso.benchmark.TracingAspectBenchmark.ArticleLookup.*(..))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+      return delegate.traceServiceMethods(joinPoint);
+    }
+  }
+
+  /** Cópia da lógica do aspecto removido, mantida só como referência de comparação. */
+  @Slf4j
+  static class LegacyServiceLoggingAspect {
+
+    Object logServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+      String serviceName = joinPoint.getTarget().getClass().getSimpleName();
+      String methodName = joinPoint.getSignature().getName();
+      Object[] args = joinPoint.getArgs();
+      long start = System.currentTimeMillis();
+
+      log.info("[SERVICE CALL] {}.{} | args={}", serviceName, methodName, formatArguments(args));
+
+      try {
+        Object result = joinPoint.proceed();
+        long executionTime = System.currentTimeMillis() - start;
+        log.info(
+            "[SERVICE RETURN] {}.{} | result={} | time={}ms",
+            serviceName,
+            methodName,
+            formatReturn(result),
+            executionTime);
+        return result;
+      } catch (Exception ex) {
+        log.error("[SERVICE ERROR] {}.{} | message={}", serviceName, methodName, ex.getMessage());
+        throw ex;
+      }
+    }
+
+    private Object formatArguments(Object[] args) {
+      if (args == null || args.length == 0) {
+        return "[]";
+      }
+      Object first = args[0];
+      if (hasId(first)) {
+        return "entity-id=" + extractId(first);
+      }
+      return args;
+    }
+
+    private Object formatReturn(Object result) {
+      if (result == null) {
+        return "null";
+      }
+      if (hasId(result)) {
+        return "entity-id=" + extractId(result);
+      }
+      return result;
+    }
+
+    private boolean hasId(Object obj) {
+      if (obj == null) {
+        return false;
+      }
+      try {
+        obj.getClass().getMethod("getId");
+        return true;
+      } catch (Exception ignored) {
+        return false;
+      }
+    }
+
+    private Object extractId(Object obj) {
+      try {
+        return obj.getClass().getMethod("getId").invoke(obj);
+      } catch (Exception e) {
+        return "?";
+      }
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(TracingAspectBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -1,21 +1,67 @@
 package br.com.gabrielcaio.verso.config;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import br.com.gabrielcaio.verso.dtos.UserDTO;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.repositories.CategoryRepository;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import br.com.gabrielcaio.verso.services.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
 
-@Testcontainers
+/**
+ * Base dos testes de integração. A configuração fica toda aqui (e no {@code application-test.yml}),
+ * então as subclasses não declaram propriedades próprias e o Spring reaproveita um único contexto
+ * para a suíte. O Postgres sobe uma vez por JVM e é encerrado pelo Testcontainers no fim.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "br.com.gabrielcaio.verso.config.SqlStatementCounter",
+      "verso.outbox.enabled=false"
+    })
+@ActiveProfiles("test")
 public abstract class BaseIT {
 
-  @Container
-  public static PostgreSQLContainer<?> POSTGRES =
+  /** Senha dos usuários semeados e dos criados por {@link #register(String)}. */
+  protected static final String PASSWORD = "123456";
+
+  public static final PostgreSQLContainer<?> POSTGRES =
       new PostgreSQLContainer<>("postgres:16")
           .withDatabaseName("verso_test")
           .withUsername("postgres")
           .withPassword("postgres");
 
+  static {
+    POSTGRES.start();
+  }
+
+  @LocalServerPort private int port;
+
+  @Autowired protected TestRestTemplate restTemplate;
+  @Autowired protected ObjectMapper objectMapper;
+  @Autowired private UserService userService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private ArticleRepository articleRepository;
+  @Autowired private CategoryRepository categoryRepository;
+
   @DynamicPropertySource
   static void configure(DynamicPropertyRegistry registry) {
     registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
@@ -23,4 +69,58 @@ public abstract class BaseIT {
     registry.add("spring.datasource.password", POSTGRES::getPassword);
     registry.add("management.server.port", () -> "0");
   }
+
+  protected String url(String path) {
+    return "http://localhost:" + port + path;
+  }
+
+  /**
+   * Nome único para fixtures: o contexto e o banco são compartilhados pela suíte, então nomes fixos
+   * colidiriam entre classes ou execuções.
+   */
+  protected static String uniqueName(String prefix) {
+    return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  /** Registra um usuário novo com a role USER; o prefixo ganha um sufixo aleatório. */
+  protected User register(String prefix) {
+    var email = uniqueName(prefix) + "@test.com";
+    userService.register(new UserDTO(email, PASSWORD, Set.of("USER")));
+    return userRepository.findByEmail(email).orElseThrow();
+  }
+
+  /** O {@code user_test} carregado pelo {@link TestDataLoader}. */
+  protected User seededUser() {
+    return userRepository.findByEmail("user@test.com").orElseThrow();
+  }
+
+  /** Grava direto no banco um artigo publicado na categoria Tecnologia. */
+  protected Article publish(User author, String title) {
+    var category = categoryRepository.findByName("Tecnologia").orElseThrow();
+    return articleRepository.save(
+        Article.builder()
+            .title(title)
+            .content("Conteúdo do artigo usado nos testes de integração")
+            .status(ArticleStatus.PUBLICADO)
+            .author(author)
+            .category(category)
+            .build());
+  }
+
+  protected TestRestTemplate as(User user) {
+    return restTemplate.withBasicAuth(user.getUsername(), PASSWORD);
+  }
+
+  /** Envia a requisição como {@code user} e exige uma resposta 2xx. */
+  protected void send(User user, HttpMethod method, String path) {
+    var response = as(user).exchange(url(path), method, null, String.class);
+    assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+  }
+
+  /** GET como {@code user}, exigindo 200, com o corpo já lido como JSON. */
+  protected JsonNode get(User user, String path) throws Exception {
+    var response = as(user).getForEntity(url(path), String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return objectMapper.readTree(response.getBody());
+  }
 }
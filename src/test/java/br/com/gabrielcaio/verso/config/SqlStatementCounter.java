@@ -0,0 +1,34 @@
+package br.com.gabrielcaio.verso.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registra todo SQL preparado pelo Hibernate. Ative no teste com a propriedade {@code
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+  private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+  @Override
+  public String inspect(String sql) {
+    STATEMENTS.add(sql);
+    return sql;
+  }
+
+  public static void reset() {
+    STATEMENTS.clear();
+  }
+
+  public static List<String> statements() {
+    return List.copyOf(STATEMENTS);
+  }
+
+  public static long count(String regex) {
+    var pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+    return STATEMENTS.stream().filter(sql -> pattern.matcher(sql).find()).count();
+  }
+}
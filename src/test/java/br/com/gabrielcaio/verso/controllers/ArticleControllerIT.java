@@ -16,29 +16,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
-import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
-import org.testcontainers.junit.jupiter.Testcontainers;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
-@ActiveProfiles("test")
-@Testcontainers
 @Slf4j
 class ArticleControllerIT extends BaseIT {
 
-  @LocalServerPort private int port;
-
-  @Autowired private TestRestTemplate restTemplate;
-
   @Autowired private ArticleRepository articleRepository;
 
   @Autowired private UserRepository userRepository;
@@ -51,7 +40,7 @@ class ArticleControllerIT extends BaseIT {
 
   @BeforeEach
   void setup() {
-    baseUrl = "http://localhost:" + port + "/verso/articles";
+    baseUrl = url("/verso/articles");
     log.info("Base URL: {}", baseUrl);
   }
 
@@ -133,8 +122,9 @@ class ArticleControllerIT extends BaseIT {
     log.info("Create Published Article Response: {}", createResponse.getStatusCode());
     assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
 
-    // Agora listar os artigos publicados
-    ResponseEntity<String> response = restTemplateForUser().getForEntity(baseUrl, String.class);
+    // Agora listar os artigos publicados; o contexto é compartilhado, então ordena pelos mais novos
+    ResponseEntity<String> response =
+        restTemplateForUser().getForEntity(baseUrl + "?sort=createdAt,desc", String.class);
 
     log.info("List Published Articles Response: {}", response.getStatusCode());
     if (response.getBody() != null) {
@@ -2,6 +2,7 @@ package br.com.gabrielcaio.verso.controllers;
 
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doNothing;
@@ -14,16 +15,23 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
 import br.com.gabrielcaio.verso.dtos.ArticleResponseWithTitleAndStatusAndCategoryName;
+import br.com.gabrielcaio.verso.dtos.ArticleSummaryDTO;
 import br.com.gabrielcaio.verso.dtos.CreateArticleRequestDTO;
 import br.com.gabrielcaio.verso.dtos.CreateArticleResponseDTO;
 import br.com.gabrielcaio.verso.dtos.UpdateArticleRequestDTO;
 import br.com.gabrielcaio.verso.services.ArticleService;
+import br.com.gabrielcaio.verso.services.versioning.ResourceVersion;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +41,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -51,7 +60,9 @@ class ArticleControllerTest {
   private CreateArticleRequestDTO createArticleRequestDTO;
   private CreateArticleResponseDTO createArticleResponseDTO;
   private ArticleResponseWithTitleAndStatusAndCategoryName articleResponse;
+  private ArticleSummaryDTO articleSummary;
   private UpdateArticleRequestDTO updateArticleRequestDTO;
+  private ResourceVersion listingVersion;
 
   @BeforeEach
   void setUp() {
@@ -73,7 +84,21 @@ class ArticleControllerTest {
         new ArticleResponseWithTitleAndStatusAndCategoryName(
             "Test Article Title Valid",
             "This is a test content with more than 10 characters for validation",
-            "Technology");
+            "Technology",
+            0L,
+            0L);
+
+    articleSummary =
+        new ArticleSummaryDTO(
+            1L,
+            "Test Article Title Valid",
+            ArticleStatus.PUBLICADO,
+            "Technology",
+            "user_test",
+            "This is a test content...",
+            0L,
+            0L,
+            LocalDateTime.now());
 
     updateArticleRequestDTO =
         new UpdateArticleRequestDTO(
@@ -81,6 +106,9 @@ class ArticleControllerTest {
             "Updated content with more than 10 characters for validation",
             "Science",
             "PUBLICADO");
+
+    listingVersion = new ResourceVersion("W/\"articles-7\"", 1_700_000_000_000L);
+    when(articleService.findPublishedListingVersion()).thenReturn(listingVersion);
   }
 
   @Test
@@ -204,10 +232,10 @@ class ArticleControllerTest {
   @Test
   @WithMockUser
   void findAllPublished_ShouldReturnPageOfArticles() throws Exception {
-    Page<ArticleResponseWithTitleAndStatusAndCategoryName> page =
-        new PageImpl<>(List.of(articleResponse), PageRequest.of(0, 10), 1);
+    Page<ArticleSummaryDTO> page =
+        new PageImpl<>(List.of(articleSummary), PageRequest.of(0, 10), 1);
 
-    when(articleService.findAllArticlesPublicados(any(Pageable.class))).thenReturn(page);
+    when(articleService.findAllArticlesPublicados(any(Pageable.class), eq(true))).thenReturn(page);
 
     mockMvc
         .perform(
@@ -217,24 +245,82 @@ class ArticleControllerTest {
                 .param("sort", "createdAt,desc"))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.content[0].title").value("Test Article Title Valid"))
-        .andExpect(
-            jsonPath("$.content[0].content")
-                .value("This is a test content with more than 10 characters for validation"))
+        .andExpect(jsonPath("$.content[0].excerpt").value("This is a test content..."))
+        .andExpect(jsonPath("$.content[0].content").doesNotExist())
         .andExpect(jsonPath("$.content[0].category").value("Technology"))
         .andExpect(jsonPath("$.totalElements").value(1))
         .andExpect(jsonPath("$.totalPages").value(1))
         .andExpect(jsonPath("$.size").value(10));
 
-    verify(articleService, times(1)).findAllArticlesPublicados(any(Pageable.class));
+    verify(articleService, times(1)).findAllArticlesPublicados(any(Pageable.class), eq(true));
+  }
+
+  @Test
+  @WithMockUser
+  void findAllPublished_ShouldReturnSliceWithoutTotal_WhenWithTotalIsFalse() throws Exception {
+    var slice = new SliceImpl<>(List.of(articleSummary), PageRequest.of(0, 10), true);
+
+    when(articleService.findAllArticlesPublicados(any(Pageable.class), eq(false)))
+        .thenReturn(slice);
+
+    mockMvc
+        .perform(get("/verso/articles").param("withTotal", "false"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].title").value("Test Article Title Valid"))
+        .andExpect(jsonPath("$.last").value(false))
+        .andExpect(jsonPath("$.totalElements").doesNotExist())
+        .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+    verify(articleService, times(1)).findAllArticlesPublicados(any(Pageable.class), eq(false));
+  }
+
+  @Test
+  @WithMockUser
+  void findAllPublished_ShouldReturnETagAndLastModified() throws Exception {
+    when(articleService.findAllArticlesPublicados(any(Pageable.class), eq(true)))
+        .thenReturn(new PageImpl<>(List.of(articleSummary), PageRequest.of(0, 10), 1));
+
+    mockMvc
+        .perform(get("/verso/articles"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", listingVersion.eTag()))
+        .andExpect(header().dateValue("Last-Modified", listingVersion.lastModified()))
+        .andExpect(header().string("Cache-Control", "no-cache, public"));
+  }
+
+  @Test
+  @WithMockUser
+  void findAllPublished_ShouldReturnNotModifiedWithoutQuerying_WhenETagMatches() throws Exception {
+    mockMvc
+        .perform(get("/verso/articles").header("If-None-Match", listingVersion.eTag()))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    verify(articleService, never()).findAllArticlesPublicados(any(Pageable.class), anyBoolean());
+  }
+
+  @Test
+  @WithMockUser
+  void findById_ShouldReturnNotModifiedWithoutQuerying_WhenPublishedArticleUnchanged()
+      throws Exception {
+    var version = new ResourceVersion("W/\"1-2026-01-01T10:00-0-0-1-null\"", 1_767_261_600_000L);
+    when(articleService.findPublishedVersion(1L)).thenReturn(Optional.of(version));
+
+    mockMvc
+        .perform(
+            get("/verso/articles/1").header("If-Modified-Since", "Thu, 01 Jan 2026 10:00:00 GMT"))
+        .andExpect(status().isNotModified());
+
+    verify(articleService, never()).findById(anyLong());
   }
 
   @Test
   @WithMockUser
   void findAllDrafts_ShouldReturnPageOfDrafts() throws Exception {
-    Page<ArticleResponseWithTitleAndStatusAndCategoryName> page =
-        new PageImpl<>(List.of(articleResponse), PageRequest.of(0, 10), 1);
+    Page<ArticleSummaryDTO> page =
+        new PageImpl<>(List.of(articleSummary), PageRequest.of(0, 10), 1);
 
-    when(articleService.findAllArticlesRascunho(any(Pageable.class))).thenReturn(page);
+    when(articleService.findAllArticlesRascunho(any(Pageable.class), eq(true))).thenReturn(page);
 
     mockMvc
         .perform(
@@ -247,7 +333,7 @@ class ArticleControllerTest {
         .andExpect(jsonPath("$.content[0].category").value("Technology"))
         .andExpect(jsonPath("$.totalElements").value(1));
 
-    verify(articleService, times(1)).findAllArticlesRascunho(any(Pageable.class));
+    verify(articleService, times(1)).findAllArticlesRascunho(any(Pageable.class), eq(true));
   }
 
   @Test
@@ -371,14 +457,14 @@ class ArticleControllerTest {
   void findAllPublished_ShouldReturnUnauthorized_WhenNotAuthenticated() throws Exception {
     mockMvc.perform(get("/verso/articles")).andExpect(status().isUnauthorized());
 
-    verify(articleService, never()).findAllArticlesPublicados(any(Pageable.class));
+    verify(articleService, never()).findAllArticlesPublicados(any(Pageable.class), anyBoolean());
   }
 
   @Test
   void findAllDrafts_ShouldReturnUnauthorized_WhenNotAuthenticated() throws Exception {
     mockMvc.perform(get("/verso/articles/drafts")).andExpect(status().isUnauthorized());
 
-    verify(articleService, never()).findAllArticlesRascunho(any(Pageable.class));
+    verify(articleService, never()).findAllArticlesRascunho(any(Pageable.class), anyBoolean());
   }
 
   @Test
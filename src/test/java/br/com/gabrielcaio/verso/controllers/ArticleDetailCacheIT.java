@@ -0,0 +1,112 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.dtos.ArticleResponseWithTitleAndStatusAndCategoryName;
+import br.com.gabrielcaio.verso.infrastructure.counters.ArticleCounterBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+/**
+ * O detalhe de artigos publicados deve sair do cache: uma rajada de leituras simultâneas em um
+ * artigo novo faz uma única carga, e alterações e contadores gravados aparecem na leitura seguinte.
+ * Gravar contadores não descarta o conteúdo em cache.
+ */
+@Slf4j
+class ArticleDetailCacheIT extends BaseIT {
+
+  private static final String CONTENT_SELECT = "(?i)^select .*\\.content,.* from tb_articles";
+  private static final String COUNTS_SELECT =
+      "(?i)^select \\w+\\.likes_count, ?\\w+\\.comments_count from tb_articles";
+
+  @Autowired private ArticleCounterBuffer articleCounterBuffer;
+
+  @Test
+  void concurrentReadsOfFreshArticleShouldLoadItOnce() throws Exception {
+    var articleId = publish(seededUser(), "Artigo disputado").getId();
+    int readers = 32;
+
+    SqlStatementCounter.reset();
+    var start = new CountDownLatch(1);
+    List<Future<ArticleResponseWithTitleAndStatusAndCategoryName>> responses = new ArrayList<>();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < readers; i++) {
+        responses.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return getArticle(articleId);
+                }));
+      }
+      start.countDown();
+      for (var response : responses) {
+        assertThat(response.get().getTitle()).isEqualTo("Artigo disputado");
+      }
+    }
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(SqlStatementCounter.count(CONTENT_SELECT)).isEqualTo(1);
+    assertThat(SqlStatementCounter.count(COUNTS_SELECT)).isEqualTo(1);
+  }
+
+  @Test
+  void updateShouldEvictCachedArticle() {
+    var articleId = publish(seededUser(), "Artigo antes da edição").getId();
+    assertThat(getArticle(articleId).getTitle()).isEqualTo("Artigo antes da edição");
+
+    restTemplate
+        .withBasicAuth("user_test", "123456")
+        .put(
+            url("/verso/articles/" + articleId),
+            Map.of(
+                "title", "Artigo depois da edição",
+                "content", "Conteúdo editado do artigo em cache",
+                "category", "",
+                "status", "PUBLICADO"));
+
+    assertThat(getArticle(articleId).getTitle()).isEqualTo("Artigo depois da edição");
+  }
+
+  @Test
+  void likesShouldBeCountedOnceBeforeAndAfterFlush() {
+    var articleId = publish(seededUser(), "Artigo curtido em cache").getId();
+    assertThat(getArticle(articleId).getLikesCount()).isZero();
+
+    var reaction =
+        restTemplate
+            .withBasicAuth("admin_test", "123456")
+            .postForEntity(
+                url("/verso/reactions/articles/" + articleId),
+                Map.of("type", "LIKE"),
+                String.class);
+    assertThat(reaction.getStatusCode().is2xxSuccessful()).isTrue();
+
+    assertThat(getArticle(articleId).getLikesCount()).isEqualTo(1);
+    articleCounterBuffer.flush();
+
+    SqlStatementCounter.reset();
+    assertThat(getArticle(articleId).getLikesCount()).isEqualTo(1);
+    assertThat(SqlStatementCounter.count(CONTENT_SELECT)).isZero();
+  }
+
+  private ArticleResponseWithTitleAndStatusAndCategoryName getArticle(Long id) {
+    var response =
+        restTemplate
+            .withBasicAuth("user_test", "123456")
+            .getForEntity(
+                url("/verso/articles/" + id),
+                ArticleResponseWithTitleAndStatusAndCategoryName.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+}
@@ -0,0 +1,129 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.repositories.CategoryRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Uma página de 50 artigos publicados deve sair de uma única consulta com JOIN (mais o COUNT da
+ * paginação, que fica em cache), sem carregar categorias uma a uma nem o conteúdo completo. Com
+ * {@code withTotal=false} e no feed por cursor nenhum COUNT é executado.
+ */
+@Slf4j
+class ArticleListingStatementCountIT extends BaseIT {
+
+  @Autowired private ArticleRepository articleRepository;
+  @Autowired private CategoryRepository categoryRepository;
+
+  @Test
+  void publishedPageShouldBeOneJoinQuery() throws Exception {
+    createPublishedArticles("Artigo da listagem ", 60);
+
+    SqlStatementCounter.reset();
+    var response =
+        restTemplate
+            .withBasicAuth("user_test", "123456")
+            .getForEntity(url("/verso/articles?size=50&sort=createdAt,desc"), String.class);
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(SqlStatementCounter.count("from tb_articles \\w+ join")).isEqualTo(1);
+    assertThat(SqlStatementCounter.count("from tb_categories")).isZero();
+    assertThat(SqlStatementCounter.count("tb_articles")).isLessThanOrEqualTo(2);
+
+    var first = objectMapper.readTree(response.getBody()).path("content").get(0);
+    assertThat(first.has("content")).isFalse();
+    assertThat(first.path("excerpt").asText()).hasSizeLessThanOrEqualTo(23).endsWith("...");
+    assertThat(first.path("category").asText()).isEqualTo("Tecnologia");
+    assertThat(first.path("authorUsername").asText()).isEqualTo("user_test");
+  }
+
+  @Test
+  void totalShouldBeCountedOnceAndSkippedWithoutTotal() throws Exception {
+    createPublishedArticles("Artigo do total ", 30);
+    var listing = url("/verso/articles?size=10&sort=createdAt,desc");
+    var client = restTemplate.withBasicAuth("user_test", "123456");
+
+    client.getForEntity(listing, String.class);
+    SqlStatementCounter.reset();
+    var cached = objectMapper.readTree(client.getForEntity(listing, String.class).getBody());
+    assertThat(SqlStatementCounter.count("count\\(")).isZero();
+    assertThat(cached.path("totalElements").asLong()).isGreaterThanOrEqualTo(30);
+
+    SqlStatementCounter.reset();
+    var slice =
+        objectMapper.readTree(
+            client.getForEntity(listing + "&withTotal=false", String.class).getBody());
+    assertThat(SqlStatementCounter.count("count\\(")).isZero();
+    assertThat(SqlStatementCounter.count("from tb_articles")).isEqualTo(1);
+    assertThat(slice.path("content")).hasSize(10);
+    assertThat(slice.path("last").asBoolean()).isFalse();
+    assertThat(slice.has("totalElements")).isFalse();
+  }
+
+  @Test
+  void feedShouldWalkEveryArticleOnceWithoutCount() throws Exception {
+    createPublishedArticles("Artigo do feed ", 25);
+    long published =
+        articleRepository.findAll().stream()
+            .filter(article -> article.getStatus() == ArticleStatus.PUBLICADO)
+            .count();
+
+    Set<Long> seen = new HashSet<>();
+    String cursor = null;
+    do {
+      SqlStatementCounter.reset();
+      var page = fetchFeed(cursor);
+      assertThat(SqlStatementCounter.count("count\\(")).isZero();
+      assertThat(SqlStatementCounter.count("from tb_articles")).isEqualTo(1);
+
+      for (var item : page.path("content")) {
+        assertThat(seen.add(item.path("id").asLong())).isTrue();
+      }
+      cursor = page.path("hasNext").asBoolean() ? page.path("nextCursor").asText() : null;
+    } while (cursor != null);
+
+    assertThat(seen).hasSize((int) published);
+  }
+
+  private JsonNode fetchFeed(String cursor) throws Exception {
+    var response =
+        restTemplate
+            .withBasicAuth("user_test", "123456")
+            .getForEntity(
+                url("/verso/articles/feed?size=7" + (cursor == null ? "" : "&cursor=" + cursor)),
+                String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return objectMapper.readTree(response.getBody());
+  }
+
+  private void createPublishedArticles(String titlePrefix, int count) {
+    var author = seededUser();
+    var category = categoryRepository.findByName("Tecnologia").orElseThrow();
+    articleRepository.saveAll(
+        IntStream.range(0, count)
+            .mapToObj(
+                i ->
+                    Article.builder()
+                        .title(titlePrefix + i)
+                        .content("Conteúdo longo do artigo ".repeat(200))
+                        .status(ArticleStatus.PUBLICADO)
+                        .author(author)
+                        .category(category)
+                        .build())
+            .toList());
+  }
+}
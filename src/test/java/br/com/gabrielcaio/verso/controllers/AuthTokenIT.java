@@ -0,0 +1,147 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.dtos.LoginRequestDTO;
+import br.com.gabrielcaio.verso.dtos.RefreshTokenRequestDTO;
+import br.com.gabrielcaio.verso.dtos.TokenResponseDTO;
+import br.com.gabrielcaio.verso.security.TokenService;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Fluxo por token na cadeia de filtros de produção: login emite o par de tokens, o Bearer autentica
+ * sem senha, tokens adulterados ou expirados são recusados e o refresh relê as roles do usuário.
+ */
+@Slf4j
+class AuthTokenIT extends BaseIT {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Value("${verso.security.token.secret}")
+  private String secret;
+
+  @Test
+  void loginShouldIssueTokensThatAuthenticateBearerRequests() {
+    var user = register("token");
+
+    var tokens = login(user);
+
+    assertThat(tokens.getAccessToken()).isNotBlank();
+    assertThat(tokens.getRefreshToken()).isNotBlank().isNotEqualTo(tokens.getAccessToken());
+    assertThat(tokens.getTokenType()).isEqualTo("Bearer");
+    assertThat(tokens.getExpiresIn()).isPositive();
+    assertThat(bearerGet(tokens.getAccessToken(), "/verso/articles")).isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void loginWithWrongPasswordShouldBeUnauthorized() {
+    var user = register("token");
+
+    var response =
+        restTemplate.postForEntity(
+            url("/verso/users/login"),
+            new LoginRequestDTO(user.getUsername(), "senha-errada"),
+            String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void loginWithUnknownUserShouldBeUnauthorized() {
+    var response =
+        restTemplate.postForEntity(
+            url("/verso/users/login"),
+            new LoginRequestDTO(uniqueName("inexistente"), PASSWORD),
+            String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void tamperedSignatureShouldBeUnauthorized() {
+    var token = login(register("token")).getAccessToken();
+    var signatureStart = token.lastIndexOf('.') + 1;
+    var flipped = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+    var tampered =
+        token.substring(0, signatureStart) + flipped + token.substring(signatureStart + 1);
+
+    assertThat(bearerGet(tampered, "/verso/articles")).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void expiredTokenShouldBeUnauthorized() {
+    var user = register("token");
+    var expired =
+        new TokenService(objectMapper, secret, Duration.ofMinutes(-1), Duration.ofMinutes(-1))
+            .issue(user)
+            .accessToken();
+
+    assertThat(bearerGet(expired, "/verso/articles")).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void refreshShouldRejectAccessTokens() {
+    var tokens = login(register("token"));
+
+    var response =
+        restTemplate.postForEntity(
+            url("/verso/users/refresh"),
+            new RefreshTokenRequestDTO(tokens.getAccessToken()),
+            String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void refreshShouldReloadCurrentRoles() {
+    var user = register("token");
+    var tokens = login(user);
+    assertThat(bearerGet(tokens.getAccessToken(), "/verso/users")).isEqualTo(HttpStatus.FORBIDDEN);
+
+    jdbcTemplate.update(
+        "INSERT INTO tb_users_roles (user_id, role_id)"
+            + " SELECT ?, role_id FROM tb_roles WHERE name = 'ADMIN'",
+        user.getId());
+
+    var response =
+        restTemplate.postForEntity(
+            url("/verso/users/refresh"),
+            new RefreshTokenRequestDTO(tokens.getRefreshToken()),
+            TokenResponseDTO.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(bearerGet(response.getBody().getAccessToken(), "/verso/users"))
+        .isEqualTo(HttpStatus.OK);
+    assertThat(bearerGet(tokens.getAccessToken(), "/verso/users")).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  private TokenResponseDTO login(User user) {
+    var response =
+        restTemplate.postForEntity(
+            url("/verso/users/login"),
+            new LoginRequestDTO(user.getUsername(), PASSWORD),
+            TokenResponseDTO.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+
+  private HttpStatusCode bearerGet(String token, String path) {
+    var headers = new HttpHeaders();
+    headers.setBearerAuth(token);
+    return restTemplate
+        .exchange(url(path), HttpMethod.GET, new HttpEntity<>(headers), String.class)
+        .getStatusCode();
+  }
+}
@@ -0,0 +1,89 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.dtos.ArticleResponseWithTitleAndStatusAndCategoryName;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Com o cache aquecido, criar e ler artigos não deve consultar {@code tb_categories}, e renomear
+ * uma categoria deve aparecer na leitura seguinte.
+ */
+@Slf4j
+class CategoryCacheIT extends BaseIT {
+
+  @Autowired private ArticleRepository articleRepository;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Test
+  void warmCacheShouldResolveCategoriesWithoutQueries() {
+    // cria a categoria (descarta o snapshot) e recarrega o snapshot
+    createArticle("Primeiro artigo em cache", "cache");
+    createArticle("Segundo artigo em cache", "cache");
+
+    SqlStatementCounter.reset();
+    createArticle("Terceiro artigo em cache", "cache");
+    log.info("Statements (create): {}", SqlStatementCounter.statements());
+    assertThat(SqlStatementCounter.count("tb_categories")).isZero();
+
+    var articleId = articleRepository.findByTitle("Terceiro artigo em cache").orElseThrow().getId();
+    SqlStatementCounter.reset();
+    var article = getArticle(articleId);
+    log.info("Statements (findById): {}", SqlStatementCounter.statements());
+    assertThat(SqlStatementCounter.count("tb_categories")).isZero();
+    assertThat(article.getCategory()).isEqualTo("CACHE");
+
+    assertThat(
+            meterRegistry
+                .counter("verso.categories.cache", "lookup", "name", "result", "hit")
+                .count())
+        .isPositive();
+  }
+
+  @Test
+  void renamedCategoryShouldBeVisibleOnNextRead() {
+    createArticle("Artigo com categoria renomeada", "antes");
+    var article = articleRepository.findByTitle("Artigo com categoria renomeada").orElseThrow();
+    assertThat(getArticle(article.getId()).getCategory()).isEqualTo("ANTES");
+
+    restTemplate
+        .withBasicAuth("admin_test", "123456")
+        .put(url("/verso/categories/" + article.getCategory().getId()), Map.of("name", "depois"));
+
+    assertThat(getArticle(article.getId()).getCategory()).isEqualTo("DEPOIS");
+  }
+
+  private void createArticle(String title, String category) {
+    var response =
+        restTemplate
+            .withBasicAuth("user_test", "123456")
+            .postForEntity(
+                url("/verso/articles"),
+                Map.of(
+                    "title",
+                    title,
+                    "content",
+                    "Conteúdo do artigo usado no teste de cache",
+                    "category",
+                    category,
+                    "status",
+                    "PUBLICADO"),
+                String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+  }
+
+  private ArticleResponseWithTitleAndStatusAndCategoryName getArticle(Long id) {
+    return restTemplate
+        .withBasicAuth("user_test", "123456")
+        .getForObject(
+            url("/verso/articles/" + id), ArticleResponseWithTitleAndStatusAndCategoryName.class);
+  }
+}
@@ -0,0 +1,103 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.domain.entity.Category;
+import br.com.gabrielcaio.verso.repositories.CategoryRepository;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A exclusão de categoria deve mover os artigos com UPDATE em massa, sem carregá-los: um único
+ * UPDATE no modo síncrono e lotes com progresso no modo em segundo plano.
+ */
+@Slf4j
+class CategoryDeletionIT extends BaseIT {
+
+  private static final String DEFAULT_CATEGORY = "Sem categoria";
+
+  @Autowired private CategoryRepository categoryRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void deleteShouldMoveArticlesWithSingleUpdate() {
+    var category = createCategoryWithArticles("SINCRONA", 300);
+    long inDefaultBefore = articlesIn(DEFAULT_CATEGORY);
+
+    SqlStatementCounter.reset();
+    var response =
+        restTemplate
+            .withBasicAuth("admin_test", "123456")
+            .exchange(
+                url("/verso/categories/" + category.getId()), HttpMethod.DELETE, null, Void.class);
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    assertThat(SqlStatementCounter.count("(?i)^update tb_articles")).isEqualTo(1);
+    assertThat(SqlStatementCounter.count("(?i)^select .* from tb_articles")).isZero();
+    assertThat(categoryRepository.existsById(category.getId())).isFalse();
+    assertThat(articlesIn(DEFAULT_CATEGORY) - inDefaultBefore).isEqualTo(300);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void backgroundDeleteShouldReportProgressUntilCompleted() throws InterruptedException {
+    var category = createCategoryWithArticles("SEGUNDO_PLANO", 1_050);
+
+    var started =
+        restTemplate
+            .withBasicAuth("admin_test", "123456")
+            .postForEntity(
+                url("/verso/categories/" + category.getId() + "/deletion-jobs"), null, Map.class);
+    assertThat(started.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    assertThat(started.getBody().get("totalArticles")).isEqualTo(1_050);
+
+    Map<String, Object> job = started.getBody();
+    for (int i = 0; i < 100 && "RUNNING".equals(job.get("status")); i++) {
+      Thread.sleep(100);
+      job =
+          restTemplate
+              .withBasicAuth("admin_test", "123456")
+              .getForObject(
+                  url("/verso/categories/deletion-jobs/" + started.getBody().get("jobId")),
+                  Map.class);
+    }
+
+    assertThat(job.get("status")).isEqualTo("COMPLETED");
+    assertThat(job.get("movedArticles")).isEqualTo(1_050);
+    assertThat(job.get("finishedAt")).isNotNull();
+    assertThat(categoryRepository.existsById(category.getId())).isFalse();
+    assertThat(articlesIn(category.getName())).isZero();
+  }
+
+  private Category createCategoryWithArticles(String name, int articles) {
+    var category = categoryRepository.save(Category.builder().name(name).build());
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_articles (title, content, status, author_id, category_id, created_at)
+        SELECT 'Artigo ' || g, 'Conteúdo ' || g, 'PUBLICADO',
+               (SELECT min(user_id) FROM tb_users), ?, LOCALTIMESTAMP
+        FROM generate_series(1, ?) g
+        """,
+        category.getId(),
+        articles);
+    return category;
+  }
+
+  private long articlesIn(String categoryName) {
+    return jdbcTemplate.queryForObject(
+        """
+        SELECT count(*) FROM tb_articles a JOIN tb_categories c ON c.category_id = a.category_id
+        WHERE c.name = ?
+        """,
+        Long.class,
+        categoryName);
+  }
+}
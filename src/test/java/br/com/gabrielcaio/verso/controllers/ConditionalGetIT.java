@@ -0,0 +1,156 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.domain.entity.Category;
+import br.com.gabrielcaio.verso.repositories.CategoryRepository;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Os GETs condicionais devem responder 304 sem consultar o conteúdo enquanto a versão não muda, e
+ * voltar a responder 200 depois de qualquer escrita que altere o corpo.
+ */
+@Slf4j
+class ConditionalGetIT extends BaseIT {
+
+  @Autowired private CategoryRepository categoryRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @Test
+  void feedShouldReturnNotModifiedWithoutQueryingArticlesUntilAnArticleChanges() {
+    var first = conditionalGet("/verso/articles/feed", null);
+    var eTag = first.getHeaders().getETag();
+    assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(eTag).startsWith("W/\"");
+    assertThat(first.getHeaders().get(HttpHeaders.ETAG)).hasSize(1);
+    assertThat(first.getHeaders().getLastModified()).isPositive();
+    assertThat(first.getHeaders().getCacheControl()).contains("no-cache");
+
+    SqlStatementCounter.reset();
+    var revalidated = conditionalGet("/verso/articles/feed", eTag);
+    log.info("Statements (304): {}", SqlStatementCounter.statements());
+    assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(revalidated.getBody()).isNull();
+    assertThat(SqlStatementCounter.count("tb_articles")).isZero();
+
+    publish(seededUser(), "Artigo que muda o feed");
+
+    var changed = conditionalGet("/verso/articles/feed", eTag);
+    assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(changed.getHeaders().getETag()).isNotEqualTo(eTag);
+    assertThat(changed.getBody()).contains("Artigo que muda o feed");
+  }
+
+  @Test
+  void articleDetailShouldChangeETagWhenItReceivesALike() {
+    var articleId = publish(seededUser(), "Artigo com ETag").getId();
+    var path = "/verso/articles/" + articleId;
+
+    var eTag = conditionalGet(path, null).getHeaders().getETag();
+    assertThat(conditionalGet(path, eTag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+    restTemplate
+        .withBasicAuth("admin_test", "123456")
+        .postForEntity(
+            url("/verso/reactions/articles/" + articleId), Map.of("type", "LIKE"), String.class);
+
+    var changed = conditionalGet(path, eTag);
+    assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(changed.getBody()).contains("\"likesCount\":1");
+  }
+
+  @Test
+  void categoryRenameShouldInvalidateCategoryListingAndArticleFeed() {
+    var category = categoryRepository.save(Category.builder().name("ETAG_ANTES").build());
+    var categoriesETag = conditionalGet("/verso/categories", null).getHeaders().getETag();
+    var feedETag = conditionalGet("/verso/articles", null).getHeaders().getETag();
+    assertThat(conditionalGet("/verso/categories", categoriesETag).getStatusCode())
+        .isEqualTo(HttpStatus.NOT_MODIFIED);
+
+    restTemplate
+        .withBasicAuth("admin_test", "123456")
+        .put(url("/verso/categories/" + category.getId()), Map.of("name", "etag_depois"));
+
+    assertThat(conditionalGet("/verso/categories", categoriesETag).getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+    assertThat(conditionalGet("/verso/articles", feedETag).getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void reactionStatsShouldChangeETagWhenAnotherUserReacts() {
+    var articleId = publish(seededUser(), "Artigo com estatísticas em cache").getId();
+    var path = "/verso/reactions/articles/" + articleId + "/stats";
+
+    var first = conditionalGet(path, null);
+    var eTag = first.getHeaders().getETag();
+    assertThat(first.getHeaders().getCacheControl()).contains("private");
+    assertThat(conditionalGet(path, eTag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+    restTemplate
+        .withBasicAuth("admin_test", "123456")
+        .postForEntity(
+            url("/verso/reactions/articles/" + articleId), Map.of("type", "WOW"), String.class);
+
+    var changed = conditionalGet(path, eTag);
+    assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(changed.getBody()).contains("\"WOW\":1");
+  }
+
+  @Test
+  void severalStatementsInOneTransactionShouldBumpVersionOnce() {
+    var articleId = publish(seededUser(), "Artigo atualizado duas vezes").getId();
+    long before = articlesVersion();
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          jdbcTemplate.update(
+              "UPDATE tb_articles SET title = 'Primeiro título' WHERE article_id = ?", articleId);
+          jdbcTemplate.update(
+              "UPDATE tb_articles SET title = 'Segundo título' WHERE article_id = ?", articleId);
+        });
+
+    assertThat(articlesVersion()).isEqualTo(before + 1);
+  }
+
+  @Test
+  void counterFlushShouldNotBumpVersion() {
+    var articleId = publish(seededUser(), "Artigo só com likes").getId();
+    long before = articlesVersion();
+
+    jdbcTemplate.update(
+        "UPDATE tb_articles SET likes_count = likes_count + 1, comments_count = comments_count + 1"
+            + " WHERE article_id = ?",
+        articleId);
+
+    assertThat(articlesVersion()).isEqualTo(before);
+  }
+
+  private ResponseEntity<String> conditionalGet(String path, String ifNoneMatch) {
+    var headers = new HttpHeaders();
+    if (ifNoneMatch != null) {
+      headers.setIfNoneMatch(ifNoneMatch);
+    }
+    return restTemplate
+        .withBasicAuth("user_test", "123456")
+        .exchange(url(path), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+  }
+
+  private long articlesVersion() {
+    return jdbcTemplate.queryForObject(
+        "SELECT version FROM tb_content_versions WHERE scope = 'articles'", Long.class);
+  }
+}
@@ -0,0 +1,99 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.dtos.CreateArticleRequestDTO;
+import br.com.gabrielcaio.verso.dtos.CreateArticleResponseDTO;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import br.com.gabrielcaio.verso.security.AuthenticationCache;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Garante que o usuário autenticado é resolvido uma única vez por requisição: a única busca em
+ * {@code tb_users} por username é a da autenticação HTTP Basic, nunca a dos services.
+ */
+@Slf4j
+class CurrentUserStatementCountIT extends BaseIT {
+
+  private static final String USER_BY_USERNAME = "from tb_users \\w+ where \\w+\\.username=\\?";
+  private static final String USER_ROLES = "from tb_users_roles";
+
+  @Autowired private ArticleRepository articleRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private AuthenticationCache authenticationCache;
+
+  /** Cada teste conta a busca feita na autenticação, então ela não pode vir do cache. */
+  @BeforeEach
+  void clearAuthenticationCache() {
+    authenticationCache.invalidateAll();
+  }
+
+  private TestRestTemplate restTemplateForUser() {
+    return restTemplate.withBasicAuth("user_test", "123456");
+  }
+
+  @Test
+  void unreadCountShouldOnlyLoadUserForAuthentication() {
+    SqlStatementCounter.reset();
+
+    var response =
+        restTemplateForUser().getForEntity(url("/verso/notifications/unread/count"), String.class);
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(SqlStatementCounter.count(USER_BY_USERNAME)).isEqualTo(1);
+    assertThat(SqlStatementCounter.count(USER_ROLES)).isEqualTo(1);
+  }
+
+  @Test
+  void reactionStatsShouldNotLookUpCurrentUserAgain() {
+    var dto =
+        new CreateArticleRequestDTO(
+            "Artigo para contagem de statements",
+            "Conteúdo publicado com mais de 10 caracteres para validação",
+            "Tecnologia",
+            "PUBLICADO");
+    var created =
+        restTemplateForUser()
+            .postForEntity(url("/verso/articles"), dto, CreateArticleResponseDTO.class);
+    assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    var articleId =
+        articleRepository.findByTitle("Artigo para contagem de statements").orElseThrow().getId();
+
+    clearAuthenticationCache();
+    SqlStatementCounter.reset();
+
+    var response =
+        restTemplateForUser()
+            .getForEntity(url("/verso/reactions/articles/" + articleId + "/stats"), String.class);
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(SqlStatementCounter.count(USER_BY_USERNAME)).isEqualTo(1);
+  }
+
+  @Test
+  void followCheckShouldNotLookUpCurrentUserAgain() {
+    var admin = userRepository.findByEmail("admin@test.com").orElseThrow();
+
+    SqlStatementCounter.reset();
+
+    var response =
+        restTemplateForUser()
+            .getForEntity(url("/verso/follows/" + admin.getId() + "/check"), String.class);
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(SqlStatementCounter.count(USER_BY_USERNAME)).isEqualTo(1);
+  }
+}
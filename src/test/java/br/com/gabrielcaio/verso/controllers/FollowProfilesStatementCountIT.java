@@ -0,0 +1,147 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.dtos.UserDTO;
+import br.com.gabrielcaio.verso.infrastructure.counters.FollowCountReconciler;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import br.com.gabrielcaio.verso.services.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A página de seguidores deve usar um número fixo de consultas em {@code tb_follows}, seja qual for
+ * o tamanho dela, com contadores iguais a um COUNT direto e o {@code isFollowing} certo.
+ */
+@Slf4j
+class FollowProfilesStatementCountIT extends BaseIT {
+
+  private static final String FOLLOW_STATEMENTS = "tb_follows";
+  private static final int FOLLOWERS = 30;
+
+  @Autowired private UserRepository userRepository;
+  @Autowired private UserService userService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private FollowCountReconciler followCountReconciler;
+
+  @Test
+  void followersPageShouldUseFixedStatementsAndExactCounts() throws Exception {
+    var tag = UUID.randomUUID().toString().substring(0, 8);
+    var email = "perfil_" + tag + "@test.com";
+    userService.register(new UserDTO(email, PASSWORD, Set.of("USER")));
+    var reader = userRepository.findByEmail(email).orElseThrow();
+
+    // Seguidores do leitor; o i-ésimo segue também os i - 1 anteriores, e o leitor segue os pares
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_users (username, email, password, enabled, created_at)
+        SELECT 'perfil_' || ? || '_' || g, 'perfil_' || ? || '_' || g || '@test.com', 'x', true,
+               LOCALTIMESTAMP
+        FROM generate_series(1, ?) g
+        """,
+        tag,
+        tag,
+        FOLLOWERS);
+    var pattern = "perfil\\_" + tag + "\\_%";
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_follows (follower_id, following_id, created_at)
+        SELECT user_id, ?, LOCALTIMESTAMP FROM tb_users WHERE username LIKE ?
+        """,
+        reader.getId(),
+        pattern);
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_follows (follower_id, following_id, created_at)
+        SELECT a.user_id, b.user_id, LOCALTIMESTAMP
+        FROM tb_users a JOIN tb_users b ON b.user_id < a.user_id
+        WHERE a.username LIKE ? AND b.username LIKE ?
+        """,
+        pattern,
+        pattern);
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_follows (follower_id, following_id, created_at)
+        SELECT ?, user_id, LOCALTIMESTAMP FROM tb_users
+        WHERE username LIKE ? AND user_id % 2 = 0
+        """,
+        reader.getId(), pattern);
+    // Os follows acima foram gravados direto no banco, fora dos contadores
+    assertThat(followCountReconciler.reconcile()).isGreaterThanOrEqualTo(FOLLOWERS + 1);
+
+    long smallStatements = countFollowStatements(reader, 5);
+    var largePage = fetchFollowers(reader, FOLLOWERS);
+    long largeStatements = SqlStatementCounter.count(FOLLOW_STATEMENTS);
+
+    assertThat(largeStatements).isEqualTo(smallStatements).isLessThanOrEqualTo(2);
+    assertThat(largePage.path("content")).hasSize(FOLLOWERS);
+    for (var profile : largePage.path("content")) {
+      assertThat(profile.path("followersCount").asLong())
+          .isEqualTo(count("following_id", profile.path("id").asLong()));
+      assertThat(profile.path("followingCount").asLong())
+          .isEqualTo(count("follower_id", profile.path("id").asLong()));
+      assertThat(profile.path("isFollowing").asBoolean())
+          .isEqualTo(profile.path("id").asLong() % 2 == 0);
+    }
+  }
+
+  @Test
+  void followAndUnfollowShouldKeepProfileCountersWithoutCounting() throws Exception {
+    var author = register("autor");
+    var reader = register("leitor");
+
+    var followed =
+        as(reader).postForEntity(url("/verso/follows/" + author.getId()), null, String.class);
+    assertThat(followed.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    SqlStatementCounter.reset();
+    var profile = profile(reader, author);
+    assertThat(SqlStatementCounter.count("count\\(")).isZero();
+    assertThat(profile.path("followersCount").asLong()).isEqualTo(1);
+    assertThat(profile.path("isFollowing").asBoolean()).isTrue();
+    assertThat(profile(author, reader).path("followingCount").asLong()).isEqualTo(1);
+
+    for (int attempt = 0; attempt < 2; attempt++) {
+      as(reader)
+          .exchange(url("/verso/follows/" + author.getId()), HttpMethod.DELETE, null, Void.class);
+    }
+    assertThat(profile(reader, author).path("followersCount").asLong()).isZero();
+    assertThat(profile(author, reader).path("followingCount").asLong()).isZero();
+  }
+
+  private JsonNode profile(User requester, User target) throws Exception {
+    return get(requester, "/verso/follows/users/" + target.getId());
+  }
+
+  private long countFollowStatements(User reader, int size) throws Exception {
+    fetchFollowers(reader, size);
+    return SqlStatementCounter.count(FOLLOW_STATEMENTS);
+  }
+
+  private JsonNode fetchFollowers(User reader, int size) throws Exception {
+    SqlStatementCounter.reset();
+    var response =
+        as(reader)
+            .getForEntity(
+                url("/verso/follows/followers?withTotal=false&size=" + size), String.class);
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return objectMapper.readTree(response.getBody());
+  }
+
+  private long count(String column, long userId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM tb_follows WHERE " + column + " = ?", Long.class, userId);
+  }
+}
@@ -0,0 +1,158 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.dtos.UserDTO;
+import br.com.gabrielcaio.verso.infrastructure.timeline.AuthorStreamMerger;
+import br.com.gabrielcaio.verso.infrastructure.timeline.TimelineEntry;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import br.com.gabrielcaio.verso.services.UserService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * O feed montado na leitura (k-way merge por autor) deve trazer os mesmos artigos, na mesma ordem,
+ * que a consulta ingênua com {@code IN (...) ORDER BY}, em qualquer página. Com {@code chunk-size}
+ * baixo, os 600 autores seguidos passam pela leitura paralela dos blocos.
+ */
+@Slf4j
+class FollowingFeedIT extends BaseIT {
+
+  private static final int AUTHORS = 600;
+  private static final int ARTICLES_PER_AUTHOR = 12;
+  private static final int PAGE_SIZE = 20;
+
+  private static final String NAIVE_SQL =
+      """
+      SELECT article_id, created_at FROM tb_articles
+      WHERE author_id IN (%s) AND status = 'PUBLICADO'
+        AND (created_at, article_id) < (?, ?)
+      ORDER BY created_at DESC, article_id DESC
+      LIMIT ?
+      """;
+
+  private static User reader;
+  private static List<Long> authorIds;
+
+  @Autowired private UserRepository userRepository;
+  @Autowired private UserService userService;
+  @Autowired private AuthorStreamMerger authorStreamMerger;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seed() {
+    if (reader != null) {
+      return;
+    }
+    var tag = UUID.randomUUID().toString().substring(0, 8);
+    var email = "leitor_" + tag + "@test.com";
+    userService.register(new UserDTO(email, PASSWORD, Set.of("USER")));
+    reader = userRepository.findByEmail(email).orElseThrow();
+
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_users (username, email, password, enabled, created_at)
+        SELECT 'feed_' || ? || '_' || g, 'feed_' || ? || '_' || g || '@test.com', 'x', true,
+               LOCALTIMESTAMP
+        FROM generate_series(1, ?) g
+        """,
+        tag,
+        tag,
+        AUTHORS);
+    authorIds =
+        jdbcTemplate.queryForList(
+            "SELECT user_id FROM tb_users WHERE username LIKE ? ORDER BY user_id",
+            Long.class,
+            "feed_" + tag + "_%");
+
+    // Autores com volumes e horários bem diferentes, para que o merge alterne entre fluxos
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_articles (title, content, status, author_id, category_id, created_at)
+        SELECT 'Feed ' || u.user_id || '/' || g, 'Conteúdo do feed',
+               CASE WHEN g % 5 = 0 THEN 'RASCUNHO' ELSE 'PUBLICADO' END,
+               u.user_id, (SELECT min(category_id) FROM tb_categories),
+               LOCALTIMESTAMP - ((u.user_id * 7919 + g * 104729) % 500000) * interval '1 second'
+        FROM tb_users u, generate_series(1, ?) g
+        WHERE u.username LIKE ? AND g <= 1 + u.user_id % ?
+        """,
+        ARTICLES_PER_AUTHOR, "feed_" + tag + "_%", ARTICLES_PER_AUTHOR);
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_follows (follower_id, following_id, created_at)
+        SELECT ?, user_id, LOCALTIMESTAMP FROM tb_users WHERE username LIKE ?
+        """,
+        reader.getId(),
+        "feed_" + tag + "_%");
+    jdbcTemplate.execute("ANALYZE tb_articles");
+  }
+
+  @Test
+  void followingFeedShouldMatchNaiveQueryAcrossPages() throws Exception {
+    var expected = naive(null, 5 * PAGE_SIZE);
+
+    var seen = new ArrayList<Long>();
+    String cursor = null;
+    for (int page = 0; page < 5; page++) {
+      var path =
+          "/verso/timeline/following?size="
+              + PAGE_SIZE
+              + (cursor == null ? "" : "&cursor=" + cursor);
+      var response = as(reader).getForEntity(url(path), String.class);
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+      var body = objectMapper.readTree(response.getBody());
+      body.get("content").forEach(item -> seen.add(item.get("id").asLong()));
+      assertThat(body.get("hasNext").asBoolean()).isTrue();
+      cursor = body.get("nextCursor").asText();
+    }
+
+    assertThat(seen).containsExactlyElementsOf(ids(expected));
+  }
+
+  @Test
+  void mergeShouldMatchNaiveQueryFromADeepCursorInAnyAuthorOrder() {
+    var shuffled = new ArrayList<>(authorIds);
+    Collections.shuffle(shuffled);
+    var deep = naive(null, 40 * PAGE_SIZE).getLast();
+
+    var merged = authorStreamMerger.merge(shuffled, deep, PAGE_SIZE + 1);
+
+    assertThat(ids(merged)).containsExactlyElementsOf(ids(naive(deep, PAGE_SIZE + 1)));
+  }
+
+  private List<TimelineEntry> naive(TimelineEntry after, int limit) {
+    var placeholders = String.join(",", Collections.nCopies(authorIds.size(), "?"));
+    var args = new ArrayList<Object>(authorIds);
+    var position = after == null ? new TimelineEntry(Long.MAX_VALUE, farFuture()) : after;
+    args.add(position.createdAt());
+    args.add(position.articleId());
+    args.add(limit);
+    return jdbcTemplate.query(
+        NAIVE_SQL.formatted(placeholders),
+        (rs, rowNum) ->
+            new TimelineEntry(
+                rs.getLong("article_id"), rs.getTimestamp("created_at").toLocalDateTime()),
+        args.toArray());
+  }
+
+  private static LocalDateTime farFuture() {
+    return LocalDateTime.of(9999, 1, 1, 0, 0);
+  }
+
+  private static List<Long> ids(List<TimelineEntry> entries) {
+    return entries.stream().map(TimelineEntry::articleId).toList();
+  }
+}
@@ -0,0 +1,85 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+/**
+ * As verificações de follow e favorito, individuais e em lote, respondem do índice em memória
+ * depois da primeira carga, sem consultar o banco, e refletem as escritas do próprio usuário.
+ */
+@Slf4j
+class MembershipCheckIT extends BaseIT {
+
+  @Test
+  void followChecksShouldAnswerFromIndexAndFollowWrites() throws Exception {
+    var reader = register("leitor");
+    var first = register("autor");
+    var second = register("autor");
+    var stranger = register("autor");
+    send(reader, HttpMethod.POST, "/verso/follows/" + first.getId());
+
+    var ids = first.getId() + "," + second.getId() + "," + stranger.getId() + ",999999999";
+    get(reader, "/verso/follows/check?ids=" + ids);
+    send(reader, HttpMethod.POST, "/verso/follows/" + second.getId());
+
+    SqlStatementCounter.reset();
+    var checks = get(reader, "/verso/follows/check?ids=" + ids);
+    assertThat(get(reader, "/verso/follows/" + first.getId() + "/check").asBoolean()).isTrue();
+    assertThat(SqlStatementCounter.count("tb_follows")).isZero();
+
+    assertThat(checks.path(first.getId().toString()).asBoolean()).isTrue();
+    assertThat(checks.path(second.getId().toString()).asBoolean()).isTrue();
+    assertThat(checks.path(stranger.getId().toString()).asBoolean()).isFalse();
+    assertThat(checks.path("999999999").asBoolean()).isFalse();
+
+    send(reader, HttpMethod.DELETE, "/verso/follows/" + first.getId());
+    assertThat(get(reader, "/verso/follows/" + first.getId() + "/check").asBoolean()).isFalse();
+
+    var missing = as(reader).getForEntity(url("/verso/follows/999999999/check"), String.class);
+    assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  void favoriteChecksShouldAnswerFromIndexAndFollowWrites() throws Exception {
+    var reader = register("leitor");
+    var author = register("autor");
+    var kept = publish(author, "Artigo " + UUID.randomUUID());
+    var removed = publish(author, "Artigo " + UUID.randomUUID());
+    var other = publish(author, "Artigo " + UUID.randomUUID());
+    send(reader, HttpMethod.POST, "/verso/favorites/" + kept.getId());
+    send(reader, HttpMethod.POST, "/verso/favorites/" + removed.getId());
+
+    var ids = kept.getId() + "," + removed.getId() + "," + other.getId();
+    get(reader, "/verso/favorites/check?ids=" + ids);
+    send(reader, HttpMethod.DELETE, "/verso/favorites/" + removed.getId());
+
+    SqlStatementCounter.reset();
+    var checks = get(reader, "/verso/favorites/check?ids=" + ids);
+    assertThat(get(reader, "/verso/favorites/" + kept.getId() + "/check").asBoolean()).isTrue();
+    assertThat(SqlStatementCounter.count("tb_favorites")).isZero();
+
+    assertThat(checks.path(kept.getId().toString()).asBoolean()).isTrue();
+    assertThat(checks.path(removed.getId().toString()).asBoolean()).isFalse();
+    assertThat(checks.path(other.getId().toString()).asBoolean()).isFalse();
+  }
+
+  @Test
+  void batchCheckShouldRejectMoreThanTheLimit() {
+    var reader = register("leitor");
+    var ids =
+        LongStream.rangeClosed(1, 101).mapToObj(Long::toString).collect(Collectors.joining(","));
+
+    var response = as(reader).getForEntity(url("/verso/follows/check?ids=" + ids), String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+  }
+}
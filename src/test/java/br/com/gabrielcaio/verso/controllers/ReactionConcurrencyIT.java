@@ -0,0 +1,96 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.infrastructure.counters.ArticleCounterBuffer;
+import br.com.gabrielcaio.verso.repositories.ArticleReactionCountsRepository;
+import br.com.gabrielcaio.verso.repositories.ArticleRepository;
+import br.com.gabrielcaio.verso.repositories.RolesRepository;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Centenas de likes simultâneos no mesmo artigo não podem perder incrementos entre o buffer de
+ * contadores e o flush.
+ */
+class ReactionConcurrencyIT extends BaseIT {
+
+  private static final int LIKERS = 300;
+  @Autowired private ArticleRepository articleRepository;
+  @Autowired private ArticleCounterBuffer articleCounterBuffer;
+  @Autowired private ArticleReactionCountsRepository articleReactionCountsRepository;
+  @Autowired private RolesRepository rolesRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private PasswordEncoder passwordEncoder;
+
+  @Test
+  void parallelLikesShouldAllBeCounted() throws Exception {
+    var article = publish(seededUser(), "Artigo viral " + System.nanoTime());
+    var usernames = createLikers();
+    var start = new CountDownLatch(1);
+
+    List<Future<HttpStatusCode>> results = new ArrayList<>();
+    try (var executor = Executors.newFixedThreadPool(64)) {
+      for (String username : usernames) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return restTemplate
+                      .withBasicAuth(username, PASSWORD)
+                      .postForEntity(
+                          url("/verso/reactions/articles/" + article.getId()),
+                          Map.of("type", "LIKE"),
+                          String.class)
+                      .getStatusCode();
+                }));
+      }
+      start.countDown();
+      for (var result : results) {
+        assertThat(result.get().is2xxSuccessful()).isTrue();
+      }
+    }
+
+    // Grava o buffer antes de ler, para não depender de quando o agendador faz o flush
+    articleCounterBuffer.flush();
+    assertThat(articleCounterBuffer.pending(article.getId()).likes()).isZero();
+    assertThat(articleRepository.findById(article.getId()).orElseThrow().getLikesCount())
+        .isEqualTo(LIKERS);
+    assertThat(
+            articleReactionCountsRepository.findById(article.getId()).orElseThrow().getLikeCount())
+        .isEqualTo(LIKERS);
+  }
+
+  private List<String> createLikers() {
+    var role = rolesRepository.findByName("USER").orElseThrow();
+    var password = passwordEncoder.encode(PASSWORD);
+    var users =
+        IntStream.range(0, LIKERS)
+            .mapToObj(
+                i -> {
+                  var name = uniqueName("liker_" + i);
+                  var user = new User();
+                  user.setUsername(name);
+                  user.setEmail(name + "@test.com");
+                  user.setPassword(password);
+                  user.setRoles(Set.of(role));
+                  return user;
+                })
+            .toList();
+    userRepository.saveAll(users);
+    return users.stream().map(User::getUsername).toList();
+  }
+}
@@ -0,0 +1,91 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.dtos.ArticleReactionStatsDTO;
+import br.com.gabrielcaio.verso.infrastructure.counters.ArticleCounterBuffer;
+import br.com.gabrielcaio.verso.repositories.ReactionRepository;
+import br.com.gabrielcaio.verso.repositories.projection.ReactionTypeCount;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Os contadores denormalizados devem bater com o agrupamento em {@code tb_reactions} depois de
+ * criar, trocar e remover reações, antes e depois do flush do buffer, e as estatísticas devem sair
+ * de uma única consulta.
+ */
+@Slf4j
+class ReactionStatsIT extends BaseIT {
+
+  @Autowired private ReactionRepository reactionRepository;
+  @Autowired private ArticleCounterBuffer articleCounterBuffer;
+
+  @Test
+  void statsShouldMatchGroupedCountsAfterChanges() {
+    var articleId = publish(seededUser(), "Artigo com reações " + System.nanoTime()).getId();
+
+    react("user_test", articleId, "LIKE");
+    react("admin_test", articleId, "LOVE");
+    react("admin_test", articleId, "LAUGH");
+
+    SqlStatementCounter.reset();
+    var response =
+        restTemplate
+            .withBasicAuth("user_test", "123456")
+            .getForEntity(
+                url("/verso/reactions/articles/" + articleId + "/stats"),
+                ArticleReactionStatsDTO.class);
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(SqlStatementCounter.count("tb_reactions|tb_article_reaction_counts")).isEqualTo(1);
+
+    var stats = response.getBody();
+    assertThat(stats.getReactionsByType()).isEqualTo(groupedCounts(articleId));
+    assertThat(stats.getReactionsByType()).isEqualTo(Map.of("LIKE", 1L, "LAUGH", 1L));
+    assertThat(stats.getTotalReactions()).isEqualTo(2);
+    assertThat(stats.getUserReaction()).isEqualTo("LIKE");
+
+    restTemplate
+        .withBasicAuth("user_test", "123456")
+        .delete(url("/verso/reactions/articles/" + articleId));
+
+    var afterRemoval = stats(articleId);
+    assertThat(afterRemoval.getReactionsByType()).isEqualTo(groupedCounts(articleId));
+    assertThat(afterRemoval.getUserReaction()).isNull();
+
+    articleCounterBuffer.flush();
+
+    var afterFlush = stats(articleId);
+    assertThat(afterFlush.getReactionsByType()).isEqualTo(Map.of("LAUGH", 1L));
+    assertThat(afterFlush.getTotalReactions()).isEqualTo(1);
+  }
+
+  private ArticleReactionStatsDTO stats(Long articleId) {
+    return restTemplate
+        .withBasicAuth("user_test", "123456")
+        .getForEntity(
+            url("/verso/reactions/articles/" + articleId + "/stats"), ArticleReactionStatsDTO.class)
+        .getBody();
+  }
+
+  private Map<String, Long> groupedCounts(Long articleId) {
+    return reactionRepository.countByTypeForArticle(articleId).stream()
+        .collect(Collectors.toMap(c -> c.getType().name(), ReactionTypeCount::getTotal));
+  }
+
+  private void react(String username, Long articleId, String type) {
+    var response =
+        restTemplate
+            .withBasicAuth(username, "123456")
+            .postForEntity(
+                url("/verso/reactions/articles/" + articleId), Map.of("type", type), String.class);
+    assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+  }
+}
@@ -0,0 +1,163 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.domain.entity.Comment;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.repositories.CommentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A listagem em árvore deve usar um número fixo de consultas em {@code tb_comments}, seja qual for
+ * o tamanho e a profundidade das threads.
+ */
+@Slf4j
+class ThreadedCommentsStatementCountIT extends BaseIT {
+
+  private static final String COMMENT_STATEMENTS = "tb_comments";
+
+  @Autowired private CommentRepository commentRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void statementCountShouldNotDependOnThreadSize() throws Exception {
+    var author = seededUser();
+    var small = publish(author, "Thread pequena");
+    var large = publish(author, "Thread grande");
+
+    createThreads(small, author, 2, 1, 2);
+    createThreads(large, author, 5, 3, 6);
+
+    long smallStatements = countCommentStatements(small.getId());
+    var largeTree = fetchThreaded(large.getId());
+    long largeStatements = SqlStatementCounter.count(COMMENT_STATEMENTS);
+
+    assertThat(largeStatements).isEqualTo(smallStatements).isLessThanOrEqualTo(2);
+    assertThat(largeTree.path("content")).hasSize(5);
+    assertThat(depthOf(largeTree.path("content").get(0))).isEqualTo(6);
+  }
+
+  @Test
+  void repliesBeyondPageSizeShouldBeLoadedByCursor() throws Exception {
+    var author = seededUser();
+    var article = publish(author, "Thread larga");
+    var root = save(article, author, null, "raiz");
+    for (int i = 0; i < 8; i++) {
+      var reply = save(article, author, root, "resposta " + i);
+      save(article, author, reply, "resposta da resposta " + i);
+    }
+    // Só as 5 primeiras respostas e as respostas delas saem do banco
+    assertThat(commentRepository.findThreads(List.of(root.getId()), 10, 5)).hasSize(1 + 5 + 5);
+
+    var rootNode = fetchThreaded(article.getId()).path("content").get(0);
+    assertThat(rootNode.path("replyCount").asLong()).isEqualTo(8);
+    assertThat(rootNode.path("replies")).hasSize(5);
+    long cursor = rootNode.path("nextRepliesCursor").asLong();
+    assertThat(cursor).isEqualTo(rootNode.path("replies").get(4).path("id").asLong());
+
+    var response =
+        restTemplate
+            .withBasicAuth("user_test", "123456")
+            .getForEntity(
+                url("/verso/comments/" + root.getId() + "/replies?cursor=" + cursor + "&size=5"),
+                String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    var page = objectMapper.readTree(response.getBody());
+    assertThat(page.path("replies")).hasSize(3);
+    assertThat(page.path("nextCursor").isNull()).isTrue();
+  }
+
+  @Test
+  void replyBeyondMaxDepthShouldBeRejected() {
+    var author = seededUser();
+    var article = publish(author, "Thread funda");
+    var deepest = save(article, author, null, "comentário no limite");
+    jdbcTemplate.update(
+        "UPDATE tb_comments SET depth = ? WHERE comment_id = ?",
+        Comment.MAX_DEPTH,
+        deepest.getId());
+
+    var response =
+        restTemplate
+            .withBasicAuth("user_test", "123456")
+            .postForEntity(
+                url("/verso/article/" + article.getId() + "/comments"),
+                Map.of("content", "resposta além do limite", "parentId", deepest.getId()),
+                String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+  }
+
+  private long countCommentStatements(Long articleId) throws Exception {
+    fetchThreaded(articleId);
+    return SqlStatementCounter.count(COMMENT_STATEMENTS);
+  }
+
+  private JsonNode fetchThreaded(Long articleId) throws Exception {
+    SqlStatementCounter.reset();
+    var response =
+        restTemplate
+            .withBasicAuth("user_test", "123456")
+            .getForEntity(
+                url("/verso/article/" + articleId + "/comments/threaded?size=20"), String.class);
+
+    log.info("Statements: {}", SqlStatementCounter.statements());
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return objectMapper.readTree(response.getBody());
+  }
+
+  private int depthOf(JsonNode node) {
+    int depth = 0;
+    var current = node;
+    while (current.path("replies").size() > 0) {
+      current = current.path("replies").get(0);
+      depth++;
+    }
+    return depth;
+  }
+
+  /**
+   * Cria {@code roots} raízes, cada uma com {@code fanOut} respostas por nível até {@code depth}.
+   */
+  private void createThreads(Article article, User author, int roots, int fanOut, int depth) {
+    for (int r = 0; r < roots; r++) {
+      var root = save(article, author, null, "raiz " + r);
+      createReplies(article, author, root, fanOut, depth);
+    }
+  }
+
+  private void createReplies(Article article, User author, Comment parent, int fanOut, int depth) {
+    if (depth == 0) {
+      return;
+    }
+    for (int i = 0; i < fanOut; i++) {
+      var reply = save(article, author, parent, "resposta " + depth + "." + i);
+      if (i == 0) {
+        createReplies(article, author, reply, fanOut, depth - 1);
+      }
+    }
+  }
+
+  private Comment save(Article article, User author, Comment parent, String content) {
+    var comment =
+        commentRepository.save(
+            Comment.builder()
+                .content(content)
+                .article(article)
+                .author(author)
+                .parent(parent)
+                .build());
+    comment.assignPath();
+    return commentRepository.save(comment);
+  }
+}
@@ -0,0 +1,120 @@
+package br.com.gabrielcaio.verso.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.Article;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.services.TimelineService;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Publicações chegam à timeline de quem segue o autor: gravadas na timeline de cada seguidor ou,
+ * para autores lidos na hora, intercaladas na leitura. O fan-out é chamado direto, já que o worker
+ * do outbox fica desligado nos testes.
+ */
+@Slf4j
+class TimelineIT extends BaseIT {
+
+  @Autowired private TimelineService timelineService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void publishedArticleShouldReachCachedTimelineOfFollowers() throws Exception {
+    var author = register("autor");
+    var reader = register("leitor");
+    follow(reader, author);
+
+    assertThat(titles(timeline(reader, null))).isEmpty();
+
+    var article = publish(author, unique("Publicado para os seguidores"));
+    timelineService.fanOut(article);
+    timelineService.fanOut(article);
+
+    assertThat(titles(timeline(reader, null))).containsExactly("Publicado para os seguidores");
+    assertThat(entriesOf(article)).isEqualTo(1);
+  }
+
+  @Test
+  void followShouldBackfillAndUnfollowShouldRemoveAuthorArticles() throws Exception {
+    var author = register("autor");
+    var reader = register("leitor");
+    publish(author, unique("Artigo anterior ao follow"));
+
+    follow(reader, author);
+    assertThat(titles(timeline(reader, null))).containsExactly("Artigo anterior ao follow");
+
+    send(reader, HttpMethod.DELETE, "/verso/follows/" + author.getId());
+    assertThat(titles(timeline(reader, null))).isEmpty();
+  }
+
+  @Test
+  void pullAuthorArticlesShouldBeMergedIntoPagesInOrder() throws Exception {
+    var pushed = register("autor");
+    var pulled = register("celebridade");
+    var reader = register("leitor");
+    jdbcTemplate.update(
+        "INSERT INTO tb_timeline_pull_authors (author_id) VALUES (?)", pulled.getId());
+    follow(reader, pushed);
+    follow(reader, pulled);
+
+    for (var article :
+        List.of(
+            publish(pushed, unique("Primeiro")),
+            publish(pulled, unique("Segundo")),
+            publish(pushed, unique("Terceiro")))) {
+      timelineService.fanOut(article);
+    }
+
+    var seen = new ArrayList<String>();
+    String cursor = null;
+    do {
+      var page = timeline(reader, cursor);
+      seen.addAll(titles(page));
+      cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+    } while (cursor != null);
+
+    assertThat(seen).containsExactly("Terceiro", "Segundo", "Primeiro");
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tb_timeline_entries WHERE author_id = ?",
+                Long.class,
+                pulled.getId()))
+        .isZero();
+  }
+
+  private void follow(User follower, User author) {
+    send(follower, HttpMethod.POST, "/verso/follows/" + author.getId());
+  }
+
+  private JsonNode timeline(User reader, String cursor) throws Exception {
+    return get(reader, "/verso/timeline?size=1" + (cursor == null ? "" : "&cursor=" + cursor));
+  }
+
+  /** Títulos únicos por execução; {@link #titles} remove o sufixo antes de comparar. */
+  private static String unique(String title) {
+    return title + " " + UUID.randomUUID();
+  }
+
+  private static List<String> titles(JsonNode page) {
+    var titles = new ArrayList<String>();
+    page.get("content")
+        .forEach(item -> titles.add(item.get("title").asText().replaceAll(" [0-9a-f-]{36}$", "")));
+    return titles;
+  }
+
+  private long entriesOf(Article article) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM tb_timeline_entries WHERE article_id = ?",
+        Long.class,
+        article.getId());
+  }
+}
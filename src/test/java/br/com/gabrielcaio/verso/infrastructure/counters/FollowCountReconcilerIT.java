@@ -0,0 +1,104 @@
+package br.com.gabrielcaio.verso.infrastructure.counters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.repositories.UserRepository;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Um follow que comita enquanto o lote da reconciliação espera pelo lock de uma linha divergente
+ * não pode ser sobrescrito por uma contagem antiga.
+ */
+@Slf4j
+class FollowCountReconcilerIT extends BaseIT {
+
+  @Autowired private FollowCountReconciler followCountReconciler;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private UserRepository userRepository;
+
+  @Test
+  void followCommittedWhileChunkWaitsForLockShouldBeKept() throws Exception {
+    var follower = register("seguidor");
+    var followed = register("seguido");
+    // Contadores fora do real, como depois de uma carga direta no banco: o lote precisa gravá-los
+    jdbcTemplate.update(
+        "UPDATE tb_users SET followers_count = 5, following_count = 5 WHERE user_id IN (?, ?)",
+        follower.getId(),
+        followed.getId());
+    var countsUpdated = new CountDownLatch(1);
+    var commit = new CountDownLatch(1);
+
+    // Threads de plataforma: reconcile() é synchronized e prenderia a carrier de uma virtual thread
+    try (var executor = Executors.newFixedThreadPool(2)) {
+      // Mesma ordem do FollowService: grava o follow e incrementa os contadores, ainda sem comitar
+      var follow =
+          executor.submit(
+              () ->
+                  transactionTemplate.executeWithoutResult(
+                      status -> {
+                        jdbcTemplate.update(
+                            "INSERT INTO tb_follows (follower_id, following_id, created_at)"
+                                + " VALUES (?, ?, now())",
+                            follower.getId(),
+                            followed.getId());
+                        userRepository.addFollowCounts(follower.getId(), followed.getId(), 1);
+                        countsUpdated.countDown();
+                        await(commit);
+                      }));
+      await(countsUpdated);
+
+      var reconcile = executor.submit(followCountReconciler::reconcile);
+      waitForLockWait();
+      commit.countDown();
+
+      follow.get(10, TimeUnit.SECONDS);
+      reconcile.get(10, TimeUnit.SECONDS);
+    }
+
+    assertThat(counter("following_count", follower)).isEqualTo(1);
+    assertThat(counter("followers_count", follower)).isZero();
+    assertThat(counter("followers_count", followed)).isEqualTo(1);
+    assertThat(counter("following_count", followed)).isZero();
+  }
+
+  /** Espera até algum backend ficar bloqueado em lock de linha (o lote da reconciliação). */
+  private void waitForLockWait() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (System.nanoTime() < deadline) {
+      var waiting =
+          jdbcTemplate.queryForObject(
+              "SELECT count(*) FROM pg_stat_activity"
+                  + " WHERE wait_event_type = 'Lock' AND query ILIKE '%tb_users%'",
+              Long.class);
+      if (waiting != null && waiting > 0) {
+        return;
+      }
+      Thread.sleep(20);
+    }
+    throw new AssertionError("A reconciliação não chegou a esperar pelo lock");
+  }
+
+  private long counter(String column, User user) {
+    return jdbcTemplate.queryForObject(
+        "SELECT " + column + " FROM tb_users WHERE user_id = ?", Long.class, user.getId());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package br.com.gabrielcaio.verso.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.repositories.OutboxEventRepository;
+import br.com.gabrielcaio.verso.services.OutboxEventHandler;
+import br.com.gabrielcaio.verso.services.OutboxService;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Reentregar um evento do outbox (lease expirado, nova tentativa) não pode duplicar notificações, e
+ * a limpeza só remove eventos processados fora da retenção.
+ */
+@Slf4j
+class OutboxDeliveryIT extends BaseIT {
+
+  @Autowired private OutboxEventHandler outboxEventHandler;
+  @Autowired private OutboxEventRepository outboxEventRepository;
+  @Autowired private OutboxService outboxService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void redeliveredArticlePublishedShouldNotDuplicateNotifications() {
+    var author = register("autor");
+    var follower = register("seguidor");
+    jdbcTemplate.update(
+        "INSERT INTO tb_follows (follower_id, following_id, created_at) VALUES (?, ?, now())",
+        follower.getId(),
+        author.getId());
+    long articleId = insertArticle(author);
+    long eventId = insertEvent("ARTICLE_PUBLISHED", articleId, "PENDING", null);
+
+    deliverTwice(eventId);
+
+    assertThat(notificationsFor(follower, articleId)).isEqualTo(1);
+  }
+
+  @Test
+  void redeliveredCommentCreatedShouldNotDuplicateNotifications() {
+    var author = register("autor");
+    var commenter = register("comentarista");
+    long articleId = insertArticle(author);
+    long commentId =
+        jdbcTemplate.queryForObject(
+            "INSERT INTO tb_comments (content, article_id, author_id, depth, created_at)"
+                + " VALUES ('Comentário', ?, ?, 0, now()) RETURNING comment_id",
+            Long.class,
+            articleId,
+            commenter.getId());
+    long eventId = insertEvent("COMMENT_CREATED", commentId, "PENDING", null);
+
+    deliverTwice(eventId);
+
+    assertThat(notificationsFor(author, articleId)).isEqualTo(1);
+  }
+
+  @Test
+  void purgeShouldRemoveOnlyProcessedEventsOutsideRetention() {
+    var now = LocalDateTime.now();
+    long old = insertEvent("ARTICLE_PUBLISHED", 1L, "PROCESSED", now.minusDays(8));
+    long recent = insertEvent("ARTICLE_PUBLISHED", 1L, "PROCESSED", now.minusHours(1));
+    long pending = insertEvent("ARTICLE_PUBLISHED", 1L, "PENDING", null);
+
+    int purged = outboxService.purgeProcessedBefore(now.minusDays(7), 1000);
+
+    assertThat(purged).isGreaterThanOrEqualTo(1);
+    assertThat(outboxEventRepository.existsById(old)).isFalse();
+    assertThat(outboxEventRepository.existsById(recent)).isTrue();
+    assertThat(outboxEventRepository.existsById(pending)).isTrue();
+  }
+
+  /** Duas entregas do mesmo evento, como quando o lease expira no meio do processamento. */
+  private void deliverTwice(long eventId) {
+    var event = outboxEventRepository.findById(eventId).orElseThrow();
+    outboxEventHandler.handle(event);
+    outboxEventHandler.handle(event);
+  }
+
+  private long notificationsFor(User user, long articleId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM tb_notifications WHERE user_id = ? AND article_id = ?",
+        Long.class,
+        user.getId(),
+        articleId);
+  }
+
+  private long insertArticle(User author) {
+    return jdbcTemplate.queryForObject(
+        "INSERT INTO tb_articles (title, content, author_id, category_id, created_at)"
+            + " SELECT 'Artigo do outbox', 'Conteúdo', ?, min(category_id), now()"
+            + " FROM tb_categories RETURNING article_id",
+        Long.class,
+        author.getId());
+  }
+
+  private long insertEvent(
+      String type, long aggregateId, String status, LocalDateTime processedAt) {
+    return jdbcTemplate.queryForObject(
+        "INSERT INTO tb_outbox_events"
+            + " (type, aggregate_id, status, attempts, next_attempt_at, processed_at, created_at)"
+            + " VALUES (?, ?, ?, 0, now(), ?, now()) RETURNING outbox_event_id",
+        Long.class,
+        type,
+        aggregateId,
+        status,
+        processedAt);
+  }
+}
@@ -0,0 +1,330 @@
+package br.com.gabrielcaio.verso.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.domain.enums.ArticleStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Roda as consultas quentes dos repositórios sobre um volume em que um Seq Scan já é caro e falha
+ * se o plano de alguma delas varre uma tabela grande inteira. O SQL é o que o Hibernate gera,
+ * capturado pelo {@link SqlStatementCounter}, e o plano é o genérico ({@code EXPLAIN
+ * (GENERIC_PLAN)}), o mesmo que o Postgres passa a usar para statements preparados.
+ */
+@Slf4j
+class HotQueryPlanIT extends BaseIT {
+
+  private static final Set<String> LARGE_TABLES =
+      Set.of(
+          "tb_articles",
+          "tb_comments",
+          "tb_notifications",
+          "tb_follows",
+          "tb_reactions",
+          "tb_favorites");
+
+  private static final int USERS = 1_000;
+  private static final int ARTICLES = 20_000;
+
+  /**
+   * Usuários numerados de 1 a N e artigos de 0 a N - 1, para distribuir as linhas geradas entre
+   * eles. Os IDs vêm de sequences com incremento 50, então não são contíguos.
+   */
+  private static final String NUMBERED_ROWS =
+      "WITH plan_users AS (SELECT row_number() OVER (ORDER BY user_id) AS n, user_id"
+          + " FROM tb_users),"
+          + " plan_articles AS (SELECT row_number() OVER (ORDER BY article_id) - 1 AS n,"
+          + " article_id FROM tb_articles) ";
+
+  private static final Pattern BIND_PARAMETER = Pattern.compile("\\?");
+
+  private static boolean seeded;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private DataSourceProperties dataSourceProperties;
+  @Autowired private UserRepository userRepository;
+  @Autowired private ArticleRepository articleRepository;
+  @Autowired private CommentRepository commentRepository;
+  @Autowired private NotificationRepository notificationRepository;
+  @Autowired private FollowRepository followRepository;
+  @Autowired private ReactionRepository reactionRepository;
+  @Autowired private FavoriteRepository favoriteRepository;
+
+  private Long userId;
+  private Long articleId;
+  private Long rootCommentId;
+
+  @BeforeEach
+  void seed() {
+    if (!seeded) {
+      seedLargeTables();
+      seeded = true;
+    }
+    userId = jdbcTemplate.queryForObject("SELECT min(user_id) FROM tb_users", Long.class);
+    articleId =
+        jdbcTemplate.queryForObject(
+            "SELECT max(article_id) FROM tb_articles WHERE status = 'PUBLICADO'", Long.class);
+    rootCommentId =
+        jdbcTemplate.queryForObject(
+            "SELECT min(comment_id) FROM tb_comments WHERE article_id = ? AND parent_id IS NULL",
+            Long.class,
+            articleId);
+  }
+
+  @Test
+  void notificationQueriesShouldUseIndexes() {
+    assertNoSeqScan(
+        () -> {
+          var user = userRepository.getReferenceById(userId);
+          notificationRepository.findAllByUserOrderByCreatedAtDesc(user, PageRequest.of(0, 20));
+          notificationRepository.findAllByUserAndReadOrderByCreatedAtDesc(
+              user, false, PageRequest.of(0, 20));
+          notificationRepository.countByUser(user);
+          notificationRepository.countByUserAndRead(user, false);
+        });
+  }
+
+  @Test
+  void commentQueriesShouldUseIndexes() {
+    assertNoSeqScan(
+        () -> {
+          var article = articleRepository.getReferenceById(articleId);
+          commentRepository.findRootIdsByArticleId(articleId, PageRequest.of(0, 20));
+          commentRepository.countRootsByArticleId(articleId);
+          commentRepository.findByArticleOrderByCreatedAtAsc(article, PageRequest.of(0, 20));
+          commentRepository.findThreads(List.of(rootCommentId), 10, 5);
+          commentRepository.findChildIdsAfter(rootCommentId, 0L, PageRequest.of(0, 6));
+        });
+  }
+
+  @Test
+  void followQueriesShouldUseIndexes() {
+    assertNoSeqScan(
+        () -> {
+          var user = userRepository.getReferenceById(userId);
+          followRepository.findFollowersByFollowing(user, PageRequest.of(0, 20));
+          followRepository.findFollowingByFollower(user, PageRequest.of(0, 20));
+          followRepository.countByFollowing(user);
+          followRepository.countByFollower(user);
+        });
+  }
+
+  @Test
+  void articleListingQueriesShouldUseIndexes() {
+    assertNoSeqScan(
+        () -> {
+          var byNewest = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+          articleRepository.findSummariesByStatus(ArticleStatus.PUBLICADO, 201, byNewest);
+          articleRepository.findSummariesByStatusAndAuthorId(
+              ArticleStatus.RASCUNHO, userId, 201, byNewest);
+          articleRepository.countByStatusAndAuthorId(ArticleStatus.RASCUNHO, userId);
+          articleRepository.findFeedFirstPage(ArticleStatus.PUBLICADO, 201, PageRequest.of(0, 21));
+          articleRepository.findFeedAfter(
+              ArticleStatus.PUBLICADO, LocalDateTime.now(), articleId, 201, PageRequest.of(0, 21));
+        });
+  }
+
+  @Test
+  void reactionAndFavoriteQueriesShouldUseIndexes() {
+    assertNoSeqScan(
+        () -> {
+          User user = userRepository.getReferenceById(userId);
+          var article = articleRepository.getReferenceById(articleId);
+          reactionRepository.findAllByArticle(article, PageRequest.of(0, 20));
+          reactionRepository.findAllByUser(user, PageRequest.of(0, 20));
+          reactionRepository.countByTypeForArticle(articleId);
+          favoriteRepository.findAllByUserAndArticleStatus(
+              user, ArticleStatus.PUBLICADO, PageRequest.of(0, 20));
+        });
+  }
+
+  private void assertNoSeqScan(Runnable queries) {
+    SqlStatementCounter.reset();
+    transactionTemplate.executeWithoutResult(status -> queries.run());
+
+    var statements = SqlStatementCounter.statements();
+    assertThat(statements).isNotEmpty();
+    for (String sql : statements) {
+      var plan = explain(sql);
+      List<String> seqScans = new ArrayList<>();
+      collectSeqScans(plan, seqScans);
+      assertThat(seqScans)
+          .as("Seq Scan em tabela grande.%nSQL: %s%nPlano: %s", sql, plan.toPrettyString())
+          .isEmpty();
+    }
+  }
+
+  /**
+   * O EXPLAIN vai por uma conexão em modo de protocolo simples: no protocolo estendido o driver
+   * exigiria valores para os {@code $n} que o {@code GENERIC_PLAN} deixa sem bind.
+   */
+  private JsonNode explain(String sql) {
+    Matcher matcher = BIND_PARAMETER.matcher(sql);
+    var positional = new StringBuilder();
+    int index = 0;
+    while (matcher.find()) {
+      matcher.appendReplacement(positional, "\\$" + ++index);
+    }
+    matcher.appendTail(positional);
+
+    var dataSource =
+        new SingleConnectionDataSource(
+            dataSourceProperties.getUrl(),
+            dataSourceProperties.getUsername(),
+            dataSourceProperties.getPassword(),
+            true);
+    var properties = new Properties();
+    properties.setProperty("preferQueryMode", "simple");
+    dataSource.setConnectionProperties(properties);
+    try {
+      var json =
+          new JdbcTemplate(dataSource)
+              .queryForObject("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + positional, String.class);
+      return objectMapper.readTree(json).get(0).get("Plan");
+    } catch (Exception e) {
+      throw new IllegalStateException("Não foi possível obter o plano de: " + sql, e);
+    } finally {
+      dataSource.destroy();
+    }
+  }
+
+  private static void collectSeqScans(JsonNode node, List<String> seqScans) {
+    if ("Seq Scan".equals(node.path("Node Type").asText())
+        && LARGE_TABLES.contains(node.path("Relation Name").asText())) {
+      seqScans.add(node.path("Relation Name").asText());
+    }
+    for (JsonNode child : node.path("Plans")) {
+      collectSeqScans(child, seqScans);
+    }
+  }
+
+  /**
+   * Volume sintético direto em SQL: 1 mil usuários, 20 mil artigos (10% rascunhos), uma thread de
+   * três comentários por artigo, 100 mil notificações, 20 mil follows, 40 mil reações e 20 mil
+   * favoritos. As estatísticas são atualizadas no fim para o planner enxergar o volume.
+   */
+  private void seedLargeTables() {
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_users (username, email, password, enabled, created_at)
+        SELECT 'plan_user_' || g, 'plan_user_' || g || '@test.com', 'x', true, LOCALTIMESTAMP
+        FROM generate_series(1, ?) g
+        """,
+        USERS);
+    long users = jdbcTemplate.queryForObject("SELECT count(*) FROM tb_users", Long.class);
+
+    jdbcTemplate.update(
+        NUMBERED_ROWS
+            + """
+        INSERT INTO tb_articles
+            (title, content, status, author_id, category_id, likes_count, comments_count,
+             created_at)
+        SELECT 'Artigo ' || g, 'Conteúdo ' || g,
+               CASE WHEN g % 10 = 0 THEN 'RASCUNHO' ELSE 'PUBLICADO' END,
+               u.user_id, (SELECT min(category_id) FROM tb_categories), 0, 0,
+               LOCALTIMESTAMP - g * interval '1 minute'
+        FROM generate_series(1, ?) g
+        JOIN plan_users u ON u.n = g % ? + 1
+        """,
+        ARTICLES,
+        users);
+
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_comments (content, article_id, author_id, depth, created_at)
+        SELECT 'Raiz', a.article_id, a.author_id, 0, a.created_at FROM tb_articles a
+        """);
+    jdbcTemplate.update(
+        "UPDATE tb_comments SET path = lpad(comment_id::text, 19, '0') || '/' WHERE path IS NULL");
+    jdbcTemplate.update(
+        """
+        INSERT INTO tb_comments (content, article_id, author_id, parent_id, depth, created_at)
+        SELECT 'Resposta', r.article_id, r.author_id, r.comment_id, 1,
+               r.created_at + g * interval '1 second'
+        FROM tb_comments r, generate_series(1, 2) g
+        WHERE r.parent_id IS NULL
+        """);
+    jdbcTemplate.update(
+        """
+        UPDATE tb_comments c SET path = p.path || lpad(c.comment_id::text, 19, '0') || '/'
+        FROM tb_comments p
+        WHERE c.parent_id = p.comment_id AND c.path IS NULL
+        """);
+
+    jdbcTemplate.update(
+        NUMBERED_ROWS
+            + """
+        INSERT INTO tb_notifications (user_id, article_id, message, read, created_at)
+        SELECT u.user_id, a.article_id, 'Notificação ' || g, g % 4 = 0,
+               LOCALTIMESTAMP - g * interval '1 second'
+        FROM generate_series(1, 100000) g
+        JOIN plan_users u ON u.n = g % ? + 1
+        JOIN plan_articles a ON a.n = g % ?
+        """,
+        users,
+        ARTICLES);
+
+    jdbcTemplate.update(
+        NUMBERED_ROWS
+            + """
+        INSERT INTO tb_follows (follower_id, following_id, created_at)
+        SELECT f.user_id, t.user_id, LOCALTIMESTAMP
+        FROM plan_users f
+        JOIN generate_series(1, 20) g ON true
+        JOIN plan_users t ON t.n = (f.n + g * 37) % ? + 1
+        ON CONFLICT DO NOTHING
+        """,
+        users);
+
+    jdbcTemplate.update(
+        NUMBERED_ROWS
+            + """
+        INSERT INTO tb_reactions (user_id, article_id, type, created_at)
+        SELECT u.user_id, a.article_id,
+               (ARRAY['LIKE','LOVE','LAUGH','WOW','SAD','ANGRY'])[g % 6 + 1], LOCALTIMESTAMP
+        FROM generate_series(1, 40000) g
+        JOIN plan_users u ON u.n = g % ? + 1
+        JOIN plan_articles a ON a.n = g % ?
+        ON CONFLICT DO NOTHING
+        """,
+        users,
+        ARTICLES);
+
+    jdbcTemplate.update(
+        NUMBERED_ROWS
+            + """
+        INSERT INTO tb_favorites (user_id, article_id, created_at)
+        SELECT u.user_id, a.article_id, LOCALTIMESTAMP
+        FROM generate_series(1, 20000) g
+        JOIN plan_users u ON u.n = g % ? + 1
+        JOIN plan_articles a ON a.n = (g * 7) % ?
+        ON CONFLICT DO NOTHING
+        """,
+        users,
+        ARTICLES);
+
+    jdbcTemplate.execute("ANALYZE");
+    log.info("[PLAN] Volume sintético carregado");
+  }
+}
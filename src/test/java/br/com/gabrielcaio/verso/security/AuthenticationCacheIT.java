@@ -0,0 +1,126 @@
+package br.com.gabrielcaio.verso.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.gabrielcaio.verso.config.BaseIT;
+import br.com.gabrielcaio.verso.config.SqlStatementCounter;
+import br.com.gabrielcaio.verso.domain.entity.User;
+import br.com.gabrielcaio.verso.dtos.CreateRolesRequestDTO;
+import br.com.gabrielcaio.verso.services.RolesService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * Cobre o {@link CachingAuthenticationProvider} na cadeia de filtros real: credenciais repetidas
+ * não voltam ao {@code UserDetailsService}, senha errada nunca é aceita pelo cache, mudanças de
+ * role e contas desativadas descartam as entradas, e o TTL expira.
+ */
+@Slf4j
+class AuthenticationCacheIT extends BaseIT {
+
+  /** Só o {@code DaoAuthenticationProvider} carrega as roles; um hit no cache não as consulta. */
+  private static final String USER_ROLES = "from tb_users_roles";
+
+  @Autowired private AuthenticationCache authenticationCache;
+  @Autowired private RolesService rolesService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    authenticationCache.invalidateAll();
+    user = register("cache");
+  }
+
+  @Test
+  void repeatedCredentialsShouldBeServedFromCache() {
+    assertThat(call(PASSWORD)).isEqualTo(HttpStatus.OK);
+
+    SqlStatementCounter.reset();
+    assertThat(call(PASSWORD)).isEqualTo(HttpStatus.OK);
+
+    assertThat(SqlStatementCounter.count(USER_ROLES)).isZero();
+  }
+
+  @Test
+  void wrongPasswordShouldMissCacheAndBeRejected() {
+    assertThat(call(PASSWORD)).isEqualTo(HttpStatus.OK);
+
+    SqlStatementCounter.reset();
+    assertThat(call("senha-errada")).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+    // O cliente HTTP pode repetir a requisição após o 401; basta que ela tenha ido ao delegate
+    assertThat(SqlStatementCounter.count(USER_ROLES)).isPositive();
+  }
+
+  @Test
+  void roleUpdateShouldInvalidateCache() {
+    var role = rolesService.save(new CreateRolesRequestDTO(roleName()));
+    assertThat(call(PASSWORD)).isEqualTo(HttpStatus.OK);
+
+    rolesService.update(role.getId(), new CreateRolesRequestDTO(roleName()));
+
+    assertMissOnNextCall();
+  }
+
+  @Test
+  void roleDeleteShouldInvalidateCache() {
+    var role = rolesService.save(new CreateRolesRequestDTO(roleName()));
+    assertThat(call(PASSWORD)).isEqualTo(HttpStatus.OK);
+
+    rolesService.delete(role.getId());
+
+    assertMissOnNextCall();
+  }
+
+  @Test
+  void disabledAccountShouldNotAuthenticateFromCache() {
+    assertThat(call(PASSWORD)).isEqualTo(HttpStatus.OK);
+
+    jdbcTemplate.update("UPDATE tb_users SET enabled = false WHERE user_id = ?", user.getId());
+
+    assertThat(call(PASSWORD)).isEqualTo(HttpStatus.UNAUTHORIZED);
+    assertThat(authenticationCache.get(user.getUsername(), PASSWORD)).isEmpty();
+  }
+
+  @Test
+  void entriesShouldExpireAfterTtl() throws InterruptedException {
+    var cache = new AuthenticationCache(new SimpleMeterRegistry(), 10, Duration.ofMillis(50));
+    var authentication =
+        UsernamePasswordAuthenticationToken.authenticated(user.getUsername(), null, Set.of());
+    cache.put(user.getUsername(), PASSWORD, authentication);
+    assertThat(cache.get(user.getUsername(), PASSWORD)).isPresent();
+
+    Thread.sleep(200);
+
+    assertThat(cache.get(user.getUsername(), PASSWORD)).isEmpty();
+  }
+
+  private void assertMissOnNextCall() {
+    SqlStatementCounter.reset();
+    assertThat(call(PASSWORD)).isEqualTo(HttpStatus.OK);
+    assertThat(SqlStatementCounter.count(USER_ROLES)).isEqualTo(1);
+  }
+
+  private HttpStatusCode call(String password) {
+    return restTemplate
+        .withBasicAuth(user.getUsername(), password)
+        .getForEntity(url("/verso/notifications/unread/count"), String.class)
+        .getStatusCode();
+  }
+
+  private static String roleName() {
+    return "CACHE_" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+  }
+}